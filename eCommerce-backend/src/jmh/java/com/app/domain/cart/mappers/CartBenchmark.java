@@ -0,0 +1,69 @@
+package com.app.domain.cart.mappers;
+
+import com.app.domain.cart.dtos.CartDTO;
+import com.app.domain.cart.entities.Cart;
+import com.app.domain.cart.entities.CartItem;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.entities.ItemMedia;
+import com.app.domain.member.entities.Member;
+import com.app.utils.domain.item.RandomItemBuilder;
+import com.app.utils.domain.member.RandomMemberBuilder;
+import com.app.utils.global.NumberUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Cart rendering and total maintenance for carts of growing size.
+ * "totalRecomputed" re-sums every line, which is what each cart mutation used to do;
+ * "totalDelta" moves the stored total by one line's price, which is what a mutation does now.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CartBenchmark {
+
+    @Param({"5", "50"})
+    private int lineCount;
+
+    private Cart cart;
+    private CartItem changedLine;
+    private Map<UUID, List<ItemMedia>> mediaByItem;
+
+    @Setup
+    public void setup() {
+        Member owner = new RandomMemberBuilder().withId().create();
+        cart = new Cart(owner);
+        cart.setId(UUID.randomUUID());
+        List<Item> items = new RandomItemBuilder().withId().withMedia().create(lineCount);
+        items.forEach(item -> cart.addItem(new CartItem(item, NumberUtils.getIntegerInRange(1, 10))));
+        cart.setTotalCost(totalRecomputed());
+        changedLine = cart.getCartItems().getLast();
+        mediaByItem = items.stream().collect(Collectors.toMap(Item::getId, Item::getMediaList));
+    }
+
+    @Benchmark
+    public CartDTO toCartDto() {
+        return CartMapper.toCartDto(cart, mediaByItem);
+    }
+
+    @Benchmark
+    public BigDecimal totalRecomputed() {
+        return cart.getCartItems().stream()
+                .map(CartItem::getTotalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    @Benchmark
+    public BigDecimal totalDelta() {
+        return cart.getTotalCost().add(changedLine.getTotalPrice());
+    }
+}
@@ -0,0 +1,50 @@
+package com.app.domain.item.mappers;
+
+import com.app.domain.item.dtos.ItemDetailedDTO;
+import com.app.domain.item.dtos.ItemSummaryDTO;
+import com.app.domain.item.entities.Item;
+import com.app.domain.member.entities.Member;
+import com.app.utils.domain.item.RandomItemBuilder;
+import com.app.utils.domain.member.RandomMemberBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a page of items, each with a category and up to ten media, to the summary and detailed DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemMapperBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private List<Item> items;
+
+    @Setup
+    public void setup() {
+        Member seller = new RandomMemberBuilder().withId().create();
+        items = new RandomItemBuilder(seller)
+                .withId()
+                .withCategory()
+                .withMedia()
+                .withAuditable()
+                .create(pageSize);
+    }
+
+    @Benchmark
+    public List<ItemSummaryDTO> toItemSummaryDTO() {
+        return items.stream().map(ItemMapper::toItemSummaryDTO).toList();
+    }
+
+    @Benchmark
+    public List<ItemDetailedDTO> toItemDetailedDTO() {
+        return items.stream().map(ItemMapper::toItemDetailedDTO).toList();
+    }
+}
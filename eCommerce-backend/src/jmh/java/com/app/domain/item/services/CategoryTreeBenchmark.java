@@ -0,0 +1,79 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.CategoryNodeDTO;
+import com.app.domain.item.entities.Category;
+import com.app.utils.domain.item.RandomCategoryBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory part of CategoryService.findFrom on a synthetic tree where every category has
+ * {@code fanout} children down to {@code depth} levels. "descendantIds" reads a subtree out of the
+ * snapshot; "descendantIdsLegacy" walks the children of the entities, which is what findFrom used to do.
+ * "build" is the cost paid once per category change to take a new snapshot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CategoryTreeBenchmark {
+
+    @Param({"4"})
+    private int fanout;
+
+    @Param({"3", "6"})
+    private int depth;
+
+    private Category root;
+    private List<CategoryNodeDTO> nodes;
+    private CategoryTree tree;
+
+    @Setup
+    public void setup() {
+        nodes = new ArrayList<>();
+        root = createCategory(null, 1);
+        tree = CategoryTree.build(0, nodes);
+    }
+
+    @Benchmark
+    public CategoryTree build() {
+        return CategoryTree.build(0, nodes);
+    }
+
+    @Benchmark
+    public List<Long> descendantIds() {
+        return List.copyOf(tree.getDescendantIds(root.getId()));
+    }
+
+    @Benchmark
+    public List<Long> descendantIdsLegacy() {
+        List<Long> ids = new ArrayList<>();
+        collectIds(root, ids);
+        return ids;
+    }
+
+    private static void collectIds(Category category, List<Long> ids) {
+        ids.add(category.getId());
+        category.getChildren().forEach(c -> collectIds(c, ids));
+    }
+
+    private Category createCategory(Category parent, int level) {
+        Category category = new RandomCategoryBuilder().create();
+        category.setId((long) nodes.size() + 1);
+        if (parent != null) {
+            parent.addChild(category);
+        }
+        nodes.add(new CategoryNodeDTO(category.getId(), parent != null ? parent.getId() : null));
+        if (level < depth) {
+            for (int i = 0; i < fanout; i++) {
+                createCategory(category, level + 1);
+            }
+        }
+        return category;
+    }
+}
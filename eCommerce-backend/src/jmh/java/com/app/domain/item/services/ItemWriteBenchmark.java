@@ -0,0 +1,98 @@
+package com.app.domain.item.services;
+
+import com.app.ECommerceBackendApplication;
+import com.app.domain.item.entities.Item;
+import com.app.domain.member.entities.Member;
+import com.app.domain.member.services.MemberService;
+import com.app.domain.review.entities.ItemReview;
+import com.app.domain.review.repositories.ItemReviewRepository;
+import com.app.utils.domain.item.ItemMediaUtils;
+import com.app.utils.domain.item.RandomItemBuilder;
+import com.app.utils.domain.member.RandomMemberBuilder;
+import com.app.utils.domain.review.RandomReviewBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows written per second against the in-memory test database, with JDBC batching off ({@code batchSize} 1) and on.
+ * An item with ten media is eleven rows; an import of a hundred reviews, each with its comment, is two hundred.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemWriteBenchmark {
+    private static final int MEDIA_PER_ITEM = 10;
+    private static final int REVIEWS_PER_IMPORT = 100;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private ItemReviewRepository itemReviewRepository;
+    private TransactionTemplate transactionTemplate;
+    private Member seller;
+    private List<Member> reviewers;
+
+    // Each import reviews a new item, as a member reviews an item once
+    @State(Scope.Thread)
+    public static class ReviewedItem {
+        private Item item;
+
+        @Setup(Level.Invocation)
+        public void setup(ItemWriteBenchmark benchmark) {
+            item = new RandomItemBuilder(benchmark.seller).create();
+            benchmark.itemService.save(item);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new SpringApplicationBuilder(ECommerceBackendApplication.class)
+                .run("--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+        itemService = context.getBean(ItemService.class);
+        itemReviewRepository = context.getBean(ItemReviewRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        MemberService memberService = context.getBean(MemberService.class);
+        seller = new RandomMemberBuilder().create();
+        memberService.save(seller);
+        reviewers = new RandomMemberBuilder().create(REVIEWS_PER_IMPORT);
+        reviewers.forEach(memberService::save);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1 + MEDIA_PER_ITEM)
+    public Object createItemWithMedia() {
+        Item item = new RandomItemBuilder(seller).create();
+        item.addAllMedia(ItemMediaUtils.getItemMedia(MEDIA_PER_ITEM));
+        return itemService.save(item);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * REVIEWS_PER_IMPORT)
+    public List<ItemReview> importReviews(ReviewedItem reviewedItem) {
+        List<ItemReview> reviews = new ArrayList<>(REVIEWS_PER_IMPORT);
+        for (Member reviewer : reviewers) {
+            reviews.add((ItemReview) new RandomReviewBuilder().withCustomAuthor(reviewer).create(reviewedItem.item));
+        }
+        return transactionTemplate.execute(status -> itemReviewRepository.saveAll(reviews));
+    }
+}
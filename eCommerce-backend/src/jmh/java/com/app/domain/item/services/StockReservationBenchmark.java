@@ -0,0 +1,106 @@
+package com.app.domain.item.services;
+
+import com.app.ECommerceBackendApplication;
+import com.app.domain.cart.exceptions.InsufficientStockException;
+import com.app.domain.item.dtos.requests.StockReservationRequest;
+import com.app.domain.item.entities.Item;
+import com.app.domain.member.entities.Member;
+import com.app.domain.member.services.MemberService;
+import com.app.utils.domain.member.RandomMemberBuilder;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 500 threads buying one hot item, against the in-memory test database.
+ * "reserve" is the conditional-update reservation; "reserveLegacy" is the previous
+ * read-check-write under an optimistic version lock. The per-thread counters report
+ * how many attempts succeeded and how many failed on a version conflict.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(500)
+public class StockReservationBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private StockReservationService stockReservationService;
+    private ItemService itemService;
+    private TransactionTemplate transactionTemplate;
+    private UUID itemId;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Outcomes {
+        public long succeeded;
+        public long conflicted;
+    }
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(ECommerceBackendApplication.class)
+                .run("--server.port=0", "--logging.level.root=WARN");
+        stockReservationService = context.getBean(StockReservationService.class);
+        itemService = context.getBean(ItemService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        MemberService memberService = context.getBean(MemberService.class);
+
+        Member seller = new RandomMemberBuilder().create();
+        memberService.save(seller);
+        Member buyer = new RandomMemberBuilder().create();
+        memberService.save(buyer);
+        Item item = new Item("Hot item", BigDecimal.TEN, seller);
+        item.setQuantity(Integer.MAX_VALUE);
+        itemService.save(item);
+        itemId = item.getId();
+
+        // Every benchmark thread buys as the same member
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(buyer, null, List.of()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void reserve(Outcomes outcomes) {
+        try {
+            stockReservationService.reserve(new StockReservationRequest(itemId, 1));
+            outcomes.succeeded++;
+        } catch (InsufficientStockException e) {
+            throw new IllegalStateException("The hot item ran out of stock", e);
+        }
+    }
+
+    @Benchmark
+    public void reserveLegacy(Outcomes outcomes) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Item item = itemService.findByIdWithLock(itemId);
+                if (item.getQuantity() < 1) {
+                    throw new IllegalStateException("The hot item ran out of stock");
+                }
+                item.setQuantity(item.getQuantity() - 1);
+                itemService.save(item);
+            });
+            outcomes.succeeded++;
+        } catch (OptimisticLockingFailureException e) {
+            outcomes.conflicted++;
+        }
+    }
+}
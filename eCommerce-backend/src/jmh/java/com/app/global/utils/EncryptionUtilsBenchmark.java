@@ -0,0 +1,37 @@
+package com.app.global.utils;
+
+import com.app.utils.domain.member.RandomMemberBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Password hashing cost per sign-up and per login. BCrypt is slow on purpose; this tracks how slow.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncryptionUtilsBenchmark {
+
+    private String password;
+    private String encodedPassword;
+
+    @Setup
+    public void setup() {
+        password = RandomMemberBuilder.getPassword();
+        encodedPassword = EncryptionUtils.getEncodedPassword(password);
+    }
+
+    @Benchmark
+    public String getEncodedPassword() {
+        return EncryptionUtils.getEncodedPassword(password);
+    }
+
+    @Benchmark
+    public boolean passwordsMatch() {
+        return EncryptionUtils.passwordsMatch(password, encodedPassword);
+    }
+}
@@ -0,0 +1,128 @@
+package com.app.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop load generator for a running instance.
+ * For every concurrency level, that many clients send GET requests back to back for a fixed time;
+ * the level where throughput stops growing while latency keeps rising is the concurrent-request ceiling.
+ * <p>
+ * Settings (system properties): {@code load.url}, {@code load.concurrency} (comma separated levels),
+ * {@code load.duration} and {@code load.warmup} (seconds per level), {@code load.timeout} (seconds per request).
+ */
+public class LoadTest {
+
+    private record LevelResult(int concurrency, long ok, long failed, double seconds, long[] latencies) {
+
+        double throughput() {
+            return ok / seconds;
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile * latencies.length) - 1;
+            return latencies[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private record ClientResult(long failed, long[] latencies, int size) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(System.getProperty("load.url", "http://localhost:8080/api/v1/public/items"));
+        int[] levels = Arrays.stream(System.getProperty("load.concurrency", "50,100,200,400,800,1600").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 10));
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup", 3));
+        Duration timeout = Duration.ofSeconds(Long.getLong("load.timeout", 30));
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .executor(clients)
+                     .connectTimeout(timeout)
+                     .build()) {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+            System.out.printf("GET %s, %ds per level%n", uri, duration.toSeconds());
+            System.out.printf("%11s %10s %8s %10s %10s %10s%n", "concurrency", "req/s", "errors", "p50 ms", "p99 ms", "max ms");
+            for (int concurrency : levels) {
+                run(http, request, clients, concurrency, warmup);
+                LevelResult result = run(http, request, clients, concurrency, duration);
+                System.out.printf("%11d %10.1f %8d %10.1f %10.1f %10.1f%n",
+                        concurrency, result.throughput(), result.failed(),
+                        result.percentileMillis(0.5), result.percentileMillis(0.99), result.percentileMillis(1));
+            }
+        }
+    }
+
+    private static LevelResult run(HttpClient http, HttpRequest request, ExecutorService clients,
+                                   int concurrency, Duration duration) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        List<Future<ClientResult>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(clients.submit(() -> client(http, request, deadline)));
+        }
+
+        long ok = 0;
+        long failed = 0;
+        List<ClientResult> results = new ArrayList<>(concurrency);
+        for (Future<ClientResult> future : futures) {
+            ClientResult result = future.get();
+            ok += result.size();
+            failed += result.failed();
+            results.add(result);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        long[] latencies = new long[(int) ok];
+        int offset = 0;
+        for (ClientResult result : results) {
+            System.arraycopy(result.latencies(), 0, latencies, offset, result.size());
+            offset += result.size();
+        }
+        Arrays.sort(latencies);
+        return new LevelResult(concurrency, ok, failed, seconds, latencies);
+    }
+
+    private static ClientResult client(HttpClient http, HttpRequest request, long deadline) {
+        long[] latencies = new long[256];
+        int size = 0;
+        long failed = 0;
+        while (System.nanoTime() < deadline) {
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() >= 400) {
+                    failed++;
+                    continue;
+                }
+            } catch (Exception e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                failed++;
+                continue;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = System.nanoTime() - sent;
+        }
+        return new ClientResult(failed, latencies, size);
+    }
+}
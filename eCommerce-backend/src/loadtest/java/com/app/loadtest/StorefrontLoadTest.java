@@ -0,0 +1,300 @@
+package com.app.loadtest;
+
+import com.app.ECommerceBackendApplication;
+import com.app.domain.cart.controllers.members.CartItemController;
+import com.app.domain.cart.dtos.requests.CartItemRequest;
+import com.app.domain.item.controllers.publ.ItemController;
+import com.app.domain.member.controllers.publ.AuthenticationController;
+import com.app.domain.member.dtos.requests.AuthenticationRequest;
+import com.app.domain.member.dtos.responses.AuthenticationResponse;
+import com.app.domain.member.services.JwtService;
+import com.app.domain.review.controllers.members.ItemReviewController;
+import com.app.domain.review.dtos.requests.ItemReviewRequest;
+import com.app.loadtest.StorefrontSeeder.Shopper;
+import com.app.loadtest.StorefrontSeeder.Storefront;
+import com.app.utils.domain.review.RandomReviewBuilder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.app.global.constants.UserInputConstants.COMMENT_CONTENT_LENGTH_MAX;
+import static com.app.global.constants.UserInputConstants.COMMENT_CONTENT_LENGTH_MIN;
+
+/**
+ * Closed-loop load test of a storefront traffic mix against an in-process instance.
+ * The application is started on a random port against the in-memory test database (H2 in MySQL mode)
+ * and seeded through {@link StorefrontSeeder}. Then, for every concurrency level, that many shoppers
+ * pick requests from the weighted mix back to back for a fixed time, and the throughput and latency
+ * percentiles are reported per endpoint.
+ * <p>
+ * Settings (system properties), on top of {@code load.concurrency}, {@code load.duration}, {@code load.warmup}
+ * and {@code load.timeout} as in {@link LoadTest}: {@code load.members}, {@code load.categories},
+ * {@code load.items} and {@code load.reviews} (seeded counts), and {@code load.mix}, the comma separated
+ * weights of the operations, e.g. {@code browse:50,detail:30,cart:10,review:5,login:5}.
+ */
+public class StorefrontLoadTest {
+
+    private static final String DEFAULT_MIX = "browse:50,detail:30,cart:10,review:5,login:5";
+    private static final int BROWSE_PAGES = 10;
+
+    private enum Operation {
+        BROWSE("browse", "GET /public/items"),
+        DETAIL("detail", "GET /public/items/{id}"),
+        ADD_TO_CART("cart", "POST /members/cart-items"),
+        REVIEW("review", "POST /members/item-reviews"),
+        LOGIN("login", "POST /public/auth/authenticate");
+
+        private final String key;
+        private final String endpoint;
+
+        Operation(String key, String endpoint) {
+            this.key = key;
+            this.endpoint = endpoint;
+        }
+
+        static Operation fromKey(String key) {
+            return Arrays.stream(values())
+                    .filter(o -> o.key.equals(key))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown operation in load.mix: " + key));
+        }
+    }
+
+    /**
+     * Operations drawn with probability proportional to their weight.
+     */
+    private record Mix(Operation[] operations, int[] cumulativeWeights) {
+
+        static Mix parse(String mix) {
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.trim().split(":");
+                weights.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            }
+            Operation[] operations = weights.keySet().toArray(Operation[]::new);
+            int[] cumulativeWeights = new int[operations.length];
+            int total = 0;
+            for (int i = 0; i < operations.length; i++) {
+                total += weights.get(operations[i]);
+                cumulativeWeights[i] = total;
+            }
+            return new Mix(operations, cumulativeWeights);
+        }
+
+        Operation pick(Random random) {
+            int draw = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            int index = Arrays.binarySearch(cumulativeWeights, draw + 1);
+            return operations[index >= 0 ? index : -index - 1];
+        }
+
+        String describe() {
+            StringJoiner joiner = new StringJoiner(", ");
+            for (int i = 0; i < operations.length; i++) {
+                int weight = cumulativeWeights[i] - (i > 0 ? cumulativeWeights[i - 1] : 0);
+                joiner.add(operations[i].key + " " + weight);
+            }
+            return joiner.toString();
+        }
+    }
+
+    /**
+     * Latencies of the successful requests of one operation, and the count of failed ones.
+     */
+    private static final class Samples {
+        private long[] latencies = new long[64];
+        private int size;
+        private long failed;
+
+        void add(long latency) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latency;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) {
+                add(other.latencies[i]);
+            }
+            failed += other.failed;
+        }
+
+        double percentileMillis(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * size) - 1;
+            return sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+    }
+
+    private record Settings(String baseUrl, Storefront storefront, Mix mix, Duration timeout) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] levels = Arrays.stream(System.getProperty("load.concurrency", "50,100,200").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        Duration duration = Duration.ofSeconds(Long.getLong("load.duration", 10));
+        Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup", 3));
+        Duration timeout = Duration.ofSeconds(Long.getLong("load.timeout", 30));
+        Mix mix = Mix.parse(System.getProperty("load.mix", DEFAULT_MIX));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ECommerceBackendApplication.class)
+                .run("--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--spring.jpa.properties.hibernate.generate_statistics=false");
+        try (context;
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder()
+                     .executor(clients)
+                     .connectTimeout(timeout)
+                     .build()) {
+            long seedStart = System.nanoTime();
+            Storefront storefront = new StorefrontSeeder(context).seed(
+                    Integer.getInteger("load.members", 200),
+                    Integer.getInteger("load.categories", 20),
+                    Integer.getInteger("load.items", 2000),
+                    Integer.getInteger("load.reviews", 2000));
+            System.out.printf("Seeded %d members and %d items in %.1fs%n",
+                    storefront.shoppers().size(), storefront.itemIds().size(), (System.nanoTime() - seedStart) / 1e9);
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+            Settings settings = new Settings(baseUrl, storefront, mix, timeout);
+            JwtService jwtService = context.getBean(JwtService.class);
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            System.out.printf("Mix: %s; %ds per level%n", mix.describe(), duration.toSeconds());
+
+            for (int concurrency : levels) {
+                run(http, clients, settings, jwtService, objectMapper, concurrency, warmup);
+                long start = System.nanoTime();
+                Map<Operation, Samples> results = run(http, clients, settings, jwtService, objectMapper, concurrency, duration);
+                report(concurrency, results, (System.nanoTime() - start) / 1e9);
+            }
+        }
+    }
+
+    private static Map<Operation, Samples> run(HttpClient http, ExecutorService clients, Settings settings,
+                                               JwtService jwtService, ObjectMapper objectMapper,
+                                               int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Shopper> shoppers = settings.storefront().shoppers();
+        List<Future<Map<Operation, Samples>>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Shopper shopper = shoppers.get(i % shoppers.size());
+            // Starts signed in, so the first requests do not all go to the login endpoint
+            String token = jwtService.generateToken(shopper.member());
+            futures.add(clients.submit(() -> client(http, settings, objectMapper, shopper, token, deadline)));
+        }
+
+        Map<Operation, Samples> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, Samples>> future : futures) {
+            future.get().forEach((operation, samples) ->
+                    merged.computeIfAbsent(operation, o -> new Samples()).addAll(samples));
+        }
+        return merged;
+    }
+
+    private static Map<Operation, Samples> client(HttpClient http, Settings settings, ObjectMapper objectMapper,
+                                                  Shopper shopper, String token, long deadline) throws JsonProcessingException {
+        Map<Operation, Samples> samples = new EnumMap<>(Operation.class);
+        Random random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Operation operation = settings.mix().pick(random);
+            HttpRequest request = request(operation, settings, objectMapper, shopper, token, random);
+            Samples operationSamples = samples.computeIfAbsent(operation, o -> new Samples());
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+                long latency = System.nanoTime() - sent;
+                if (response.statusCode() >= 400) {
+                    operationSamples.failed++;
+                    continue;
+                }
+                operationSamples.add(latency);
+                if (operation == Operation.LOGIN) {
+                    token = objectMapper.readValue(response.body(), AuthenticationResponse.class).token();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                operationSamples.failed++;
+            }
+        }
+        return samples;
+    }
+
+    private static HttpRequest request(Operation operation, Settings settings, ObjectMapper objectMapper,
+                                       Shopper shopper, String token, Random random) throws JsonProcessingException {
+        List<UUID> itemIds = settings.storefront().itemIds();
+        UUID itemId = itemIds.get(random.nextInt(itemIds.size()));
+        return switch (operation) {
+            case BROWSE -> get(settings, ItemController.BASE_URL + "?page=" + random.nextInt(BROWSE_PAGES) + "&size=20");
+            case DETAIL -> get(settings, ItemController.BASE_URL + "/" + itemId);
+            case ADD_TO_CART -> post(settings, CartItemController.BASE_URL, token,
+                    objectMapper.writeValueAsString(new CartItemRequest(itemId, 1)));
+            case REVIEW -> post(settings, ItemReviewController.BASE_URL, token,
+                    objectMapper.writeValueAsString(new ItemReviewRequest(nextItemToReview(shopper, itemIds),
+                            RandomReviewBuilder.getRating(),
+                            RandomStringUtils.randomAlphabetic(COMMENT_CONTENT_LENGTH_MIN, COMMENT_CONTENT_LENGTH_MAX))));
+            case LOGIN -> post(settings, AuthenticationController.BASE_URL + "/authenticate", null,
+                    objectMapper.writeValueAsString(new AuthenticationRequest(shopper.member().getUsername(), StorefrontSeeder.PASSWORD)));
+        };
+    }
+
+    // A member reviews every item at most once; once through the catalog, reviews are rejected as duplicates
+    private static UUID nextItemToReview(Shopper shopper, List<UUID> itemIds) {
+        return itemIds.get(shopper.reviewed().getAndIncrement() % itemIds.size());
+    }
+
+    private static HttpRequest get(Settings settings, String path) {
+        return HttpRequest.newBuilder(URI.create(settings.baseUrl() + path))
+                .timeout(settings.timeout())
+                .GET()
+                .build();
+    }
+
+    private static HttpRequest post(Settings settings, String path, String token, String body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(settings.baseUrl() + path))
+                .timeout(settings.timeout())
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private static void report(int concurrency, Map<Operation, Samples> results, double seconds) {
+        System.out.printf("%nconcurrency %d%n", concurrency);
+        System.out.printf("%-32s %10s %8s %10s %10s %10s%n", "endpoint", "req/s", "errors", "p50 ms", "p99 ms", "max ms");
+        Samples total = new Samples();
+        results.forEach((operation, samples) -> {
+            print(operation.endpoint, samples, seconds);
+            total.addAll(samples);
+        });
+        print("total", total, seconds);
+    }
+
+    private static void print(String label, Samples samples, double seconds) {
+        System.out.printf("%-32s %10.1f %8d %10.1f %10.1f %10.1f%n", label, samples.size / seconds, samples.failed,
+                samples.percentileMillis(0.5), samples.percentileMillis(0.99), samples.percentileMillis(1));
+    }
+}
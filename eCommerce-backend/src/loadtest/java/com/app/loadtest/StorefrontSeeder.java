@@ -0,0 +1,104 @@
+package com.app.loadtest;
+
+import com.app.domain.cart.entities.Cart;
+import com.app.domain.cart.repositories.CartRepository;
+import com.app.domain.item.entities.Category;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.services.CategoryService;
+import com.app.domain.item.services.ItemService;
+import com.app.domain.member.entities.Member;
+import com.app.domain.member.entities.Role;
+import com.app.domain.member.services.MemberService;
+import com.app.domain.member.services.RoleService;
+import com.app.domain.review.entities.ItemReview;
+import com.app.domain.review.services.ItemReviewService;
+import com.app.global.utils.EncryptionUtils;
+import com.app.utils.domain.item.RandomCategoryBuilder;
+import com.app.utils.domain.item.RandomItemBuilder;
+import com.app.utils.domain.member.RandomMemberBuilder;
+import com.app.utils.domain.review.RandomReviewBuilder;
+import org.springframework.context.ApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.app.global.constants.UserInputConstants.DEFAULT_MEMBER_ROLE;
+
+/**
+ * Fills a freshly started application with random members, categories, items and reviews
+ * through the same services the controllers use, so indexes, caches and rating counts are built as in production.
+ * Every member gets the same password and an empty cart.
+ */
+class StorefrontSeeder {
+
+    static final String PASSWORD = "load-test-password";
+
+    /**
+     * A seeded member. {@code reviewed} counts the items, in seeding order, the member has reviewed,
+     * since a member may review an item only once.
+     */
+    record Shopper(Member member, AtomicInteger reviewed) {
+    }
+
+    record Storefront(List<Shopper> shoppers, List<UUID> itemIds) {
+    }
+
+    private final ApplicationContext context;
+
+    StorefrontSeeder(ApplicationContext context) {
+        this.context = context;
+    }
+
+    Storefront seed(int memberCount, int categoryCount, int itemCount, int reviewCount) {
+        Role memberRole = context.getBean(RoleService.class).create(DEFAULT_MEMBER_ROLE);
+        MemberService memberService = context.getBean(MemberService.class);
+        CartRepository cartRepository = context.getBean(CartRepository.class);
+        // Hashing is slow on purpose, so all members share one hash
+        String encodedPassword = EncryptionUtils.getEncodedPassword(PASSWORD);
+        List<Shopper> shoppers = new ArrayList<>(memberCount);
+        for (Member member : new RandomMemberBuilder().create(memberCount)) {
+            member.setPassword(encodedPassword);
+            member.setRole(memberRole);
+            member.setAccountEnabled(true);
+            memberService.save(member);
+            cartRepository.save(new Cart(member));
+            shoppers.add(new Shopper(member, new AtomicInteger()));
+        }
+
+        CategoryService categoryService = context.getBean(CategoryService.class);
+        List<Category> categories = new RandomCategoryBuilder().create(categoryCount).stream()
+                .map(categoryService::save)
+                .toList();
+
+        ItemService itemService = context.getBean(ItemService.class);
+        List<Item> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            Member seller = shoppers.get(random.nextInt(shoppers.size())).member();
+            Item item = new RandomItemBuilder(seller)
+                    .withCategory(categories.get(random.nextInt(categories.size())))
+                    .withActive()
+                    .create();
+            // Enough stock that adding to carts never runs out
+            item.setQuantity(Integer.MAX_VALUE / 2);
+            itemService.save(item);
+            items.add(item);
+        }
+
+        ItemReviewService itemReviewService = context.getBean(ItemReviewService.class);
+        for (int i = 0; i < reviewCount; i++) {
+            Shopper author = shoppers.get(i % shoppers.size());
+            int next = author.reviewed().getAndIncrement();
+            if (next >= items.size()) {
+                break;
+            }
+            Item item = items.get(next);
+            itemReviewService.save((ItemReview) new RandomReviewBuilder().withCustomAuthor(author.member()).create(item));
+        }
+
+        return new Storefront(shoppers, items.stream().map(Item::getId).toList());
+    }
+}
@@ -3,6 +3,7 @@ package com.app.domain.cart.controllers.members;
 import com.app.domain.cart.dtos.CartDTO;
 import com.app.domain.cart.services.CartService;
 import com.app.global.constants.RestEndpoints;
+import com.app.global.metrics.StatementBudget;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -25,6 +26,7 @@ public class CartController {
         this.cartService = cartService;
     }
 
+    @StatementBudget(6)
     @GetMapping()
     public ResponseEntity<CartDTO> getActiveCart() {
         return ResponseEntity.ok(cartService.getCartDto());
@@ -1,7 +1,9 @@
 package com.app.domain.cart.controllers.members;
 
 
+import com.app.domain.cart.dtos.CartBatchDTO;
 import com.app.domain.cart.dtos.CartDTO;
+import com.app.domain.cart.dtos.requests.CartBatchRequest;
 import com.app.domain.cart.dtos.requests.CartItemRequest;
 import com.app.domain.cart.services.CartItemService;
 import com.app.global.constants.RestEndpoints;
@@ -33,6 +35,14 @@ public class CartItemController {
         return ResponseEntity.ok(cartItemService.addItemToCart(request));
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<CartBatchDTO> applyBatch(
+            @RequestBody
+            @Validated
+            CartBatchRequest request) {
+        return ResponseEntity.ok(cartItemService.applyBatch(request));
+    }
+
     @PutMapping("/{itemId}/{quantity}")
     public ResponseEntity<CartDTO> modifyCartItem(
             @PathVariable("itemId")
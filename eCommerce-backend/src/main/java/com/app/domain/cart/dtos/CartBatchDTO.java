@@ -0,0 +1,6 @@
+package com.app.domain.cart.dtos;
+
+import java.util.List;
+
+public record CartBatchDTO(CartDTO cart, List<CartOperationResultDTO> results) {
+}
@@ -7,5 +7,6 @@ import java.math.BigDecimal;
 public record CartItemDTO(
         Long cardId,
         ItemSummaryDTO itemSummary,
-        int quantity) {
+        int quantity,
+        BigDecimal unitPrice) {
 }
\ No newline at end of file
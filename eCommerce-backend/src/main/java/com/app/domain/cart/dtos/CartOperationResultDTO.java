@@ -0,0 +1,16 @@
+package com.app.domain.cart.dtos;
+
+import com.app.domain.cart.enums.CartOperationStatus;
+import com.app.domain.cart.enums.CartOperationType;
+
+import java.util.UUID;
+
+/**
+ * The outcome of one batch operation, with the line's quantity right after it.
+ */
+public record CartOperationResultDTO(
+        UUID itemId,
+        CartOperationType type,
+        CartOperationStatus status,
+        int quantity) {
+}
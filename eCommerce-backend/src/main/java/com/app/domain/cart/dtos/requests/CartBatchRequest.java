@@ -0,0 +1,17 @@
+package com.app.domain.cart.dtos.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+import static com.app.global.constants.UserInputConstants.CART_BATCH_SIZE_MAX;
+
+public record CartBatchRequest(
+
+        @NotEmpty
+        @Size(max = CART_BATCH_SIZE_MAX)
+        List<@NotNull @Valid CartOperationRequest> operations) {
+}
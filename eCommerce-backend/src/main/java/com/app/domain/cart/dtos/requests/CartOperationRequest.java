@@ -0,0 +1,23 @@
+package com.app.domain.cart.dtos.requests;
+
+import com.app.domain.cart.enums.CartOperationType;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.util.UUID;
+
+/**
+ * One line change of a batch. {@code quantity} is ignored for {@link CartOperationType#REMOVE};
+ * setting a quantity of zero removes the line.
+ */
+public record CartOperationRequest(
+
+        @NotNull
+        CartOperationType type,
+
+        @NotNull
+        UUID itemId,
+
+        @PositiveOrZero
+        int quantity) {
+}
@@ -11,6 +11,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import static com.app.global.constants.UserInputConstants.PRICE_SCALE;
+
 @Entity
 @Table(name = "cart")
 public class Cart {
@@ -31,7 +33,7 @@ public class Cart {
 
     @NotNull
     @PositiveOrZero
-    @Column(name = "cart_total_cost")
+    @Column(name = "cart_total_cost", precision = 38, scale = PRICE_SCALE)
     private BigDecimal totalCost = BigDecimal.ZERO;
 
     public Cart() {
@@ -46,11 +48,6 @@ public class Cart {
         item.setCart(this);
     }
 
-    public void updateTotalCost() {
-        totalCost = BigDecimal.ZERO;
-        cartItems.forEach(i -> totalCost = totalCost.add(i.getTotalPrice()));
-    }
-
     public void removeItem(CartItem item) {
         cartItems.remove(item);
     }
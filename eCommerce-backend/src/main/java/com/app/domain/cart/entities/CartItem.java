@@ -7,12 +7,17 @@ import jakarta.validation.constraints.PositiveOrZero;
 
 import java.math.BigDecimal;
 
+import static com.app.global.constants.UserInputConstants.PRICE_PRECISION;
+import static com.app.global.constants.UserInputConstants.PRICE_SCALE;
+
 @Entity
-@Table(name = "cart_item")
+@Table(name = "cart_item", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"cart_id", "item_id"})
+}, indexes = @Index(name = "idx_cart_item_item", columnList = "item_id"))
 public class CartItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "cart_item_id")
     private Long id;
 
@@ -30,16 +35,23 @@ public class CartItem {
     @Column(name = "cart_item_quantity")
     private int quantity;
 
+    // The item's price when it was put in the cart; the cart total is kept in step with it
+    @NotNull
+    @PositiveOrZero
+    @Column(name = "cart_item_unit_price", nullable = false, precision = PRICE_PRECISION, scale = PRICE_SCALE)
+    private BigDecimal unitPrice;
+
     protected CartItem() {
     }
 
     public CartItem(Item item, int quantity) {
         this.item = item;
         this.quantity = quantity;
+        this.unitPrice = item.getPrice();
     }
 
     public BigDecimal getTotalPrice() {
-        return item.getPrice().multiply(BigDecimal.valueOf(quantity));
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
     }
 
     // AUTO GENERATED
@@ -75,4 +87,12 @@ public class CartItem {
     public void setQuantity(int quantity) {
         this.quantity = quantity;
     }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
 }
@@ -0,0 +1,5 @@
+package com.app.domain.cart.enums;
+
+public enum CartOperationStatus {
+    APPLIED, ITEM_NOT_FOUND, INSUFFICIENT_STOCK, NOT_IN_CART
+}
@@ -0,0 +1,5 @@
+package com.app.domain.cart.enums;
+
+public enum CartOperationType {
+    ADD, SET_QUANTITY, REMOVE
+}
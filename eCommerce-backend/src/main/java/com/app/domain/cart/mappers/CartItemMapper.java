@@ -4,16 +4,20 @@ import com.app.domain.cart.dtos.CartItemDTO;
 import com.app.domain.cart.entities.CartItem;
 import com.app.domain.item.dtos.ItemSummaryDTO;
 import com.app.domain.item.entities.Item;
+import com.app.domain.item.entities.ItemMedia;
 import com.app.domain.item.mappers.ItemMapper;
 
+import java.util.List;
+
 public class CartItemMapper {
 
-    public static CartItemDTO toCartItemDto(CartItem cartItem) {
+    public static CartItemDTO toCartItemDto(CartItem cartItem, List<ItemMedia> itemMedia) {
         Item item = cartItem.getItem();
-        ItemSummaryDTO itemSummary = ItemMapper.toItemSummaryDTO(item);
+        ItemSummaryDTO itemSummary = ItemMapper.toItemSummaryDTO(item, itemMedia);
         return new CartItemDTO(
                 cartItem.getId(),
                 itemSummary,
-                cartItem.getQuantity());
+                cartItem.getQuantity(),
+                cartItem.getUnitPrice());
     }
-}
\ No newline at end of file
+}
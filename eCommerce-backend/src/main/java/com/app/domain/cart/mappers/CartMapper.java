@@ -5,19 +5,22 @@ import com.app.domain.cart.dtos.CartDTO;
 import com.app.domain.cart.dtos.CartItemDTO;
 import com.app.domain.cart.entities.Cart;
 import com.app.domain.cart.entities.CartItem;
+import com.app.domain.item.entities.ItemMedia;
 
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public class CartMapper {
 
-    public static CartDTO toCartDto(Cart cart) {
+    public static CartDTO toCartDto(Cart cart, Map<UUID, List<ItemMedia>> mediaByItem) {
         List<CartItem> items = cart.getCartItems();
         List<CartItemDTO> itemDTOs = items.stream()
-                .map(CartItemMapper::toCartItemDto)
+                .map(i -> CartItemMapper.toCartItemDto(i, mediaByItem.getOrDefault(i.getItem().getId(), List.of())))
                 .toList();
         return new CartDTO(cart.getId(),
                 itemDTOs,
                 cart.getTotalCost());
     }
 
-}
\ No newline at end of file
+}
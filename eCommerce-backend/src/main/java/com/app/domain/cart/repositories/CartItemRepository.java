@@ -7,8 +7,27 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
+    @Query("SELECT ci FROM CartItem ci WHERE ci.cart = :cart AND ci.item.id = :itemId")
+    Optional<CartItem> findByCartAndItemId(@Param("cart") Cart cart, @Param("itemId") UUID itemId);
+
+    @Query("SELECT ci FROM CartItem ci WHERE ci.cart = :cart AND ci.item.id IN :itemIds")
+    List<CartItem> findAllByCartAndItemIds(@Param("cart") Cart cart, @Param("itemIds") Collection<UUID> itemIds);
+
+    @Query("SELECT ci FROM CartItem ci WHERE ci.id = :id AND ci.cart = :cart")
+    Optional<CartItem> findByIdAndCart(@Param("id") Long id, @Param("cart") Cart cart);
+
     @Modifying
+    @Query("UPDATE CartItem ci SET ci.unitPrice = :unitPrice WHERE ci.item.id = :itemId")
+    int updateUnitPriceByItemId(@Param("itemId") UUID itemId, @Param("unitPrice") BigDecimal unitPrice);
+
+    @Modifying(flushAutomatically = true)
     @Query("DELETE FROM CartItem ci WHERE ci.cart = :cart")
     void deleteAllByCart(@Param("cart") Cart currentCart);
 }
\ No newline at end of file
@@ -2,11 +2,15 @@ package com.app.domain.cart.repositories;
 
 import com.app.domain.cart.entities.Cart;
 import com.app.domain.member.entities.Member;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,6 +18,32 @@ public interface CartRepository extends JpaRepository<Cart, UUID> {
     @Query("SELECT c FROM Cart c WHERE c.owner = :owner")
     Optional<Cart> findByOwner(@Param("owner") Member owner);
 
+    // Serializes the line changes of one cart, so a line is never read, changed and written by two of them at once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Cart c WHERE c.owner = :owner")
+    Optional<Cart> findForUpdateByOwner(@Param("owner") Member owner);
+
+    // Lines and their items in one round trip; item media is batch loaded separately
+    @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.cartItems ci LEFT JOIN FETCH ci.item WHERE c.owner = :owner")
+    Optional<Cart> findWithItemsByOwner(@Param("owner") Member owner);
+
+    @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.cartItems ci LEFT JOIN FETCH ci.item WHERE c.id = :id")
+    Optional<Cart> findWithItemsById(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Cart c SET c.totalCost = c.totalCost + :delta WHERE c.id = :id")
+    void addToTotalCost(@Param("id") UUID id, @Param("delta") BigDecimal delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Cart c SET c.totalCost = 0 WHERE c.id = :id")
+    void resetTotalCost(@Param("id") UUID id);
+
+    // Only the carts holding one of the items are touched, found through the cart_item(item_id) index
+    @Modifying
+    @Query("UPDATE Cart c SET c.totalCost = COALESCE((SELECT SUM(ci.unitPrice * ci.quantity) FROM CartItem ci WHERE ci.cart = c), 0) " +
+            "WHERE c.id IN (SELECT ci2.cart.id FROM CartItem ci2 WHERE ci2.item.id IN :itemIds)")
+    int recomputeTotalCostByItemIds(@Param("itemIds") Collection<UUID> itemIds);
+
     @Modifying
     @Query("DELETE FROM Cart c WHERE c.owner = :owner")
     void deleteAllByOwner(@Param("owner") Member owner);
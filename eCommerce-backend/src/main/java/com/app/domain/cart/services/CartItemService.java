@@ -1,22 +1,27 @@
 package com.app.domain.cart.services;
 
+import com.app.domain.cart.dtos.CartBatchDTO;
 import com.app.domain.cart.dtos.CartDTO;
+import com.app.domain.cart.dtos.CartOperationResultDTO;
+import com.app.domain.cart.dtos.requests.CartBatchRequest;
 import com.app.domain.cart.dtos.requests.CartItemRequest;
+import com.app.domain.cart.dtos.requests.CartOperationRequest;
 import com.app.domain.cart.entities.Cart;
 import com.app.domain.cart.entities.CartItem;
 import com.app.domain.cart.exceptions.CartItemNotFoundException;
+import com.app.domain.cart.enums.CartOperationStatus;
+import com.app.domain.cart.enums.CartOperationType;
 import com.app.domain.cart.exceptions.InsufficientStockException;
-import com.app.domain.cart.mappers.CartMapper;
 import com.app.domain.cart.repositories.CartItemRepository;
 import com.app.domain.item.entities.Item;
 import com.app.domain.item.services.ItemService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -33,28 +38,31 @@ public class CartItemService {
 
     @Transactional
     public CartDTO addItemToCart(CartItemRequest request) {
-        Cart currentCart = cartService.getCart();
-        Item item = itemService.findByIdWithLock(request.itemId());
-        Optional<CartItem> existingCartItem = findCartItem(currentCart, item.getId());
+        Cart currentCart = cartService.getCartForUpdate();
+        Item item = itemService.findById(request.itemId());
+        Optional<CartItem> existingCartItem = cartItemRepository.findByCartAndItemId(currentCart, item.getId());
 
         int totalQuantity = getTotalQuantity(existingCartItem, request.quantity());
         if (item.getQuantity() < totalQuantity) {
             throw new InsufficientStockException();
         }
 
-        addOrUpdateCartItem(item, existingCartItem, totalQuantity, currentCart);
-        cartService.save(currentCart);
-        return CartMapper.toCartDto(currentCart);
+        CartItem cartItem = addOrUpdateCartItem(item, existingCartItem, totalQuantity, currentCart);
+        BigDecimal delta = cartItem.getUnitPrice().multiply(BigDecimal.valueOf(request.quantity()));
+        cartService.addToTotalCost(currentCart.getId(), delta);
+        return cartService.findDtoById(currentCart.getId());
     }
 
-    private void addOrUpdateCartItem(Item item, Optional<CartItem> existingCartItem, int totalQuantity, Cart currentCart) {
+    private CartItem addOrUpdateCartItem(Item item, Optional<CartItem> existingCartItem, int totalQuantity, Cart currentCart) {
         if (existingCartItem.isPresent()) {
             CartItem cartItem = existingCartItem.get();
             cartItem.setQuantity(totalQuantity);
-        } else {
-            CartItem cartItem = new CartItem(item, totalQuantity);
-            currentCart.addItem(cartItem);
+            return cartItem;
         }
+        // Saved on its own, so the cart's lines never have to be loaded
+        CartItem cartItem = new CartItem(item, totalQuantity);
+        cartItem.setCart(currentCart);
+        return cartItemRepository.save(cartItem);
     }
 
     private int getTotalQuantity(Optional<CartItem> existingItem, int quantity) {
@@ -64,40 +72,117 @@ public class CartItemService {
 
     @Transactional
     public CartDTO modifyCartItem(Long id, int quantity) {
-        CartItem cartItem = findById(id);
-        Item item = itemService.findByIdWithLock(cartItem.getItem().getId());
+        Cart currentCart = cartService.getCartForUpdate();
+        CartItem cartItem = findByIdInCart(id, currentCart);
+        Item item = itemService.findById(cartItem.getItem().getId());
 
         if (item.getQuantity() < quantity) {
             throw new InsufficientStockException();
         }
 
+        BigDecimal delta = cartItem.getUnitPrice().multiply(BigDecimal.valueOf(quantity - cartItem.getQuantity()));
         cartItem.setQuantity(quantity);
-        cartItemRepository.save(cartItem);
-
-        return CartMapper.toCartDto(cartService.getCart());
+        cartService.addToTotalCost(currentCart.getId(), delta);
+        return cartService.findDtoById(currentCart.getId());
     }
 
 
     @Transactional
     public CartDTO removeItemFromCart(Long id) {
-        Cart currentCart = cartService.getCart();
+        Cart currentCart = cartService.getCartForUpdate();
+        CartItem cartItem = findByIdInCart(id, currentCart);
 
-        CartItem cartItem = findById(id);
-        currentCart.removeItem(cartItem);
         cartItemRepository.delete(cartItem);
+        cartService.addToTotalCost(currentCart.getId(), cartItem.getTotalPrice().negate());
+        return cartService.findDtoById(currentCart.getId());
+    }
+
+    /**
+     * Applies the operations in order, in one transaction. The referenced items and cart lines are each read
+     * with a single query; an operation that cannot be applied is skipped and reported in its result,
+     * the others still apply.
+     */
+    @Transactional
+    public CartBatchDTO applyBatch(CartBatchRequest request) {
+        Cart currentCart = cartService.getCartForUpdate();
+        List<CartOperationRequest> operations = request.operations();
+        Set<UUID> itemIds = operations.stream()
+                .map(CartOperationRequest::itemId)
+                .collect(Collectors.toSet());
+        Map<UUID, Item> items = itemService.findAllByIds(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        List<CartItem> storedLines = cartItemRepository.findAllByCartAndItemIds(currentCart, itemIds);
+
+        Map<UUID, CartItem> lines = new HashMap<>();
+        storedLines.forEach(l -> lines.put(l.getItem().getId(), l));
+        BigDecimal totalBefore = sumTotalPrice(storedLines);
+
+        List<CartOperationResultDTO> results = new ArrayList<>(operations.size());
+        for (CartOperationRequest operation : operations) {
+            CartOperationStatus status = applyOperation(operation, items.get(operation.itemId()), lines, currentCart);
+            CartItem line = lines.get(operation.itemId());
+            results.add(new CartOperationResultDTO(operation.itemId(), operation.type(), status,
+                    line != null ? line.getQuantity() : 0));
+        }
+
+        List<CartItem> removedLines = storedLines.stream()
+                .filter(l -> lines.get(l.getItem().getId()) != l)
+                .toList();
+        List<CartItem> newLines = lines.values().stream()
+                .filter(l -> l.getId() == null)
+                .toList();
+        cartItemRepository.deleteAllInBatch(removedLines);
+        cartItemRepository.saveAll(newLines);
+
+        BigDecimal delta = sumTotalPrice(lines.values()).subtract(totalBefore);
+        cartService.addToTotalCost(currentCart.getId(), delta);
+        return new CartBatchDTO(cartService.findDtoById(currentCart.getId()), results);
+    }
+
+    private CartOperationStatus applyOperation(CartOperationRequest operation, Item item, Map<UUID, CartItem> lines, Cart currentCart) {
+        if (item == null) {
+            return CartOperationStatus.ITEM_NOT_FOUND;
+        }
+        CartItem line = lines.get(item.getId());
+        int quantity = switch (operation.type()) {
+            case ADD -> (line != null ? line.getQuantity() : 0) + operation.quantity();
+            case SET_QUANTITY -> operation.quantity();
+            case REMOVE -> 0;
+        };
+
+        if (quantity == 0) {
+            if (line == null && operation.type() == CartOperationType.REMOVE) {
+                return CartOperationStatus.NOT_IN_CART;
+            }
+            lines.remove(item.getId());
+            return CartOperationStatus.APPLIED;
+        }
+        if (item.getQuantity() < quantity) {
+            return CartOperationStatus.INSUFFICIENT_STOCK;
+        }
+        if (line == null) {
+            line = new CartItem(item, quantity);
+            line.setCart(currentCart);
+            lines.put(item.getId(), line);
+        } else {
+            line.setQuantity(quantity);
+        }
+        return CartOperationStatus.APPLIED;
+    }
 
-        return CartMapper.toCartDto(currentCart);
+    private static BigDecimal sumTotalPrice(Collection<CartItem> lines) {
+        return lines.stream()
+                .map(CartItem::getTotalPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
     @Transactional
     public CartDTO clear() {
-        Cart currentCart = cartService.getCart();
+        Cart currentCart = cartService.getCartForUpdate();
 
         cartItemRepository.deleteAllByCart(currentCart);
-        currentCart.setCartItems(new ArrayList<>());
-        cartService.save(currentCart);
-
-        return CartMapper.toCartDto(currentCart);
+        cartService.resetTotalCost(currentCart.getId());
+        return cartService.findDtoById(currentCart.getId());
     }
 
 
@@ -106,13 +191,9 @@ public class CartItemService {
                 .orElseThrow(CartItemNotFoundException::new);
     }
 
-    private Optional<CartItem> findCartItem(Cart cart, UUID itemId) {
-        List<CartItem> items = cart.getCartItems();
-        return items.stream()
-                .filter(i -> i
-                        .getItem()
-                        .getId()
-                        .equals(itemId))
-                .findFirst();
+    // A line of another member's cart is reported as missing
+    private CartItem findByIdInCart(Long id, Cart cart) {
+        return cartItemRepository.findByIdAndCart(id, cart)
+                .orElseThrow(CartItemNotFoundException::new);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.app.domain.cart.services;
+
+import com.app.domain.item.events.ItemPriceChangedEvent;
+import com.app.global.events.DomainEventSubscriber;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps the price snapshots of cart lines, and so the cart totals, in step with item price changes.
+ */
+@Component
+public class CartPriceSubscriber implements DomainEventSubscriber<ItemPriceChangedEvent> {
+
+    private final CartService cartService;
+
+    public CartPriceSubscriber(CartService cartService) {
+        this.cartService = cartService;
+    }
+
+    @Override
+    public Class<ItemPriceChangedEvent> eventType() {
+        return ItemPriceChangedEvent.class;
+    }
+
+    @Override
+    public void handle(List<ItemPriceChangedEvent> events) {
+        // Several changes of one item in a batch collapse to the latest price
+        Map<UUID, BigDecimal> pricesByItem = new LinkedHashMap<>();
+        events.forEach(e -> pricesByItem.put(e.itemId(), e.newPrice()));
+        cartService.applyItemPrices(pricesByItem);
+    }
+}
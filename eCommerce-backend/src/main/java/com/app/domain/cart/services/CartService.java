@@ -2,32 +2,53 @@ package com.app.domain.cart.services;
 
 import com.app.domain.cart.dtos.CartDTO;
 import com.app.domain.cart.entities.Cart;
+import com.app.domain.cart.entities.CartItem;
 import com.app.domain.cart.exceptions.CartNotFoundException;
 import com.app.domain.cart.mappers.CartMapper;
+import com.app.domain.cart.repositories.CartItemRepository;
 import com.app.domain.cart.repositories.CartRepository;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.entities.ItemMedia;
+import com.app.domain.item.services.ItemMediaService;
 import com.app.domain.member.entities.Member;
 import com.app.domain.member.services.MemberService;
 import com.app.global.utils.AuthUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * The cart total is stored and moved by the price delta of each line change. It is only recomputed from the lines
+ * when the price of an item in the cart changes.
+ * Rendering a cart loads its lines and their items in one query, plus one batch query for the item media.
+ */
 @Service
 @Transactional(readOnly = true)
 public class CartService {
 
     private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
     private final MemberService memberService;
+    private final ItemMediaService itemMediaService;
 
-    public CartService(CartRepository cartRepository, MemberService memberService) {
+    public CartService(CartRepository cartRepository, CartItemRepository cartItemRepository, MemberService memberService, ItemMediaService itemMediaService) {
         this.cartRepository = cartRepository;
+        this.cartItemRepository = cartItemRepository;
         this.memberService = memberService;
+        this.itemMediaService = itemMediaService;
     }
 
+    @Transactional
     public CartDTO getCartDto() {
-        return CartMapper.toCartDto(getCart());
+        Member owner = AuthUtils.getAuthenticated();
+        Cart cart = cartRepository.findWithItemsByOwner(owner)
+                .orElseGet(this::create);
+        return toCartDto(cart);
     }
 
     // Note: many-to-one relationship with Member, but for now cart is like a singleton.
@@ -40,6 +61,17 @@ public class CartService {
         return currentCart.orElseGet(this::create);
     }
 
+    /**
+     * Same as {@link #getCart()}, but the cart row stays locked until the transaction ends.
+     * Every change to the cart's lines goes through it.
+     */
+    @Transactional
+    public Cart getCartForUpdate() {
+        Member owner = AuthUtils.getAuthenticated();
+        return cartRepository.findForUpdateByOwner(owner)
+                .orElseGet(this::create);
+    }
+
     private Optional<Cart> findByOwner(Member owner) {
         return cartRepository.findByOwner(owner);
     }
@@ -52,7 +84,9 @@ public class CartService {
     }
 
     public CartDTO findDtoById(UUID id) {
-        return CartMapper.toCartDto(findById(id));
+        Cart cart = cartRepository.findWithItemsById(id)
+                .orElseThrow(CartNotFoundException::new);
+        return toCartDto(cart);
     }
 
     public Cart findById(UUID id) {
@@ -62,10 +96,30 @@ public class CartService {
 
     @Transactional
     public Cart save(Cart cart) {
-        cart.updateTotalCost();
         return cartRepository.save(cart);
     }
 
+    @Transactional
+    public void addToTotalCost(UUID id, BigDecimal delta) {
+        cartRepository.addToTotalCost(id, delta);
+    }
+
+    @Transactional
+    public void resetTotalCost(UUID id) {
+        cartRepository.resetTotalCost(id);
+    }
+
+    /**
+     * Moves every cart line of the given items to its new price and recomputes the totals of only those carts.
+     */
+    @Transactional
+    public void applyItemPrices(Map<UUID, BigDecimal> pricesByItem) {
+        if (pricesByItem.isEmpty()) {
+            return;
+        }
+        pricesByItem.forEach(cartItemRepository::updateUnitPriceByItemId);
+        cartRepository.recomputeTotalCostByItemIds(pricesByItem.keySet());
+    }
 
     @Transactional
     public void deleteById(UUID id) {
@@ -78,4 +132,12 @@ public class CartService {
         Member member = memberService.findById(id);
         cartRepository.deleteAllByOwner(member);
     }
-}
\ No newline at end of file
+
+    private CartDTO toCartDto(Cart cart) {
+        List<Item> items = cart.getCartItems().stream()
+                .map(CartItem::getItem)
+                .toList();
+        Map<UUID, List<ItemMedia>> mediaByItem = itemMediaService.findAllByItems(items);
+        return CartMapper.toCartDto(cart, mediaByItem);
+    }
+}
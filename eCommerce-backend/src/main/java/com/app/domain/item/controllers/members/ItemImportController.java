@@ -0,0 +1,41 @@
+package com.app.domain.item.controllers.members;
+
+import com.app.domain.item.dtos.ItemImportDTO;
+import com.app.domain.item.services.ItemImportService;
+import com.app.global.constants.RestEndpoints;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.UUID;
+
+@RestController
+@RequestMapping(ItemImportController.BASE_URL)
+@PreAuthorize("hasAnyRole({'MEMBER', 'ADMIN'})")
+public class ItemImportController {
+    public static final String BASE_URL = RestEndpoints.MEMBER_API + "/item-imports";
+
+    private final ItemImportService itemImportService;
+
+    public ItemImportController(ItemImportService itemImportService) {
+        this.itemImportService = itemImportService;
+    }
+
+    // The file is the body itself rather than a multipart part, so it is never spooled before its size is checked
+    @PostMapping
+    public ResponseEntity<ItemImportDTO> start(HttpServletRequest request) throws IOException {
+        return ResponseEntity.accepted().body(
+                itemImportService.start(request.getContentType(), request.getContentLengthLong(), request.getInputStream()));
+    }
+
+    @GetMapping("/{importId}")
+    public ResponseEntity<ItemImportDTO> getById(
+            @PathVariable
+            @NotNull
+            UUID importId) {
+        return ResponseEntity.ok(itemImportService.getById(importId));
+    }
+}
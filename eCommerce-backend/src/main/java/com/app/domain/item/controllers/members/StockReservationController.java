@@ -0,0 +1,50 @@
+package com.app.domain.item.controllers.members;
+
+import com.app.domain.item.dtos.StockReservationDTO;
+import com.app.domain.item.dtos.requests.StockReservationRequest;
+import com.app.domain.item.services.StockReservationService;
+import com.app.global.constants.RestEndpoints;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping(StockReservationController.BASE_URL)
+@PreAuthorize("hasAnyRole({'MEMBER', 'ADMIN'})")
+public class StockReservationController {
+    public static final String BASE_URL = RestEndpoints.MEMBER_API + "/stock-reservations";
+
+    private final StockReservationService stockReservationService;
+
+    public StockReservationController(StockReservationService stockReservationService) {
+        this.stockReservationService = stockReservationService;
+    }
+
+    @PostMapping
+    public ResponseEntity<StockReservationDTO> reserve(
+            @RequestBody
+            @Validated
+            StockReservationRequest request) {
+        return ResponseEntity.ok(stockReservationService.reserve(request));
+    }
+
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<?> confirm(
+            @PathVariable
+            @NotNull
+            Long id) {
+        stockReservationService.confirm(id);
+        return ResponseEntity.ok().build();
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> release(
+            @PathVariable
+            @NotNull
+            Long id) {
+        stockReservationService.release(id);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -4,8 +4,12 @@ import com.app.domain.item.dtos.ItemDetailedDTO;
 import com.app.domain.item.dtos.ItemSummaryDTO;
 import com.app.domain.item.services.ItemService;
 import com.app.global.constants.RestEndpoints;
+import com.app.global.dtos.KeysetSliceDTO;
+import com.app.global.metrics.StatementBudget;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import org.springframework.data.domain.Page;
@@ -15,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.UUID;
 
+import static com.app.global.constants.UserInputConstants.SLICE_SIZE_MAX;
 import static com.app.global.constants.UserInputConstants.TITLE_LENGTH_MAX;
 import static com.app.global.constants.UserInputConstants.TITLE_LENGTH_MIN;
 
@@ -29,12 +34,26 @@ public class ItemController {
         this.itemService = itemService;
     }
 
+    @StatementBudget(5)
     @GetMapping
     public ResponseEntity<Page<ItemSummaryDTO>> getAll(Pageable pageable) {
         Page<ItemSummaryDTO> itemSummaryDto = itemService.findAll(pageable);
         return ResponseEntity.ok(itemSummaryDto);
     }
 
+    @StatementBudget(4)
+    @GetMapping("/scroll")
+    public ResponseEntity<KeysetSliceDTO<ItemSummaryDTO>> scrollAll(
+            @RequestParam(name = "cursor", required = false)
+            String cursor,
+            @RequestParam(name = "size", defaultValue = "20")
+            @Positive
+            @Max(SLICE_SIZE_MAX)
+            int size) {
+        return ResponseEntity.ok(itemService.findAll(cursor, size));
+    }
+
+    @StatementBudget(3)
     @GetMapping("/{id}")
     public ResponseEntity<ItemDetailedDTO> getById(
             @PathVariable("id")
@@ -64,6 +83,7 @@ public class ItemController {
         return ResponseEntity.ok(itemSummaryDto);
     }
 
+    @StatementBudget(6)
     @GetMapping("/category/{category}")
     public ResponseEntity<Page<ItemSummaryDTO>> getByCategory(
             @PathVariable("category")
@@ -74,6 +94,7 @@ public class ItemController {
         return ResponseEntity.ok(itemSummaryDto);
     }
 
+    @StatementBudget(5)
     @GetMapping("/active")
     public ResponseEntity<Page<ItemSummaryDTO>> getByActive(
             @RequestParam(name = "active",
@@ -83,4 +104,19 @@ public class ItemController {
             Pageable pageable) {
         return ResponseEntity.ok(itemService.findAllByActive(active, pageable));
     }
+
+    @GetMapping("/active/scroll")
+    public ResponseEntity<KeysetSliceDTO<ItemSummaryDTO>> scrollByActive(
+            @RequestParam(name = "active",
+                    required = false,
+                    defaultValue = "true")
+            boolean active,
+            @RequestParam(name = "cursor", required = false)
+            String cursor,
+            @RequestParam(name = "size", defaultValue = "20")
+            @Positive
+            @Max(SLICE_SIZE_MAX)
+            int size) {
+        return ResponseEntity.ok(itemService.findAllByActive(active, cursor, size));
+    }
 }
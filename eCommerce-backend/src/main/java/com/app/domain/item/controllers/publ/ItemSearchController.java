@@ -0,0 +1,49 @@
+package com.app.domain.item.controllers.publ;
+
+import com.app.domain.item.dtos.ItemFacetSearchDTO;
+import com.app.domain.item.dtos.ItemSummaryDTO;
+import com.app.domain.item.dtos.requests.ItemFacetSearchRequest;
+import com.app.domain.item.services.ItemSearchService;
+import com.app.global.constants.RestEndpoints;
+import com.app.global.metrics.StatementBudget;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.app.global.constants.UserInputConstants.SEARCH_QUERY_LENGTH_MAX;
+
+@RestController
+@RequestMapping(ItemSearchController.BASE_URL)
+public class ItemSearchController {
+    public static final String BASE_URL = RestEndpoints.PUBLIC_API + "/items/search";
+
+    private final ItemSearchService itemSearchService;
+
+    public ItemSearchController(ItemSearchService itemSearchService) {
+        this.itemSearchService = itemSearchService;
+    }
+
+    @GetMapping
+    public ResponseEntity<Page<ItemSummaryDTO>> search(
+            @RequestParam("query")
+            @NotBlank
+            @Size(max = SEARCH_QUERY_LENGTH_MAX)
+            String query, Pageable pageable) {
+        return ResponseEntity.ok(itemSearchService.search(query, pageable));
+    }
+
+    @StatementBudget(4)
+    @GetMapping("/facets")
+    public ResponseEntity<ItemFacetSearchDTO> facetedSearch(
+            @Validated
+            ItemFacetSearchRequest request, Pageable pageable) {
+        return ResponseEntity.ok(itemSearchService.facetedSearch(request, pageable));
+    }
+}
@@ -0,0 +1,9 @@
+package com.app.domain.item.dtos;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ItemFacetDocumentDTO(UUID id, BigDecimal price, Long categoryId, Long sellerId, boolean active,
+                                   LocalDateTime createdDate) {
+}
@@ -0,0 +1,9 @@
+package com.app.domain.item.dtos;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+public record ItemFacetSearchDTO(Page<ItemSummaryDTO> items, List<CategoryFacetDTO> categories,
+                                 List<PriceBucketDTO> priceBuckets) {
+}
@@ -0,0 +1,16 @@
+package com.app.domain.item.dtos;
+
+import com.app.domain.item.enums.ItemImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Progress of an item import. {@code errors} lists the first rejected rows only; {@code rowsFailed} counts all of them.
+ */
+public record ItemImportDTO(UUID id, ItemImportStatus status,
+                            long rowsRead, long itemsCreated, long rowsFailed,
+                            List<ItemImportErrorDTO> errors,
+                            LocalDateTime createdDate, LocalDateTime finishedDate) {
+}
@@ -0,0 +1,4 @@
+package com.app.domain.item.dtos;
+
+public record ItemImportErrorDTO(long row, String message) {
+}
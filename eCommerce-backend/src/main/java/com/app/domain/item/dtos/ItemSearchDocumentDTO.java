@@ -0,0 +1,6 @@
+package com.app.domain.item.dtos;
+
+import java.util.UUID;
+
+public record ItemSearchDocumentDTO(UUID id, String title, String description) {
+}
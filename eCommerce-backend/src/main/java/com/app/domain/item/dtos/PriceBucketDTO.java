@@ -0,0 +1,9 @@
+package com.app.domain.item.dtos;
+
+import java.math.BigDecimal;
+
+/**
+ * Prices from {@code from} up to, excluding, {@code to}; the last bucket has no upper bound.
+ */
+public record PriceBucketDTO(BigDecimal from, BigDecimal to, long count) {
+}
@@ -0,0 +1,11 @@
+package com.app.domain.item.dtos;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record StockReservationDTO(
+        Long id,
+        UUID itemId,
+        int quantity,
+        LocalDateTime expiresAt) {
+}
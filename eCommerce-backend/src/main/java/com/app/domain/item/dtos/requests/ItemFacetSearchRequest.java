@@ -0,0 +1,33 @@
+package com.app.domain.item.dtos.requests;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.PositiveOrZero;
+
+import java.math.BigDecimal;
+
+import static com.app.global.constants.UserInputConstants.PRICE_MAX;
+
+/**
+ * Every field is optional; {@code active} defaults to active items only.
+ */
+public record ItemFacetSearchRequest(
+
+        Long categoryId,
+
+        @PositiveOrZero
+        @DecimalMax(PRICE_MAX)
+        BigDecimal minPrice,
+
+        @PositiveOrZero
+        @DecimalMax(PRICE_MAX)
+        BigDecimal maxPrice,
+
+        Long sellerId,
+
+        Boolean active,
+
+        @DecimalMin("1")
+        @DecimalMax("10")
+        Double minRating) {
+}
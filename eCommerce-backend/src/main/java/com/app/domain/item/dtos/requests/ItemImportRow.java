@@ -0,0 +1,41 @@
+package com.app.domain.item.dtos.requests;
+
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.app.global.constants.UserInputConstants.ITEM_MEDIA_COUNT_MAX;
+import static com.app.global.constants.UserInputConstants.PRICE_PRECISION;
+import static com.app.global.constants.UserInputConstants.PRICE_SCALE;
+import static com.app.global.constants.UserInputConstants.TITLE_LENGTH_MAX;
+import static com.app.global.constants.UserInputConstants.TITLE_LENGTH_MIN;
+
+/**
+ * One item of an import file. Media are referenced by their URL rather than uploaded.
+ */
+public record ItemImportRow(
+
+        @NotBlank
+        @Size(min = TITLE_LENGTH_MIN, max = TITLE_LENGTH_MAX)
+        String title,
+
+        @NotNull
+        @PositiveOrZero
+        @Digits(integer = PRICE_PRECISION - PRICE_SCALE, fraction = PRICE_SCALE)
+        BigDecimal price,
+
+        String description,
+
+        @PositiveOrZero
+        Integer quantity,
+
+        Long categoryId,
+
+        @Size(max = ITEM_MEDIA_COUNT_MAX)
+        List<@NotBlank String> mediaUrls) {
+}
@@ -0,0 +1,15 @@
+package com.app.domain.item.dtos.requests;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.util.UUID;
+
+public record StockReservationRequest(
+
+        @NotNull
+        UUID itemId,
+
+        @Positive
+        int quantity) {
+}
@@ -7,6 +7,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -16,8 +17,13 @@ import java.util.UUID;
 
 import static com.app.global.constants.UserInputConstants.*;
 
+// Updates write only the changed columns, so an edit that leaves the quantity alone cannot overwrite
+// stock taken meanwhile by the conditional updates in ItemRepository, which do not bump the version
 @Entity
-@Table(name = "item")
+@DynamicUpdate
+@Table(name = "item", indexes = {
+        @Index(name = "idx_item_created", columnList = "created_date, item_id"),
+        @Index(name = "idx_item_active_created", columnList = "item_active, created_date, item_id")})
 public class Item extends AuditableEntity {
 
     @Id
@@ -58,8 +64,9 @@ public class Item extends AuditableEntity {
     @Column(name = "item_active")
     private boolean active = false;
 
+    // A short counter wraps around after 65536 updates, which could make a stale cached detail look current
     @Version
-    private short version;
+    private long version;
 
     protected Item() {
     }
@@ -192,11 +199,11 @@ public class Item extends AuditableEntity {
         this.active = active;
     }
 
-    public short getVersion() {
+    public long getVersion() {
         return version;
     }
 
-    public void setVersion(short version) {
+    public void setVersion(long version) {
         this.version = version;
     }
 
@@ -9,7 +9,7 @@ import jakarta.validation.constraints.NotNull;
 public class ItemMedia {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "item_media_id")
     private Long id;
 
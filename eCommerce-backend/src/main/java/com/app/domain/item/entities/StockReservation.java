@@ -0,0 +1,107 @@
+package com.app.domain.item.entities;
+
+import com.app.domain.member.entities.Member;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Units of an item taken out of stock for a member until {@code expiresAt}.
+ * The item is referenced by id only, so an item can be deleted while reservations of it are pending.
+ */
+@Entity
+@Table(name = "stock_reservation", indexes = {
+        @Index(name = "idx_stock_reservation_expires", columnList = "stock_reservation_expires_at")})
+public class StockReservation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "stock_reservation_id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "item_id", nullable = false)
+    private UUID itemId;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "member_id")
+    private Member member;
+
+    @Positive
+    @Column(name = "stock_reservation_quantity", nullable = false)
+    private int quantity;
+
+    @NotNull
+    @Column(name = "stock_reservation_expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    protected StockReservation() {
+    }
+
+    public StockReservation(UUID itemId, Member member, int quantity, LocalDateTime expiresAt) {
+        this.itemId = itemId;
+        this.member = member;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(LocalDateTime.now());
+    }
+
+    // AUTO GENERATED
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public UUID getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(UUID itemId) {
+        this.itemId = itemId;
+    }
+
+    public Member getMember() {
+        return member;
+    }
+
+    public void setMember(Member member) {
+        this.member = member;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return "StockReservation{" +
+                "id=" + id +
+                ", itemId=" + itemId +
+                ", quantity=" + quantity +
+                ", expiresAt=" + expiresAt +
+                '}';
+    }
+}
@@ -0,0 +1,5 @@
+package com.app.domain.item.enums;
+
+public enum ItemImportFormat {
+    CSV, NDJSON
+}
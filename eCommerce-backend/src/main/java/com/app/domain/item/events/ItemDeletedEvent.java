@@ -0,0 +1,8 @@
+package com.app.domain.item.events;
+
+import com.app.global.events.DomainEvent;
+
+import java.util.UUID;
+
+public record ItemDeletedEvent(UUID itemId) implements DomainEvent {
+}
@@ -0,0 +1,9 @@
+package com.app.domain.item.events;
+
+import com.app.global.events.DomainEvent;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record ItemPriceChangedEvent(UUID itemId, BigDecimal oldPrice, BigDecimal newPrice) implements DomainEvent {
+}
@@ -0,0 +1,11 @@
+package com.app.domain.item.events;
+
+import com.app.global.events.DomainEvent;
+
+import java.util.UUID;
+
+/**
+ * {@code change} is the number of units added to (positive) or taken out of (negative) stock.
+ */
+public record ItemStockChangedEvent(UUID itemId, int change) implements DomainEvent {
+}
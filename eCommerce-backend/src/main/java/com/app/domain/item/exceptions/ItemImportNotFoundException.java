@@ -0,0 +1,9 @@
+package com.app.domain.item.exceptions;
+
+import com.app.global.constants.ExceptionMessages;
+
+public class ItemImportNotFoundException extends RuntimeException {
+    public ItemImportNotFoundException() {
+        super(ExceptionMessages.ITEM_IMPORT_NOT_FOUND_MESSAGE);
+    }
+}
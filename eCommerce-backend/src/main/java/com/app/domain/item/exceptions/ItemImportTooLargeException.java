@@ -0,0 +1,9 @@
+package com.app.domain.item.exceptions;
+
+import com.app.global.constants.ExceptionMessages;
+
+public class ItemImportTooLargeException extends RuntimeException {
+    public ItemImportTooLargeException() {
+        super(ExceptionMessages.ITEM_IMPORT_TOO_LARGE_MESSAGE);
+    }
+}
@@ -0,0 +1,9 @@
+package com.app.domain.item.exceptions;
+
+import com.app.global.constants.ExceptionMessages;
+
+public class StockReservationNotFoundException extends RuntimeException {
+    public StockReservationNotFoundException() {
+        super(ExceptionMessages.STOCK_RESERVATION_NOT_FOUND_MESSAGE);
+    }
+}
@@ -0,0 +1,9 @@
+package com.app.domain.item.exceptions;
+
+import com.app.global.constants.ExceptionMessages;
+
+public class TooManyItemImportsException extends RuntimeException {
+    public TooManyItemImportsException() {
+        super(ExceptionMessages.TOO_MANY_ITEM_IMPORTS_MESSAGE);
+    }
+}
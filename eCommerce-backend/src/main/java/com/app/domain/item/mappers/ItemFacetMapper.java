@@ -0,0 +1,53 @@
+package com.app.domain.item.mappers;
+
+import com.app.domain.item.dtos.CategoryFacetDTO;
+import com.app.domain.item.dtos.ItemFacetDocumentDTO;
+import com.app.domain.item.dtos.PriceBucketDTO;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.services.ItemFacetIndex;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+public class ItemFacetMapper {
+
+    private ItemFacetMapper() {
+    }
+
+    public static ItemFacetIndex.Document toDocument(Item item) {
+        Long categoryId = item.getCategory() != null ? item.getCategory().getId() : null;
+        return new ItemFacetIndex.Document(item.getId(), item.getPrice(), categoryId, item.getSeller().getId(),
+                item.isActive(), toMillis(item.getCreatedDate()));
+    }
+
+    public static ItemFacetIndex.Document toDocument(ItemFacetDocumentDTO dto) {
+        return new ItemFacetIndex.Document(dto.id(), dto.price(), dto.categoryId(), dto.sellerId(),
+                dto.active(), toMillis(dto.createdDate()));
+    }
+
+    public static List<CategoryFacetDTO> toCategoryFacetDTOs(Map<Long, Long> categoryCounts) {
+        return categoryCounts.entrySet().stream()
+                .map(e -> new CategoryFacetDTO(e.getKey(), e.getValue()))
+                .sorted(Comparator.comparingLong(CategoryFacetDTO::count).reversed()
+                        .thenComparing(CategoryFacetDTO::categoryId))
+                .toList();
+    }
+
+    public static List<PriceBucketDTO> toPriceBucketDTOs(List<BigDecimal> boundaries, long[] counts) {
+        List<PriceBucketDTO> buckets = new ArrayList<>(boundaries.size());
+        for (int i = 0; i < boundaries.size(); i++) {
+            BigDecimal to = i + 1 < boundaries.size() ? boundaries.get(i + 1) : null;
+            buckets.add(new PriceBucketDTO(boundaries.get(i), to, counts[i]));
+        }
+        return buckets;
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,44 @@
+package com.app.domain.item.mappers;
+
+import com.app.domain.item.dtos.ItemImportDTO;
+import com.app.domain.item.dtos.requests.ItemImportRow;
+import com.app.domain.item.entities.Category;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.entities.ItemMedia;
+import com.app.domain.item.services.ItemImport;
+import com.app.domain.member.entities.Member;
+
+import java.util.List;
+
+public class ItemImportMapper {
+
+    private ItemImportMapper() {
+    }
+
+    public static ItemImportDTO toItemImportDTO(ItemImport itemImport) {
+        return new ItemImportDTO(
+                itemImport.getId(),
+                itemImport.getStatus(),
+                itemImport.getRowsRead(),
+                itemImport.getItemsCreated(),
+                itemImport.getRowsFailed(),
+                itemImport.getErrors(),
+                itemImport.getCreatedDate(),
+                itemImport.getFinishedDate()
+        );
+    }
+
+    public static Item toItem(ItemImportRow row, Category category, List<ItemMedia> mediaList, Member seller) {
+        Item item = new Item(
+                row.title(),
+                row.price(),
+                row.description(),
+                seller,
+                category);
+        if (row.quantity() != null) {
+            item.setQuantity(row.quantity());
+        }
+        item.addAllMedia(mediaList);
+        return item;
+    }
+}
@@ -6,6 +6,7 @@ import com.app.domain.item.dtos.ItemSummaryDTO;
 import com.app.domain.item.dtos.requests.NewItemRequest;
 import com.app.domain.item.entities.Category;
 import com.app.domain.item.entities.Item;
+import com.app.domain.item.entities.ItemMedia;
 import com.app.domain.member.entities.Member;
 
 import java.time.temporal.ChronoUnit;
@@ -39,7 +40,11 @@ public class ItemMapper {
     }
 
     public static ItemSummaryDTO toItemSummaryDTO(Item item) {
-        List<ItemMediaDTO> mediaDTOList = item.getMediaList()
+        return toItemSummaryDTO(item, item.getMediaList());
+    }
+
+    public static ItemSummaryDTO toItemSummaryDTO(Item item, List<ItemMedia> mediaList) {
+        List<ItemMediaDTO> mediaDTOList = mediaList
                 .stream()
                 .map(ItemMediaMapper::toItemMediaDTO)
                 .toList();
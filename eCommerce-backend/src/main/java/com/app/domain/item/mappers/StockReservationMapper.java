@@ -0,0 +1,17 @@
+package com.app.domain.item.mappers;
+
+import com.app.domain.item.dtos.StockReservationDTO;
+import com.app.domain.item.entities.StockReservation;
+
+public class StockReservationMapper {
+
+    private StockReservationMapper() {}
+
+    public static StockReservationDTO toStockReservationDTO(StockReservation reservation) {
+        return new StockReservationDTO(
+                reservation.getId(),
+                reservation.getItemId(),
+                reservation.getQuantity(),
+                reservation.getExpiresAt());
+    }
+}
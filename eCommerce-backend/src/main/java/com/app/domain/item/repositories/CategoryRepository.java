@@ -1,5 +1,6 @@
 package com.app.domain.item.repositories;
 
+import com.app.domain.item.dtos.CategoryNodeDTO;
 import com.app.domain.item.entities.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,4 +18,7 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     @Query("SELECT c FROM Category c WHERE c.parent = :parent")
     List<Category> findByParent(@Param("parent") Category parent);
+
+    @Query("SELECT new com.app.domain.item.dtos.CategoryNodeDTO(c.id, p.id) FROM Category c LEFT JOIN c.parent p")
+    List<CategoryNodeDTO> findAllNodes();
 }
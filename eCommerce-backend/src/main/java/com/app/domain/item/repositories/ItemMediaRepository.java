@@ -2,6 +2,15 @@ package com.app.domain.item.repositories;
 
 import com.app.domain.item.entities.ItemMedia;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 public interface ItemMediaRepository extends JpaRepository<ItemMedia, Long> {
+
+    @Query("SELECT im FROM ItemMedia im WHERE im.item.id IN (:itemIds) ORDER BY im.id")
+    List<ItemMedia> findAllByItemIds(@Param("itemIds") Collection<UUID> itemIds);
 }
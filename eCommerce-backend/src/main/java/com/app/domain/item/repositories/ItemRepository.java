@@ -1,18 +1,24 @@
 package com.app.domain.item.repositories;
 
-import com.app.domain.item.entities.Category;
+import com.app.domain.item.dtos.ItemFacetDocumentDTO;
+import com.app.domain.item.dtos.ItemSearchDocumentDTO;
 import com.app.domain.item.entities.Item;
 import com.app.domain.member.entities.Member;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
 
 public interface ItemRepository extends JpaRepository<Item, UUID> {
@@ -21,8 +27,22 @@ public interface ItemRepository extends JpaRepository<Item, UUID> {
     @Query("SELECT i FROM Item i WHERE i.id = :itemId")
     Optional<Item> findByIdWithLock(@Param("itemId") UUID itemId);
 
-    @Query("SELECT i FROM Item i WHERE i.category IN (:categories)")
-    Page<Item> findByCategories(@Param("categories") Set<Category> categories, Pageable pageable);
+    // Stock changes are single conditional updates: they never read-modify-write and never bump the version.
+    // Item is @DynamicUpdate, so entity writes only include the quantity when it was set explicitly
+    @Modifying
+    @Query("UPDATE Item i SET i.quantity = i.quantity - :quantity WHERE i.id = :itemId AND i.quantity >= :quantity")
+    int decrementQuantity(@Param("itemId") UUID itemId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE Item i SET i.quantity = i.quantity + :quantity WHERE i.id = :itemId")
+    int incrementQuantity(@Param("itemId") UUID itemId, @Param("quantity") int quantity);
+
+    @EntityGraph(attributePaths = {"seller", "category", "mediaList"})
+    @Query("SELECT i FROM Item i WHERE i.id = :itemId")
+    Optional<Item> findDetailedById(@Param("itemId") UUID itemId);
+
+    @Query("SELECT i FROM Item i WHERE i.category.id IN (:categoryIds)")
+    Page<Item> findByCategoryIds(@Param("categoryIds") Collection<Long> categoryIds, Pageable pageable);
 
     @Query("SELECT i FROM Item i WHERE i.title LIKE %:title%")
     Page<Item> findByTitle(@Param("title") String title, Pageable pageable);
@@ -32,4 +52,24 @@ public interface ItemRepository extends JpaRepository<Item, UUID> {
 
     @Query("SELECT i FROM Item i WHERE i.active = :active")
     Page<Item> findAllByActive(@Param("active") boolean active, Pageable pageable);
+
+    @Query("SELECT i FROM Item i " +
+            "WHERE i.createdDate < :createdDate OR (i.createdDate = :createdDate AND i.id < :id) " +
+            "ORDER BY i.createdDate DESC, i.id DESC")
+    List<Item> findAllBefore(@Param("createdDate") LocalDateTime createdDate, @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT i FROM Item i " +
+            "WHERE i.active = :active " +
+            "AND (i.createdDate < :createdDate OR (i.createdDate = :createdDate AND i.id < :id)) " +
+            "ORDER BY i.createdDate DESC, i.id DESC")
+    List<Item> findAllByActiveBefore(@Param("active") boolean active, @Param("createdDate") LocalDateTime createdDate,
+                                     @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT new com.app.domain.item.dtos.ItemSearchDocumentDTO(i.id, i.title, i.description) " +
+            "FROM Item i WHERE :lastId IS NULL OR i.id > :lastId ORDER BY i.id")
+    List<ItemSearchDocumentDTO> findSearchDocumentsAfter(@Param("lastId") UUID lastId, Limit limit);
+
+    @Query("SELECT new com.app.domain.item.dtos.ItemFacetDocumentDTO(i.id, i.price, c.id, i.seller.id, i.active, i.createdDate) " +
+            "FROM Item i LEFT JOIN i.category c WHERE :lastId IS NULL OR i.id > :lastId ORDER BY i.id")
+    List<ItemFacetDocumentDTO> findFacetDocumentsAfter(@Param("lastId") UUID lastId, Limit limit);
 }
@@ -9,23 +9,39 @@ import com.app.domain.item.exceptions.DuplicateCategoryException;
 import com.app.domain.item.exceptions.ParentCategoryNotFoundException;
 import com.app.domain.item.mappers.CategoryMapper;
 import com.app.domain.item.repositories.CategoryRepository;
+import com.app.global.utils.TransactionUtils;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @Transactional(readOnly = true)
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final ItemDetailCache itemDetailCache;
+    private final TransactionTemplate treeTransaction;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    private final AtomicLong treeVersion = new AtomicLong();
+    private final ReentrantLock treeLock = new ReentrantLock();
+    private volatile CategoryTree tree = CategoryTree.EMPTY;
+
+    public CategoryService(CategoryRepository categoryRepository, ItemDetailCache itemDetailCache,
+                           PlatformTransactionManager transactionManager) {
         this.categoryRepository = categoryRepository;
+        this.itemDetailCache = itemDetailCache;
+        // Read-write, so the rows come from the primary and never from a replica lagging behind the version
+        this.treeTransaction = new TransactionTemplate(transactionManager);
+        this.treeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Transactional
@@ -47,15 +63,20 @@ public class CategoryService {
     @Transactional
     public CategoryDTO modify(Long categoryId, String newTitle) {
         Category category = findById(categoryId);
+        String oldTitle = category.getTitle();
         category.setTitle(newTitle);
         save(category);
+        // Item details show the category title, and a rename does not change the items' versions
+        TransactionUtils.afterCommit(() -> itemDetailCache.evictByCategory(oldTitle));
         return CategoryMapper.toCategoryDTO(category);
     }
 
     @Transactional
     public Category save(Category category) {
         try {
-            return categoryRepository.saveAndFlush(category);
+            Category saved = categoryRepository.saveAndFlush(category);
+            invalidateTree();
+            return saved;
         } catch (DataIntegrityViolationException e) {
             throw new DuplicateCategoryException();
         }
@@ -64,7 +85,10 @@ public class CategoryService {
     @Transactional
     public void deleteById(Long id) {
         Category category = findById(id);
+        String title = category.getTitle();
         categoryRepository.delete(category);
+        invalidateTree();
+        TransactionUtils.afterCommit(() -> itemDetailCache.evictByCategory(title));
     }
 
     public Category findById(Long id) {
@@ -104,16 +128,52 @@ public class CategoryService {
     }
 
     public Set<Category> findFrom(Long id) {
-        Category category = findById(id);
-        return findFrom(category);
+        return new HashSet<>(categoryRepository.findAllById(findDescendantIds(id)));
     }
 
     protected Set<Category> findFrom(Category category) {
-        Set<Category> categories = new HashSet<>();
-        categories.add(category);
-        for (Category child : category.getChildren()) {
-            categories.addAll(findFrom(child));
+        return findFrom(category.getId());
+    }
+
+    public List<Long> findDescendantIds(Long id) {
+        List<Long> ids = getTree().getDescendantIds(id);
+        if (!ids.isEmpty()) {
+            return ids;
+        }
+        if (!categoryRepository.existsById(id)) {
+            throw new CategoryNotFoundException();
+        }
+        // Category may have been committed outside of this service since the last snapshot. If only the caller's
+        // own transaction sees it, a rebuild cannot see it either, so the snapshot is kept
+        if (Boolean.TRUE.equals(treeTransaction.execute(status -> categoryRepository.existsById(id)))) {
+            treeVersion.incrementAndGet();
+            ids = getTree().getDescendantIds(id);
+        }
+        return ids.isEmpty() ? List.of(id) : ids;
+    }
+
+    CategoryTree getTree() {
+        CategoryTree current = tree;
+        if (current.getVersion() == treeVersion.get()) {
+            return current;
         }
-        return categories;
+        treeLock.lock();
+        try {
+            long version = treeVersion.get();
+            current = tree;
+            if (current.getVersion() != version) {
+                // Read in a transaction of its own: the caller's snapshot may predate the write that bumped the version
+                current = CategoryTree.build(version, treeTransaction.execute(status -> categoryRepository.findAllNodes()));
+                tree = current;
+            }
+            return current;
+        } finally {
+            treeLock.unlock();
+        }
+    }
+
+    // Snapshot is rebuilt lazily on the next read, once the writing transaction has committed
+    private void invalidateTree() {
+        TransactionUtils.afterCommit(treeVersion::incrementAndGet);
     }
 }
@@ -0,0 +1,103 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.CategoryNodeDTO;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of the whole category forest.
+ * Categories are laid out in pre-order (Euler tour entry order), so the subtree
+ * of any category is the contiguous range [entry, exit) of {@code order}.
+ */
+public final class CategoryTree {
+
+    static final CategoryTree EMPTY = new CategoryTree(-1, new Long[0], Map.of(), new int[0]);
+
+    private final long version;
+    private final Long[] order;
+    private final Map<Long, Integer> entries;
+    private final int[] exits;
+
+    private CategoryTree(long version, Long[] order, Map<Long, Integer> entries, int[] exits) {
+        this.version = version;
+        this.order = order;
+        this.entries = entries;
+        this.exits = exits;
+    }
+
+    public static CategoryTree build(long version, Collection<CategoryNodeDTO> nodes) {
+        Map<Long, List<Long>> childrenByParent = new HashMap<>();
+        Set<Long> ids = new HashSet<>();
+        nodes.forEach(n -> ids.add(n.id()));
+
+        List<Long> roots = new ArrayList<>();
+        for (CategoryNodeDTO node : nodes) {
+            if (node.parentId() == null || !ids.contains(node.parentId())) {
+                roots.add(node.id());
+            } else {
+                childrenByParent.computeIfAbsent(node.parentId(), k -> new ArrayList<>()).add(node.id());
+            }
+        }
+        roots.sort(Comparator.reverseOrder());
+        childrenByParent.values().forEach(c -> c.sort(Comparator.reverseOrder()));
+
+        int size = ids.size();
+        Long[] order = new Long[size];
+        int[] parentIndex = new int[size];
+        Map<Long, Integer> entries = HashMap.newHashMap(size);
+
+        // Iterative pre-order walk; each stack entry holds a category id and the index of its parent
+        Deque<long[]> stack = new ArrayDeque<>();
+        roots.forEach(r -> stack.push(new long[]{r, -1}));
+        int index = 0;
+        while (!stack.isEmpty()) {
+            long[] frame = stack.pop();
+            Long id = frame[0];
+            if (entries.containsKey(id)) {
+                continue;
+            }
+            order[index] = id;
+            parentIndex[index] = (int) frame[1];
+            entries.put(id, index);
+            for (Long child : childrenByParent.getOrDefault(id, List.of())) {
+                stack.push(new long[]{child, index});
+            }
+            index++;
+        }
+
+        // Subtree sizes accumulate bottom-up, since every child is placed after its parent
+        int[] exits = new int[index];
+        int[] subtreeSizes = new int[index];
+        for (int i = index - 1; i >= 0; i--) {
+            subtreeSizes[i]++;
+            exits[i] = i + subtreeSizes[i];
+            if (parentIndex[i] >= 0) {
+                subtreeSizes[parentIndex[i]] += subtreeSizes[i];
+            }
+        }
+        return new CategoryTree(version, Arrays.copyOf(order, index), Collections.unmodifiableMap(entries), exits);
+    }
+
+    /**
+     * Returns the ids of the category and all of its descendants, or an empty list if the category is unknown.
+     */
+    public List<Long> getDescendantIds(Long categoryId) {
+        Integer entry = entries.get(categoryId);
+        if (entry == null) {
+            return List.of();
+        }
+        return Collections.unmodifiableList(Arrays.asList(order).subList(entry, exits[entry]));
+    }
+
+    public boolean contains(Long categoryId) {
+        return entries.containsKey(categoryId);
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,124 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.ItemDetailedDTO;
+import com.app.domain.item.dtos.ItemMediaDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of item detail views, weighed by their approximate size in bytes.
+ * Entries remember the item version they were built from, so a write only evicts
+ * entries built from another version.
+ * Writes that change a detail view without changing the item row (its media, category title or
+ * seller profile) evict explicitly; anything written past the services is served until the TTL.
+ * Details are loaded outside the cache's map lock, so a request thread never blocks on the
+ * database while holding a monitor (which would pin a virtual thread to its carrier). A load
+ * that overlaps an eviction of its item, or a scan, is returned but not cached. Evictions are
+ * stamped per key (in a fixed number of stripes), so steady writes to some items do not keep
+ * loads of the others out of the cache. Callers load on the primary, as a replica may still be
+ * behind the write that evicted the entry.
+ */
+@Component
+public class ItemDetailCache {
+    public static final String CACHE_NAME = "item.detail";
+
+    private static final int ENTRY_OVERHEAD = 512;
+    private static final int MEDIA_OVERHEAD = 256;
+    private static final int STAMP_STRIPES = 1024;
+
+    record Entry(long version, ItemDetailedDTO item) {
+    }
+
+    private final Cache<UUID, Entry> cache;
+    private final AtomicLongArray evictions = new AtomicLongArray(STAMP_STRIPES);
+    private final AtomicLong scans = new AtomicLong();
+
+    public ItemDetailCache(@Value("${item.cache.detail.ttl}") long ttl,
+                           @Value("${item.cache.detail.max-weight}") long maxWeight,
+                           MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .maximumWeight(maxWeight)
+                .weigher((UUID id, Entry entry) -> weigh(entry.item()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public ItemDetailedDTO get(UUID itemId, Supplier<Entry> loader) {
+        Entry cached = cache.getIfPresent(itemId);
+        if (cached != null) {
+            return cached.item();
+        }
+        int stripe = stripe(itemId);
+        long stamp = evictions.get(stripe);
+        long scan = scans.get();
+        Entry loaded = loader.get();
+        if (evictions.get(stripe) == stamp && scans.get() == scan) {
+            cache.asMap().putIfAbsent(itemId, loaded);
+        }
+        return loaded.item();
+    }
+
+    public void evictIfStale(UUID itemId, long currentVersion) {
+        evictions.incrementAndGet(stripe(itemId));
+        cache.asMap().computeIfPresent(itemId, (id, entry) -> entry.version() == currentVersion ? entry : null);
+    }
+
+    public void evict(UUID itemId) {
+        evictions.incrementAndGet(stripe(itemId));
+        cache.invalidate(itemId);
+    }
+
+    /**
+     * Scans the cache, which is bounded in size; meant for rare writes shared by many items.
+     */
+    public void evictBySeller(Long sellerId) {
+        scans.incrementAndGet();
+        cache.asMap().values().removeIf(entry -> sellerId.equals(entry.item().seller().id()));
+    }
+
+    /**
+     * Scans the cache, which is bounded in size; meant for rare writes shared by many items.
+     */
+    public void evictByCategory(String categoryTitle) {
+        scans.incrementAndGet();
+        cache.asMap().values().removeIf(entry -> categoryTitle.equals(entry.item().category()));
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static int stripe(UUID itemId) {
+        return (itemId.hashCode() & Integer.MAX_VALUE) % STAMP_STRIPES;
+    }
+
+    private static int weigh(ItemDetailedDTO item) {
+        long weight = ENTRY_OVERHEAD
+                + 2L * length(item.title())
+                + 2L * length(item.description())
+                + 2L * length(item.category());
+        for (ItemMediaDTO media : item.media()) {
+            weight += MEDIA_OVERHEAD
+                    + 2L * length(media.altText())
+                    + 2L * length(media.media().title())
+                    + 2L * length(media.media().url());
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
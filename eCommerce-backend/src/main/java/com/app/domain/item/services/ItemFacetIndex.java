@@ -0,0 +1,260 @@
+package com.app.domain.item.services;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.app.global.constants.UserInputConstants.PRICE_SCALE;
+
+/**
+ * Columnar in-memory index of the catalog attributes items are filtered and faceted by.
+ * Every attribute is a primitive array indexed by document, and documents are kept dense:
+ * re-indexing overwrites an item's row in place, removing moves the last row into the gap.
+ * A search is one scan over the columns that yields the page and both facets together.
+ * Facets are disjunctive: category counts ignore the category filter and price bucket counts ignore
+ * the price filter, so every count tells how many hits picking that value would give.
+ */
+public class ItemFacetIndex {
+
+    static final long NO_CATEGORY = -1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    public record Document(UUID itemId, BigDecimal price, Long categoryId, long sellerId, boolean active, long createdMillis) {
+    }
+
+    /**
+     * Null fields do not filter. {@code categoryIds} is the whole subtree of the requested category.
+     */
+    public record Filter(Set<Long> categoryIds, BigDecimal minPrice, BigDecimal maxPrice, Long sellerId,
+                         Boolean active, Double minRating) {
+    }
+
+    /**
+     * {@code priceBucketCounts[i]} counts prices from bucket boundary {@code i} up to, excluding, boundary {@code i + 1}.
+     */
+    public record Result(List<UUID> itemIds, long total, Map<Long, Long> categoryCounts, long[] priceBucketCounts) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final long[] bucketBoundaries;
+    private final Map<UUID, Integer> docsByItem = new HashMap<>();
+    private UUID[] items = new UUID[INITIAL_CAPACITY];
+    private long[] prices = new long[INITIAL_CAPACITY];
+    private long[] categories = new long[INITIAL_CAPACITY];
+    private long[] sellers = new long[INITIAL_CAPACITY];
+    private long[] created = new long[INITIAL_CAPACITY];
+    private long[] ratingSums = new long[INITIAL_CAPACITY];
+    private long[] ratingCounts = new long[INITIAL_CAPACITY];
+    private final BitSet active = new BitSet();
+    private int size;
+
+    /**
+     * @param bucketBoundaries ascending lower bounds of the price buckets; the last bucket is open-ended
+     */
+    public ItemFacetIndex(List<BigDecimal> bucketBoundaries) {
+        this.bucketBoundaries = bucketBoundaries.stream()
+                .mapToLong(b -> toCents(b, RoundingMode.CEILING))
+                .sorted()
+                .toArray();
+    }
+
+    public void index(Document document) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByItem.get(document.itemId());
+            if (doc == null) {
+                doc = size++;
+                ensureCapacity(size);
+                docsByItem.put(document.itemId(), doc);
+                items[doc] = document.itemId();
+                ratingSums[doc] = 0;
+                ratingCounts[doc] = 0;
+            }
+            prices[doc] = toCents(document.price(), RoundingMode.HALF_UP);
+            categories[doc] = document.categoryId() != null ? document.categoryId() : NO_CATEGORY;
+            sellers[doc] = document.sellerId();
+            created[doc] = document.createdMillis();
+            active.set(doc, document.active());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID itemId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByItem.remove(itemId);
+            if (doc == null) {
+                return;
+            }
+            int last = --size;
+            if (doc != last) {
+                items[doc] = items[last];
+                prices[doc] = prices[last];
+                categories[doc] = categories[last];
+                sellers[doc] = sellers[last];
+                created[doc] = created[last];
+                ratingSums[doc] = ratingSums[last];
+                ratingCounts[doc] = ratingCounts[last];
+                active.set(doc, active.get(last));
+                docsByItem.put(items[doc], doc);
+            }
+            items[last] = null;
+            active.clear(last);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds {@code count} ratings of {@code rating} to the item; a negative count takes them away.
+     */
+    public void addRatings(UUID itemId, int rating, long count) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByItem.get(itemId);
+            if (doc != null) {
+                ratingSums[doc] += (long) rating * count;
+                ratingCounts[doc] += count;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clearRatings() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(ratingSums, 0, size, 0);
+            Arrays.fill(ratingCounts, 0, size, 0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void setRatings(UUID itemId, long ratingSum, long ratingCount) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByItem.get(itemId);
+            if (doc != null) {
+                ratingSums[doc] = ratingSum;
+                ratingCounts[doc] = ratingCount;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the matching items newest first, with the category and price bucket counts.
+     */
+    public Result search(Filter filter, int offset, int limit) {
+        long minPrice = filter.minPrice() != null ? toCents(filter.minPrice(), RoundingMode.CEILING) : Long.MIN_VALUE;
+        long maxPrice = filter.maxPrice() != null ? toCents(filter.maxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+        Map<Long, Long> categoryCounts = new HashMap<>();
+        long[] bucketCounts = new long[bucketBoundaries.length];
+
+        lock.readLock().lock();
+        try {
+            int[] hits = new int[size];
+            int total = 0;
+            for (int doc = 0; doc < size; doc++) {
+                if (!matchesBase(doc, filter)) {
+                    continue;
+                }
+                boolean categoryMatch = filter.categoryIds() == null || filter.categoryIds().contains(categories[doc]);
+                boolean priceMatch = prices[doc] >= minPrice && prices[doc] <= maxPrice;
+                if (priceMatch && categories[doc] != NO_CATEGORY) {
+                    categoryCounts.merge(categories[doc], 1L, Long::sum);
+                }
+                if (categoryMatch) {
+                    int bucket = bucketOf(prices[doc]);
+                    if (bucket >= 0) {
+                        bucketCounts[bucket]++;
+                    }
+                }
+                if (categoryMatch && priceMatch) {
+                    hits[total++] = doc;
+                }
+            }
+            return new Result(newestItems(hits, total, offset, limit), total, categoryCounts, bucketCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<BigDecimal> bucketBoundaries() {
+        return Arrays.stream(bucketBoundaries)
+                .mapToObj(b -> BigDecimal.valueOf(b, PRICE_SCALE))
+                .toList();
+    }
+
+    // Helpers
+
+    private boolean matchesBase(int doc, Filter filter) {
+        if (filter.active() != null && active.get(doc) != filter.active()) {
+            return false;
+        }
+        if (filter.sellerId() != null && sellers[doc] != filter.sellerId()) {
+            return false;
+        }
+        return filter.minRating() == null
+                || ratingCounts[doc] > 0 && ratingSums[doc] >= filter.minRating() * ratingCounts[doc];
+    }
+
+    private int bucketOf(long price) {
+        int position = Arrays.binarySearch(bucketBoundaries, price);
+        return position >= 0 ? position : -position - 2;
+    }
+
+    private List<UUID> newestItems(int[] hits, int total, int offset, int limit) {
+        long wanted = (long) offset + limit;
+        if (offset >= total || limit <= 0) {
+            return List.of();
+        }
+        // Min-heap of the newest "wanted" documents
+        Comparator<Integer> byAge = Comparator.<Integer>comparingLong(doc -> created[doc])
+                .thenComparing(doc -> items[doc]);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(byAge);
+        for (int i = 0; i < total; i++) {
+            if (heap.size() < wanted) {
+                heap.add(hits[i]);
+            } else if (byAge.compare(hits[i], heap.peek()) > 0) {
+                heap.poll();
+                heap.add(hits[i]);
+            }
+        }
+        List<Integer> ranked = new ArrayList<>(heap);
+        ranked.sort(byAge.reversed());
+        return ranked.subList(offset, ranked.size()).stream()
+                .map(doc -> items[doc])
+                .toList();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > items.length) {
+            int newLength = Math.max(capacity, items.length * 2);
+            items = Arrays.copyOf(items, newLength);
+            prices = Arrays.copyOf(prices, newLength);
+            categories = Arrays.copyOf(categories, newLength);
+            sellers = Arrays.copyOf(sellers, newLength);
+            created = Arrays.copyOf(created, newLength);
+            ratingSums = Arrays.copyOf(ratingSums, newLength);
+            ratingCounts = Arrays.copyOf(ratingCounts, newLength);
+        }
+    }
+
+    private static long toCents(BigDecimal amount, RoundingMode roundingMode) {
+        return amount.setScale(PRICE_SCALE, roundingMode).unscaledValue().longValueExact();
+    }
+}
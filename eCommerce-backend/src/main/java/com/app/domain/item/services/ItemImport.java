@@ -0,0 +1,102 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.ItemImportErrorDTO;
+import com.app.domain.item.enums.ItemImportStatus;
+import com.app.domain.member.entities.Member;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of one import, updated by the worker running it and read by any request polling it.
+ */
+public class ItemImport {
+
+    private final UUID id = UUID.randomUUID();
+    private final Member seller;
+    private final int maxErrors;
+    private final LocalDateTime createdDate = LocalDateTime.now();
+
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong itemsCreated = new AtomicLong();
+    private final AtomicLong rowsFailed = new AtomicLong();
+    private final List<ItemImportErrorDTO> errors = new ArrayList<>();
+
+    private volatile ItemImportStatus status = ItemImportStatus.QUEUED;
+    private volatile LocalDateTime finishedDate;
+
+    ItemImport(Member seller, int maxErrors) {
+        this.seller = seller;
+        this.maxErrors = maxErrors;
+    }
+
+    void start() {
+        status = ItemImportStatus.RUNNING;
+    }
+
+    void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    void itemsCreated(int count) {
+        itemsCreated.addAndGet(count);
+    }
+
+    // Only the first maxErrors rows are listed, so a file of bad rows cannot use up the memory
+    void rowFailed(long row, String message) {
+        rowsFailed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < maxErrors) {
+                errors.add(new ItemImportErrorDTO(row, message));
+            }
+        }
+    }
+
+    void finish(ItemImportStatus finalStatus) {
+        finishedDate = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+    // AUTO GENERATED
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Member getSeller() {
+        return seller;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    public long getRowsRead() {
+        return rowsRead.get();
+    }
+
+    public long getItemsCreated() {
+        return itemsCreated.get();
+    }
+
+    public long getRowsFailed() {
+        return rowsFailed.get();
+    }
+
+    public List<ItemImportErrorDTO> getErrors() {
+        synchronized (errors) {
+            return List.copyOf(errors);
+        }
+    }
+
+    public ItemImportStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getFinishedDate() {
+        return finishedDate;
+    }
+}
@@ -0,0 +1,168 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.requests.ItemImportRow;
+import com.app.domain.item.enums.ItemImportFormat;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads the rows of an import file one at a time, so a file of any size is read in constant memory.
+ * <p>
+ * A CSV file starts with a header naming its columns: {@code title}, {@code price}, {@code description}, {@code quantity},
+ * {@code categoryId} and {@code mediaUrls}, the URLs separated by {@code ;}. An NDJSON file holds one JSON object
+ * with the same fields per line, {@code mediaUrls} being an array. Unknown columns and fields are ignored.
+ * <p>
+ * A row that cannot be read comes back with its error and reading goes on with the next one; only a broken file
+ * (e.g. an unterminated CSV quote) ends the read with an {@link IOException}.
+ */
+abstract class ItemImportReader implements Closeable {
+
+    /**
+     * @param number the line the row starts on
+     * @param item   {@code null} when the row could not be read
+     */
+    record Row(long number, ItemImportRow item, String error) {
+    }
+
+    private static final ObjectReader JSON_READER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(ItemImportRow.class);
+    private static final ObjectReader CSV_READER = new CsvMapper()
+            .enable(CsvParser.Feature.WRAP_AS_ARRAY)
+            .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .readerForListOf(String.class);
+    private static final String MEDIA_URL_SEPARATOR = ";";
+
+    static ItemImportReader open(Path file, ItemImportFormat format) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        try {
+            return switch (format) {
+                case CSV -> new Csv(reader);
+                case NDJSON -> new Ndjson(reader);
+            };
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * The next row, or {@code null} at the end of the file.
+     */
+    abstract Row next() throws IOException;
+
+    private static final class Ndjson extends ItemImportReader {
+        private final BufferedReader reader;
+        private long lineNumber;
+
+        Ndjson(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        Row next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.isBlank());
+            try {
+                return new Row(lineNumber, JSON_READER.readValue(line), null);
+            } catch (JsonProcessingException e) {
+                return new Row(lineNumber, null, e.getOriginalMessage());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static final class Csv extends ItemImportReader {
+        private final MappingIterator<List<String>> rows;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        Csv(BufferedReader reader) throws IOException {
+            this.rows = CSV_READER.readValues(reader);
+            if (!rows.hasNextValue()) {
+                return;
+            }
+            List<String> header = rows.nextValue();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i), i);
+            }
+        }
+
+        @Override
+        Row next() throws IOException {
+            if (!rows.hasNextValue()) {
+                return null;
+            }
+            long lineNumber = rows.getParser().currentLocation().getLineNr();
+            List<String> values = rows.nextValue();
+            if (values.size() > columns.size()) {
+                return new Row(lineNumber, null,
+                        "%d values for %d columns".formatted(values.size(), columns.size()));
+            }
+            try {
+                String mediaUrls = value(values, "mediaUrls");
+                return new Row(lineNumber, new ItemImportRow(
+                        value(values, "title"),
+                        number(values, "price", BigDecimal::new),
+                        value(values, "description"),
+                        number(values, "quantity", Integer::valueOf),
+                        number(values, "categoryId", Long::valueOf),
+                        mediaUrls != null ? Arrays.stream(mediaUrls.split(MEDIA_URL_SEPARATOR)).map(String::trim).toList() : null),
+                        null);
+            } catch (IllegalArgumentException e) {
+                return new Row(lineNumber, null, e.getMessage());
+            }
+        }
+
+        private <T> T number(List<String> values, String column, Function<String, T> parser) {
+            String value = value(values, column);
+            try {
+                return value != null ? parser.apply(value) : null;
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(column + ": must be a number");
+            }
+        }
+
+        // null for a missing or empty value
+        private String value(List<String> values, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.size() || values.get(index).isEmpty()) {
+                return null;
+            }
+            return values.get(index);
+        }
+
+        @Override
+        public void close() throws IOException {
+            rows.close();
+        }
+    }
+}
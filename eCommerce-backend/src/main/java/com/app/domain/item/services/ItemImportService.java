@@ -0,0 +1,330 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.ItemImportDTO;
+import com.app.domain.item.dtos.requests.ItemImportRow;
+import com.app.domain.item.entities.Category;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.entities.ItemMedia;
+import com.app.domain.item.enums.ItemImportFormat;
+import com.app.domain.item.enums.ItemImportStatus;
+import com.app.domain.item.exceptions.CategoryNotFoundException;
+import com.app.domain.item.exceptions.ItemImportNotFoundException;
+import com.app.domain.item.exceptions.ItemImportTooLargeException;
+import com.app.domain.item.exceptions.TooManyItemImportsException;
+import com.app.domain.item.mappers.ItemImportMapper;
+import com.app.domain.item.mappers.ItemMediaMapper;
+import com.app.domain.member.entities.Member;
+import com.app.global.enums.FileFormat;
+import com.app.global.exceptions.FailedToUploadFileException;
+import com.app.global.exceptions.ForbiddenException;
+import com.app.global.exceptions.UnsupportedFileFormatException;
+import com.app.global.utils.AuthUtils;
+import com.app.global.utils.FileUtils;
+import com.app.global.vos.Media;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.apache.commons.io.FilenameUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Imports the items of a seller's CSV or NDJSON file in the background.
+ * <p>
+ * The file is the request body, of type {@code text/csv} or {@code application/x-ndjson}. It is streamed to a temporary
+ * file and read row by row by one of {@code item.import.workers} workers, on virtual or platform threads as
+ * {@code spring.threads.virtual.enabled} says.
+ * Valid rows are saved {@code item.import.batch-size} at a time, each batch in one transaction; a batch that fails
+ * is saved again row by row, so only its bad rows are rejected. Rejected rows are reported with their line and reason.
+ * Progress is kept in memory for {@code item.import.retention} after the import was started or finished.
+ * <p>
+ * Uploads over {@code item.import.max-file-size} are rejected before they are read when their length is given, and
+ * otherwise as soon as that much has been read, so no more than that is ever written to disk. Queued and running
+ * imports are capped at {@code item.import.max-pending-per-seller} per seller and {@code item.import.max-pending}
+ * in all, so the queue of the worker pool and the spooled files it refers to stay bounded.
+ */
+@Service
+public class ItemImportService {
+    private static final Logger log = LoggerFactory.getLogger(ItemImportService.class);
+    private static final int SPOOL_BUFFER_SIZE = 8192;
+
+    private record PendingItem(long row, ItemImportRow item, Category category, List<Media> media) {
+    }
+
+    private final ItemService itemService;
+    private final CategoryService categoryService;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxErrors;
+    private final long maxFileSize;
+    private final int maxPendingPerSeller;
+    private final int maxPending;
+    // Queued and running imports by seller id, guarded by itself
+    private final Map<Long, Integer> pendingBySeller = new HashMap<>();
+    private final Cache<UUID, ItemImport> imports;
+    private final ExecutorService workerPool;
+
+    public ItemImportService(ItemService itemService,
+                             CategoryService categoryService,
+                             Validator validator,
+                             @Value("${item.import.batch-size}") int batchSize,
+                             @Value("${item.import.workers}") int workers,
+                             @Value("${item.import.max-errors}") int maxErrors,
+                             @Value("${item.import.retention}") long retention,
+                             @Value("${item.import.max-file-size}") DataSize maxFileSize,
+                             @Value("${item.import.max-pending-per-seller}") int maxPendingPerSeller,
+                             @Value("${item.import.max-pending}") int maxPending,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.itemService = itemService;
+        this.categoryService = categoryService;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxPendingPerSeller = maxPendingPerSeller;
+        this.maxPending = maxPending;
+        this.imports = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(retention))
+                .build();
+        // The pool still caps the imports running at once when its threads are virtual
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name("item-import-", 0).factory()
+                : Thread.ofPlatform().name("item-import-", 0).factory();
+        this.workerPool = Executors.newFixedThreadPool(workers, threadFactory);
+    }
+
+    /**
+     * @param contentLength {@code -1} when unknown
+     */
+    public ItemImportDTO start(String contentType, long contentLength, InputStream body) {
+        Member seller = AuthUtils.getAuthenticated();
+        ItemImportFormat format = getFormat(contentType);
+        if (contentLength > maxFileSize) {
+            throw new ItemImportTooLargeException();
+        }
+        acquire(seller.getId());
+        Path upload = null;
+        boolean queued = false;
+        try {
+            upload = Files.createTempFile("item-import-", "." + format.name().toLowerCase());
+            spool(body, upload);
+            ItemImport itemImport = new ItemImport(seller, maxErrors);
+            imports.put(itemImport.getId(), itemImport);
+            Path spooled = upload;
+            workerPool.execute(() -> run(itemImport, spooled, format));
+            queued = true;
+            return ItemImportMapper.toItemImportDTO(itemImport);
+        } catch (IOException e) {
+            throw new FailedToUploadFileException();
+        } finally {
+            // The worker releases the slot and deletes the upload of a queued import
+            if (!queued) {
+                release(seller.getId());
+                if (upload != null) {
+                    deleteUpload(upload);
+                }
+            }
+        }
+    }
+
+    private void spool(InputStream body, Path upload) throws IOException {
+        try (OutputStream out = Files.newOutputStream(upload)) {
+            byte[] buffer = new byte[SPOOL_BUFFER_SIZE];
+            long written = 0;
+            int read;
+            while ((read = body.read(buffer)) != -1) {
+                written += read;
+                if (written > maxFileSize) {
+                    throw new ItemImportTooLargeException();
+                }
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    public ItemImportDTO getById(UUID importId) {
+        ItemImport itemImport = imports.getIfPresent(importId);
+        if (itemImport == null) {
+            throw new ItemImportNotFoundException();
+        }
+        if (AuthUtils.isNotAllowedModifier(itemImport.getSeller())) {
+            throw new ForbiddenException();
+        }
+        return ItemImportMapper.toItemImportDTO(itemImport);
+    }
+
+    private void acquire(Long sellerId) {
+        synchronized (pendingBySeller) {
+            int total = pendingBySeller.values().stream().mapToInt(Integer::intValue).sum();
+            if (total >= maxPending || pendingBySeller.getOrDefault(sellerId, 0) >= maxPendingPerSeller) {
+                throw new TooManyItemImportsException();
+            }
+            pendingBySeller.merge(sellerId, 1, Integer::sum);
+        }
+    }
+
+    private void release(Long sellerId) {
+        synchronized (pendingBySeller) {
+            pendingBySeller.computeIfPresent(sellerId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workerPool.shutdownNow();
+    }
+
+    private void run(ItemImport itemImport, Path upload, ItemImportFormat format) {
+        itemImport.start();
+        ItemImportStatus status = ItemImportStatus.COMPLETED;
+        Map<Long, Optional<Category>> categories = new HashMap<>();
+        List<PendingItem> batch = new ArrayList<>(batchSize);
+        try (ItemImportReader reader = ItemImportReader.open(upload, format)) {
+            ItemImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                itemImport.rowRead();
+                PendingItem pending = row.item() != null ? validate(itemImport, row, categories) : null;
+                if (pending != null) {
+                    batch.add(pending);
+                } else if (row.error() != null) {
+                    itemImport.rowFailed(row.number(), row.error());
+                }
+                if (batch.size() == batchSize) {
+                    save(itemImport, batch);
+                    batch.clear();
+                }
+            }
+            save(itemImport, batch);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Item import {} stopped after {} rows", itemImport.getId(), itemImport.getRowsRead(), e);
+            itemImport.rowFailed(itemImport.getRowsRead() + 1, "Unreadable file: " + e.getMessage());
+            status = ItemImportStatus.FAILED;
+        } finally {
+            deleteUpload(upload);
+            release(itemImport.getSeller().getId());
+        }
+        itemImport.finish(status);
+        // Written again, so a finished import is kept for the whole retention
+        imports.put(itemImport.getId(), itemImport);
+    }
+
+    // Records the errors of an invalid row and returns null for it
+    private PendingItem validate(ItemImport itemImport, ItemImportReader.Row row, Map<Long, Optional<Category>> categories) {
+        ItemImportRow item = row.item();
+        Set<ConstraintViolation<ItemImportRow>> violations = validator.validate(item);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<ItemImportRow> violation = violations.iterator().next();
+            itemImport.rowFailed(row.number(), violation.getPropertyPath() + ": " + violation.getMessage());
+            return null;
+        }
+        Category category = null;
+        if (item.categoryId() != null) {
+            Optional<Category> found = categories.computeIfAbsent(item.categoryId(), this::findCategory);
+            if (found.isEmpty()) {
+                itemImport.rowFailed(row.number(), new CategoryNotFoundException().getMessage());
+                return null;
+            }
+            category = found.get();
+        }
+        List<Media> media = new ArrayList<>();
+        for (String url : Objects.requireNonNullElse(item.mediaUrls(), List.<String>of())) {
+            try {
+                media.add(toMedia(url));
+            } catch (IllegalArgumentException | UnsupportedFileFormatException e) {
+                itemImport.rowFailed(row.number(), "mediaUrls: " + url + ": " + e.getMessage());
+                return null;
+            }
+        }
+        return new PendingItem(row.number(), item, category, media);
+    }
+
+    private Optional<Category> findCategory(Long categoryId) {
+        try {
+            return Optional.of(categoryService.findById(categoryId));
+        } catch (CategoryNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private void save(ItemImport itemImport, List<PendingItem> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            itemService.createAll(batch.stream().map(pending -> toItem(itemImport, pending)).toList());
+            itemImport.itemsCreated(batch.size());
+        } catch (RuntimeException e) {
+            for (PendingItem pending : batch) {
+                try {
+                    itemService.createAll(List.of(toItem(itemImport, pending)));
+                    itemImport.itemsCreated(1);
+                } catch (RuntimeException rowException) {
+                    itemImport.rowFailed(pending.row(), rowException.getMessage());
+                }
+            }
+        }
+    }
+
+    // Entities are mapped for every attempt, as a failed save leaves them with ids assigned
+    private static Item toItem(ItemImport itemImport, PendingItem pending) {
+        List<ItemMedia> mediaList = pending.media().stream().map(ItemMediaMapper::toItemMedia).toList();
+        return ItemImportMapper.toItem(pending.item(), pending.category(), mediaList, itemImport.getSeller());
+    }
+
+    // Imported media stay where they are, served over HTTPS only, and are never deleted from the bucket
+    private static Media toMedia(String url) {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("not a valid URL");
+        }
+        if (!"https".equalsIgnoreCase(uri.getScheme()) || uri.getHost() == null || uri.getPath() == null) {
+            throw new IllegalArgumentException("not an https URL");
+        }
+        String format = FileUtils.getValidatedFileFormat(uri.getPath());
+        return Media.external(FilenameUtils.getName(uri.getPath()), url, FileFormat.valueOf(format));
+    }
+
+    private static ItemImportFormat getFormat(String contentType) {
+        MediaType mediaType;
+        try {
+            mediaType = MediaType.parseMediaType(Objects.requireNonNullElse(contentType, ""));
+        } catch (InvalidMediaTypeException e) {
+            throw new UnsupportedFileFormatException();
+        }
+        return switch (mediaType.getType().toLowerCase() + "/" + mediaType.getSubtype().toLowerCase()) {
+            case "text/csv" -> ItemImportFormat.CSV;
+            case "application/x-ndjson", "application/jsonl" -> ItemImportFormat.NDJSON;
+            default -> throw new UnsupportedFileFormatException();
+        };
+    }
+
+    private static void deleteUpload(Path upload) {
+        try {
+            Files.deleteIfExists(upload);
+        } catch (IOException e) {
+            log.warn("Could not delete item import upload {}", upload, e);
+        }
+    }
+}
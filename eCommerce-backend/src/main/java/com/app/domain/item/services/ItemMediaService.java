@@ -1,23 +1,56 @@
 package com.app.domain.item.services;
 
+import com.app.domain.item.entities.Item;
 import com.app.domain.item.entities.ItemMedia;
 import com.app.domain.item.repositories.ItemMediaRepository;
+import com.app.global.utils.TransactionUtils;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 @Service
 public class ItemMediaService {
 
     private final ItemMediaRepository itemMediaRepository;
+    private final ItemDetailCache itemDetailCache;
 
-    public ItemMediaService(ItemMediaRepository itemMediaRepository) {
+    public ItemMediaService(ItemMediaRepository itemMediaRepository, ItemDetailCache itemDetailCache) {
         this.itemMediaRepository = itemMediaRepository;
+        this.itemDetailCache = itemDetailCache;
     }
 
+    // Media rows do not change the item's version, so cached details are evicted explicitly
     public ItemMedia save(ItemMedia itemMedia) {
-        return itemMediaRepository.save(itemMedia);
+        ItemMedia saved = itemMediaRepository.save(itemMedia);
+        evictItem(saved);
+        return saved;
     }
 
     public void delete(ItemMedia itemMedia) {
         itemMediaRepository.delete(itemMedia);
+        evictItem(itemMedia);
+    }
+
+    private void evictItem(ItemMedia itemMedia) {
+        if (itemMedia.getItem() != null && itemMedia.getItem().getId() != null) {
+            UUID itemId = itemMedia.getItem().getId();
+            TransactionUtils.afterCommit(() -> itemDetailCache.evict(itemId));
+        }
+    }
+
+    /**
+     * Loads the media of all given items with a single query, grouped by item id.
+     */
+    public Map<UUID, List<ItemMedia>> findAllByItems(Collection<Item> items) {
+        if (items.isEmpty()) {
+            return Map.of();
+        }
+        List<UUID> itemIds = items.stream().map(Item::getId).toList();
+        return itemMediaRepository.findAllByItemIds(itemIds).stream()
+                .collect(Collectors.groupingBy(m -> m.getItem().getId()));
     }
 }
@@ -0,0 +1,356 @@
+package com.app.domain.item.services;
+
+import com.app.global.utils.TextUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over item titles and descriptions, ranked with BM25.
+ * Documents get increasing internal ids, so every posting list is sorted by construction.
+ * Re-indexing an item tombstones its old document and appends a new one; the index
+ * compacts itself once tombstones outnumber live documents.
+ */
+public class ItemSearchIndex {
+
+    static final float TITLE_WEIGHT = 3f;
+    static final float PREFIX_WEIGHT = 0.5f;
+    static final int PREFIX_EXPANSIONS_MAX = 64;
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int COMPACTION_THRESHOLD_MIN = 1024;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    public record Hits(List<UUID> itemIds, long total) {
+        static final Hits EMPTY = new Hits(List.of(), 0);
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<UUID, Integer> docsByItem = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private UUID[] items = new UUID[INITIAL_CAPACITY];
+    private float[] lengths = new float[INITIAL_CAPACITY];
+    private byte[][] fingerprints = new byte[INITIAL_CAPACITY][];
+    private int docCount;
+    private int liveCount;
+    private double totalLength;
+
+    public void index(UUID itemId, String title, String description) {
+        byte[] fingerprint = fingerprint(title, description);
+        lock.readLock().lock();
+        try {
+            Integer existing = docsByItem.get(itemId);
+            if (existing != null && Arrays.equals(fingerprints[existing], fingerprint)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Map<String, Float> frequencies = new HashMap<>();
+        TextUtils.tokenize(title).forEach(t -> frequencies.merge(t, TITLE_WEIGHT, Float::sum));
+        TextUtils.tokenize(description).forEach(t -> frequencies.merge(t, 1f, Float::sum));
+        float length = (float) frequencies.values().stream().mapToDouble(Float::doubleValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docsByItem.get(itemId);
+            if (existing != null) {
+                if (Arrays.equals(fingerprints[existing], fingerprint)) {
+                    return;
+                }
+                tombstone(existing);
+            }
+            int doc = docCount++;
+            ensureCapacity(docCount);
+            items[doc] = itemId;
+            lengths[doc] = length;
+            fingerprints[doc] = fingerprint;
+            live.set(doc);
+            liveCount++;
+            totalLength += length;
+            docsByItem.put(itemId, doc);
+            frequencies.forEach((term, frequency) -> terms.computeIfAbsent(term, k -> new Postings()).add(doc, frequency));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID itemId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docsByItem.remove(itemId);
+            if (doc != null) {
+                tombstone(doc);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the items matching every query token, best match first.
+     * A token also matches longer terms starting with it, at a reduced weight.
+     */
+    public Hits search(String query, int offset, int limit) {
+        List<String> tokens = TextUtils.tokenize(query).stream().distinct().toList();
+        if (tokens.isEmpty() || limit <= 0) {
+            return Hits.EMPTY;
+        }
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return Hits.EMPTY;
+            }
+            float averageLength = (float) (totalLength / liveCount);
+            List<ScoredDocs> matches = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                ScoredDocs match = match(token, averageLength);
+                if (match.size == 0) {
+                    return Hits.EMPTY;
+                }
+                matches.add(match);
+            }
+            matches.sort(Comparator.comparingInt(ScoredDocs::size));
+            ScoredDocs result = matches.getFirst();
+            for (int i = 1; i < matches.size() && result.size > 0; i++) {
+                result = result.intersect(matches.get(i));
+            }
+            return new Hits(topItems(result, offset, limit), result.size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Helpers
+
+    private ScoredDocs match(String token, float averageLength) {
+        List<Postings> matched = new ArrayList<>();
+        List<Float> weights = new ArrayList<>();
+        Postings exact = terms.get(token);
+        if (exact != null) {
+            matched.add(exact);
+            weights.add(1f);
+        }
+        for (Postings postings : terms.subMap(token, false, token + Character.MAX_VALUE, false).values()) {
+            if (weights.size() - (exact != null ? 1 : 0) >= PREFIX_EXPANSIONS_MAX) {
+                break;
+            }
+            matched.add(postings);
+            weights.add(PREFIX_WEIGHT);
+        }
+
+        int total = matched.stream().mapToInt(p -> p.size).sum();
+        int[] docs = new int[total];
+        float[] scores = new float[total];
+        int size = 0;
+        for (int i = 0; i < matched.size(); i++) {
+            Postings postings = matched.get(i);
+            float idf = idf(postings.size);
+            float weight = weights.get(i);
+            for (int j = 0; j < postings.size; j++) {
+                int doc = postings.docs[j];
+                if (!live.get(doc)) {
+                    continue;
+                }
+                float frequency = postings.frequencies[j];
+                float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                docs[size] = doc;
+                scores[size] = weight * idf * frequency * (K1 + 1) / (frequency + norm);
+                size++;
+            }
+        }
+        ScoredDocs scored = new ScoredDocs(docs, scores, size);
+        return matched.size() > 1 ? scored.sortAndMergeByMax() : scored;
+    }
+
+    private float idf(int documentFrequency) {
+        int frequency = Math.min(documentFrequency, liveCount);
+        return (float) Math.log(1 + (liveCount - frequency + 0.5) / (frequency + 0.5));
+    }
+
+    private List<UUID> topItems(ScoredDocs result, int offset, int limit) {
+        long wanted = (long) offset + limit;
+        if (offset >= result.size) {
+            return List.of();
+        }
+        // Min-heap of the best "wanted" positions, ties broken by older documents first
+        Comparator<Integer> byRank = Comparator.<Integer>comparingDouble(i -> result.scores[i])
+                .thenComparing(i -> -result.docs[i]);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(byRank);
+        for (int i = 0; i < result.size; i++) {
+            if (heap.size() < wanted) {
+                heap.add(i);
+            } else if (byRank.compare(i, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        }
+        List<Integer> ranked = new ArrayList<>(heap);
+        ranked.sort(byRank.reversed());
+        return ranked.subList(offset, ranked.size()).stream()
+                .map(i -> items[result.docs[i]])
+                .toList();
+    }
+
+    private void tombstone(int doc) {
+        live.clear(doc);
+        liveCount--;
+        totalLength -= lengths[doc];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > items.length) {
+            int newLength = Math.max(capacity, items.length * 2);
+            items = Arrays.copyOf(items, newLength);
+            lengths = Arrays.copyOf(lengths, newLength);
+            fingerprints = Arrays.copyOf(fingerprints, newLength);
+        }
+    }
+
+    private void compactIfNeeded() {
+        int dead = docCount - liveCount;
+        if (dead < Math.max(COMPACTION_THRESHOLD_MIN, liveCount)) {
+            return;
+        }
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (live.get(doc)) {
+                remap[doc] = next;
+                items[next] = items[doc];
+                lengths[next] = lengths[doc];
+                fingerprints[next] = fingerprints[doc];
+                docsByItem.put(items[next], next);
+                next++;
+            } else {
+                remap[doc] = -1;
+            }
+        }
+        Arrays.fill(items, next, docCount, null);
+        Arrays.fill(fingerprints, next, docCount, null);
+        terms.values().removeIf(postings -> postings.compact(remap) == 0);
+        live.clear();
+        live.set(0, next);
+        docCount = next;
+    }
+
+    // SHA-256 of both fields, so an edit is only skipped when its text is really unchanged
+    private static byte[] fingerprint(String title, String description) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, title);
+        update(digest, description);
+        return digest.digest();
+    }
+
+    // Length-prefixed, so neither a null nor a shifted boundary between the fields digests like other text
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).array());
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+
+        void add(int doc, float frequency) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docs[size] = doc;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        int compact(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int doc = remap[docs[i]];
+                if (doc >= 0) {
+                    docs[next] = doc;
+                    frequencies[next] = frequencies[i];
+                    next++;
+                }
+            }
+            size = next;
+            return size;
+        }
+    }
+
+    private record ScoredDocs(int[] docs, float[] scores, int size) {
+
+        // A document matched by several expansions of one token keeps its best score
+        ScoredDocs sortAndMergeByMax() {
+            long[] keyed = new long[size];
+            for (int i = 0; i < size; i++) {
+                keyed[i] = ((long) docs[i] << 32) | i;
+            }
+            Arrays.sort(keyed);
+            int[] mergedDocs = new int[size];
+            float[] mergedScores = new float[size];
+            int merged = 0;
+            for (long key : keyed) {
+                int doc = (int) (key >>> 32);
+                float score = scores[(int) key];
+                if (merged > 0 && mergedDocs[merged - 1] == doc) {
+                    mergedScores[merged - 1] = Math.max(mergedScores[merged - 1], score);
+                } else {
+                    mergedDocs[merged] = doc;
+                    mergedScores[merged] = score;
+                    merged++;
+                }
+            }
+            return new ScoredDocs(mergedDocs, mergedScores, merged);
+        }
+
+        ScoredDocs intersect(ScoredDocs other) {
+            int[] resultDocs = new int[Math.min(size, other.size)];
+            float[] resultScores = new float[resultDocs.length];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size && j < other.size) {
+                if (docs[i] < other.docs[j]) {
+                    i++;
+                } else if (docs[i] > other.docs[j]) {
+                    j++;
+                } else {
+                    resultDocs[count] = docs[i];
+                    resultScores[count] = scores[i] + other.scores[j];
+                    count++;
+                    i++;
+                    j++;
+                }
+            }
+            return new ScoredDocs(resultDocs, resultScores, count);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.ItemFacetDocumentDTO;
+import com.app.domain.item.dtos.ItemFacetSearchDTO;
+import com.app.domain.item.dtos.ItemSearchDocumentDTO;
+import com.app.domain.item.dtos.ItemSummaryDTO;
+import com.app.domain.item.dtos.requests.ItemFacetSearchRequest;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.entities.ItemMedia;
+import com.app.domain.item.mappers.ItemFacetMapper;
+import com.app.domain.item.mappers.ItemMapper;
+import com.app.domain.item.repositories.ItemRepository;
+import com.app.global.utils.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the in-memory full-text and facet indexes in step with the catalog and answers searches from them,
+ * reading only the returned page of items from the database.
+ */
+@Service
+public class ItemSearchService {
+    private static final int REINDEX_BATCH_SIZE = 1000;
+
+    private final ItemRepository itemRepository;
+    private final ItemMediaService itemMediaService;
+    private final CategoryService categoryService;
+    private final ItemSearchIndex index = new ItemSearchIndex();
+    private final ItemFacetIndex facetIndex;
+
+    public ItemSearchService(ItemRepository itemRepository, ItemMediaService itemMediaService, CategoryService categoryService,
+                             @Value("${item.facets.price-buckets}") List<BigDecimal> priceBuckets) {
+        this.itemRepository = itemRepository;
+        this.itemMediaService = itemMediaService;
+        this.categoryService = categoryService;
+        this.facetIndex = new ItemFacetIndex(priceBuckets);
+    }
+
+    // Runs before the listeners that load ratings into the facet index, which needs the items first
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Transactional(readOnly = true)
+    public void reindexAll() {
+        UUID lastId = null;
+        List<ItemSearchDocumentDTO> batch;
+        do {
+            batch = itemRepository.findSearchDocumentsAfter(lastId, Limit.of(REINDEX_BATCH_SIZE));
+            batch.forEach(d -> index.index(d.id(), d.title(), d.description()));
+            if (!batch.isEmpty()) {
+                lastId = batch.getLast().id();
+            }
+        } while (batch.size() == REINDEX_BATCH_SIZE);
+
+        lastId = null;
+        List<ItemFacetDocumentDTO> facetBatch;
+        do {
+            facetBatch = itemRepository.findFacetDocumentsAfter(lastId, Limit.of(REINDEX_BATCH_SIZE));
+            facetBatch.forEach(d -> facetIndex.index(ItemFacetMapper.toDocument(d)));
+            if (!facetBatch.isEmpty()) {
+                lastId = facetBatch.getLast().id();
+            }
+        } while (facetBatch.size() == REINDEX_BATCH_SIZE);
+    }
+
+    public void index(Item item) {
+        UUID id = item.getId();
+        String title = item.getTitle();
+        String description = item.getDescription();
+        ItemFacetIndex.Document document = ItemFacetMapper.toDocument(item);
+        TransactionUtils.afterCommit(() -> {
+            index.index(id, title, description);
+            facetIndex.index(document);
+        });
+    }
+
+    public void remove(UUID itemId) {
+        TransactionUtils.afterCommit(() -> {
+            index.remove(itemId);
+            facetIndex.remove(itemId);
+        });
+    }
+
+    /**
+     * Adds {@code count} ratings of {@code rating} to the item's average; a negative count takes them away.
+     */
+    public void addRatings(UUID itemId, int rating, long count) {
+        TransactionUtils.afterCommit(() -> facetIndex.addRatings(itemId, rating, count));
+    }
+
+    public void clearRatings() {
+        TransactionUtils.afterCommit(facetIndex::clearRatings);
+    }
+
+    public void indexRatings(UUID itemId, long ratingSum, long ratingCount) {
+        TransactionUtils.afterCommit(() -> facetIndex.setRatings(itemId, ratingSum, ratingCount));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ItemSummaryDTO> search(String query, Pageable pageable) {
+        ItemSearchIndex.Hits hits = index.search(query, offset(pageable), pageable.getPageSize());
+        return new PageImpl<>(toItemSummaries(hits.itemIds()), pageable, hits.total());
+    }
+
+    /**
+     * Filters the catalog by every given criterion, newest items first, and counts the hits per category
+     * and per price bucket. Only the page of items is read from the database.
+     */
+    @Transactional(readOnly = true)
+    public ItemFacetSearchDTO facetedSearch(ItemFacetSearchRequest request, Pageable pageable) {
+        Set<Long> categoryIds = request.categoryId() != null ? new HashSet<>(categoryService.findDescendantIds(request.categoryId())) : null;
+        ItemFacetIndex.Filter filter = new ItemFacetIndex.Filter(categoryIds, request.minPrice(), request.maxPrice(),
+                request.sellerId(), request.active() != null ? request.active() : Boolean.TRUE, request.minRating());
+        ItemFacetIndex.Result result = facetIndex.search(filter, offset(pageable), pageable.getPageSize());
+
+        Page<ItemSummaryDTO> page = new PageImpl<>(toItemSummaries(result.itemIds()), pageable, result.total());
+        return new ItemFacetSearchDTO(page,
+                ItemFacetMapper.toCategoryFacetDTOs(result.categoryCounts()),
+                ItemFacetMapper.toPriceBucketDTOs(facetIndex.bucketBoundaries(), result.priceBucketCounts()));
+    }
+
+    // The indexes hold fewer than Integer.MAX_VALUE items, so a larger offset is past the last hit either way
+    private static int offset(Pageable pageable) {
+        return (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE);
+    }
+
+    // Reads the items in one query and their media in another, keeping the given order
+    private List<ItemSummaryDTO> toItemSummaries(List<UUID> itemIds) {
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Item> itemsById = itemRepository.findAllById(itemIds).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<UUID, List<ItemMedia>> mediaByItem = itemMediaService.findAllByItems(itemsById.values());
+        return itemIds.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .map(i -> ItemMapper.toItemSummaryDTO(i, mediaByItem.getOrDefault(i.getId(), List.of())))
+                .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.app.domain.item.services;
 
+import com.app.domain.cart.exceptions.InsufficientStockException;
 import com.app.domain.item.dtos.ItemDetailedDTO;
 import com.app.domain.item.dtos.ItemSummaryDTO;
 import com.app.domain.item.dtos.requests.ModifyItemRequest;
@@ -7,22 +8,36 @@ import com.app.domain.item.dtos.requests.NewItemRequest;
 import com.app.domain.item.entities.Category;
 import com.app.domain.item.entities.Item;
 import com.app.domain.item.entities.ItemMedia;
+import com.app.domain.item.events.ItemDeactivatedEvent;
+import com.app.domain.item.events.ItemDeletedEvent;
+import com.app.domain.item.events.ItemPriceChangedEvent;
+import com.app.domain.item.events.ItemStockChangedEvent;
 import com.app.domain.item.exceptions.ItemNotFoundException;
 import com.app.domain.item.mappers.ItemMapper;
 import com.app.domain.item.mappers.ItemMediaMapper;
 import com.app.domain.item.repositories.ItemRepository;
 import com.app.domain.member.entities.Member;
 import com.app.domain.member.services.MemberService;
+import com.app.global.dtos.KeysetSliceDTO;
+import com.app.global.events.DomainEventBus;
 import com.app.global.exceptions.ForbiddenException;
+import com.app.global.mappers.KeysetSliceMapper;
 import com.app.global.utils.AuthUtils;
+import com.app.global.utils.TransactionUtils;
 import com.app.global.services.MediaService;
+import com.app.global.vos.KeysetCursor;
 import com.app.global.vos.Media;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.math.BigDecimal;
 import java.util.*;
 
 @Service
@@ -34,13 +49,24 @@ public class ItemService {
     private final MemberService memberService;
     private final MediaService mediaService;
     private final ItemMediaService itemMediaService;
+    private final ItemSearchService itemSearchService;
+    private final ItemDetailCache itemDetailCache;
+    private final DomainEventBus domainEventBus;
+    private final TransactionTemplate detailTransaction;
 
-    public ItemService(ItemRepository itemRepository, CategoryService categoryService, MemberService memberService, MediaService mediaService, ItemMediaService itemMediaService) {
+    public ItemService(ItemRepository itemRepository, CategoryService categoryService, MemberService memberService, MediaService mediaService, ItemMediaService itemMediaService, ItemSearchService itemSearchService, ItemDetailCache itemDetailCache, DomainEventBus domainEventBus,
+                       PlatformTransactionManager transactionManager) {
         this.itemRepository = itemRepository;
         this.categoryService = categoryService;
         this.memberService = memberService;
         this.mediaService = mediaService;
         this.itemMediaService = itemMediaService;
+        this.itemSearchService = itemSearchService;
+        this.itemDetailCache = itemDetailCache;
+        this.domainEventBus = domainEventBus;
+        // Read-write, so a detail is never cached from a replica still behind the write that evicted it
+        this.detailTransaction = new TransactionTemplate(transactionManager);
+        this.detailTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Transactional
@@ -59,13 +85,33 @@ public class ItemService {
         if (isNotAllowedItemModifier(item.getSeller())) {
             throw new ForbiddenException();
         }
+        BigDecimal oldPrice = item.getPrice();
+        int oldQuantity = item.getQuantity();
+        boolean wasActive = item.isActive();
         updateItemValues(item, request);
-        return save(item);
+        ItemSummaryDTO saved = save(item);
+        publishChanges(item, oldPrice, oldQuantity, wasActive);
+        return saved;
     }
 
     @Transactional
     public ItemSummaryDTO save(Item item) {
-        return ItemMapper.toItemSummaryDTO(itemRepository.saveAndFlush(item));
+        Item savedItem = itemRepository.saveAndFlush(item);
+        itemSearchService.index(savedItem);
+        UUID itemId = savedItem.getId();
+        long version = savedItem.getVersion();
+        TransactionUtils.afterCommit(() -> itemDetailCache.evictIfStale(itemId, version));
+        return ItemMapper.toItemSummaryDTO(savedItem);
+    }
+
+    /**
+     * Saves new items in one transaction, their rows inserted in JDBC batches.
+     */
+    @Transactional
+    public void createAll(List<Item> items) {
+        itemRepository.saveAll(items);
+        itemRepository.flush();
+        items.forEach(itemSearchService::index);
     }
 
     @Transactional
@@ -76,6 +122,9 @@ public class ItemService {
         }
         deleteAllCurrentMedia(item);
         itemRepository.delete(item);
+        itemSearchService.remove(id);
+        TransactionUtils.afterCommit(() -> itemDetailCache.evict(id));
+        domainEventBus.publish(new ItemDeletedEvent(id));
     }
 
     public Item findById(UUID id) {
@@ -83,60 +132,114 @@ public class ItemService {
                 .orElseThrow(ItemNotFoundException::new);
     }
 
+    public List<Item> findAllByIds(Collection<UUID> ids) {
+        return itemRepository.findAllById(ids);
+    }
+
     public Item findByIdWithLock(UUID id) {
         return itemRepository.findByIdWithLock(id)
                 .orElseThrow(ItemNotFoundException::new);
     }
 
     public ItemDetailedDTO findDetailedById(UUID id) {
-        Item item = findById(id);
-        return ItemMapper.toItemDetailedDTO(item);
+        return itemDetailCache.get(id, () -> detailTransaction.execute(status -> {
+            Item item = itemRepository.findDetailedById(id)
+                    .orElseThrow(ItemNotFoundException::new);
+            return new ItemDetailCache.Entry(item.getVersion(), ItemMapper.toItemDetailedDTO(item));
+        }));
     }
 
     public Page<ItemSummaryDTO> findAllByCategoryId(Long categoryId, Pageable pageable) {
-        Set<Category> categories = categoryService.findFrom(categoryId);
-        Page<Item> itemPage = itemRepository.findByCategories(categories, pageable);
-        return itemPage.map(ItemMapper::toItemSummaryDTO);
+        List<Long> categoryIds = categoryService.findDescendantIds(categoryId);
+        Page<Item> itemPage = itemRepository.findByCategoryIds(categoryIds, pageable);
+        return toItemSummaryPage(itemPage);
     }
 
     public Page<ItemSummaryDTO> findAllBySellerId(Long sellerId, Pageable pageable) {
         Member seller = memberService.findById(sellerId);
         Page<Item> itemPage = itemRepository.findBySeller(seller, pageable);
-        return itemPage.map(ItemMapper::toItemSummaryDTO);
+        return toItemSummaryPage(itemPage);
     }
 
     public Page<ItemSummaryDTO> findAllByTitle(String title, Pageable pageable) {
         Page<Item> itemPage = itemRepository.findByTitle(title, pageable);
-        return itemPage.map(ItemMapper::toItemSummaryDTO);
+        return toItemSummaryPage(itemPage);
     }
 
     public Page<ItemSummaryDTO> findAll(Pageable pageable) {
         Page<Item> itemPage = itemRepository.findAll(pageable);
-        return itemPage.map(ItemMapper::toItemSummaryDTO);
+        return toItemSummaryPage(itemPage);
     }
 
     public Page<ItemSummaryDTO> findAllByActive(boolean active, Pageable pageable) {
         Page<Item> itemPage = itemRepository.findAllByActive(active, pageable);
-        return itemPage.map(ItemMapper::toItemSummaryDTO);
+        return toItemSummaryPage(itemPage);
     }
 
-    public Item validateAndReduceQuantity(UUID itemId, int reduceQuantity) {
-        Item item = findByIdWithLock(itemId);
+    public KeysetSliceDTO<ItemSummaryDTO> findAll(String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<Item> items = itemRepository.findAllBefore(position.createdDate(), position.uuidId(), Limit.of(size + 1));
+        return toItemSlice(items, size);
+    }
+
+    public KeysetSliceDTO<ItemSummaryDTO> findAllByActive(boolean active, String cursor, int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<Item> items = itemRepository.findAllByActiveBefore(active, position.createdDate(), position.uuidId(), Limit.of(size + 1));
+        return toItemSlice(items, size);
+    }
 
-        int currentAvailableQuantity = item.getQuantity();
-        if (currentAvailableQuantity < reduceQuantity) {
-            throw new IllegalArgumentException();
+    /**
+     * Atomically takes {@code quantity} units out of stock, failing instead of overselling.
+     */
+    @Transactional
+    public void reduceQuantity(UUID itemId, int quantity) {
+        if (itemRepository.decrementQuantity(itemId, quantity) == 0) {
+            if (!itemRepository.existsById(itemId)) {
+                throw new ItemNotFoundException();
+            }
+            throw new InsufficientStockException();
         }
-        item.setQuantity(currentAvailableQuantity - reduceQuantity);
-        save(item);
+        TransactionUtils.afterCommit(() -> itemDetailCache.evict(itemId));
+        domainEventBus.publish(new ItemStockChangedEvent(itemId, -quantity));
+    }
 
-        return item;
+    @Transactional
+    public void restoreQuantity(UUID itemId, int quantity) {
+        if (itemRepository.incrementQuantity(itemId, quantity) > 0) {
+            TransactionUtils.afterCommit(() -> itemDetailCache.evict(itemId));
+            domainEventBus.publish(new ItemStockChangedEvent(itemId, quantity));
+        }
     }
 
     // TODO: update active state
 
     // Helpers
 
+    private Page<ItemSummaryDTO> toItemSummaryPage(Page<Item> itemPage) {
+        Map<UUID, List<ItemMedia>> mediaByItem = itemMediaService.findAllByItems(itemPage.getContent());
+        return itemPage.map(i -> ItemMapper.toItemSummaryDTO(i, mediaByItem.getOrDefault(i.getId(), List.of())));
+    }
+
+    private KeysetSliceDTO<ItemSummaryDTO> toItemSlice(List<Item> items, int size) {
+        // The extra look-ahead row is never mapped, so its media is not needed
+        Map<UUID, List<ItemMedia>> mediaByItem = itemMediaService.findAllByItems(items.subList(0, Math.min(size, items.size())));
+        return KeysetSliceMapper.toKeysetSliceDTO(items, size,
+                i -> KeysetCursor.of(i.getCreatedDate(), i.getId()),
+                i -> ItemMapper.toItemSummaryDTO(i, mediaByItem.getOrDefault(i.getId(), List.of())));
+    }
+
+    private void publishChanges(Item item, BigDecimal oldPrice, int oldQuantity, boolean wasActive) {
+        if (item.getPrice().compareTo(oldPrice) != 0) {
+            domainEventBus.publish(new ItemPriceChangedEvent(item.getId(), oldPrice, item.getPrice()));
+        }
+        if (item.getQuantity() != oldQuantity) {
+            domainEventBus.publish(new ItemStockChangedEvent(item.getId(), item.getQuantity() - oldQuantity));
+        }
+        if (wasActive && !item.isActive()) {
+            domainEventBus.publish(new ItemDeactivatedEvent(item.getId()));
+        }
+    }
+
     private List<ItemMedia> uploadAndMapMedia(List<MultipartFile> multipartFileList) {
         List<Media> itemMediaList = mediaService.uploadAndGet(multipartFileList);
         return itemMediaList.stream().map(ItemMediaMapper::toItemMedia).toList();
@@ -178,7 +281,7 @@ public class ItemService {
     private void deleteAllCurrentMedia(Item item) {
         List<ItemMedia> currentItemMediaList = item.getMediaList();
         currentItemMediaList.forEach(m -> {
-            mediaService.delete(m.getMedia().key());
+            mediaService.delete(m.getMedia());
             itemMediaService.delete(m);
         });
         item.setMediaList(new ArrayList<>());
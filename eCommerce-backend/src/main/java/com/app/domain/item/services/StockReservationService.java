@@ -0,0 +1,109 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.StockReservationDTO;
+import com.app.domain.item.dtos.requests.StockReservationRequest;
+import com.app.domain.item.entities.StockReservation;
+import com.app.domain.item.exceptions.StockReservationNotFoundException;
+import com.app.domain.item.mappers.StockReservationMapper;
+import com.app.domain.item.repositories.StockReservationRepository;
+import com.app.domain.member.entities.Member;
+import com.app.global.exceptions.ForbiddenException;
+import com.app.global.utils.AuthUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Time-limited stock reservations.
+ * Reserving takes the units out of the item's stock with one conditional update, so concurrent
+ * buyers of the same item queue on its row instead of failing on a version conflict, and stock
+ * never goes negative. Releasing or letting a reservation expire puts the units back;
+ * confirming keeps them sold.
+ */
+@Service
+@Transactional(readOnly = true)
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ItemService itemService;
+    private final Duration ttl;
+    private final int sweepBatchSize;
+
+    public StockReservationService(StockReservationRepository stockReservationRepository,
+                                   ItemService itemService,
+                                   @Value("${item.reservation.ttl}") long ttl,
+                                   @Value("${item.reservation.sweep-batch-size}") int sweepBatchSize) {
+        this.stockReservationRepository = stockReservationRepository;
+        this.itemService = itemService;
+        this.ttl = Duration.ofMillis(ttl);
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    @Transactional
+    public StockReservationDTO reserve(StockReservationRequest request) {
+        Member member = AuthUtils.getAuthenticated();
+        itemService.reduceQuantity(request.itemId(), request.quantity());
+        StockReservation reservation = new StockReservation(
+                request.itemId(), member, request.quantity(), LocalDateTime.now().plus(ttl));
+        return StockReservationMapper.toStockReservationDTO(stockReservationRepository.save(reservation));
+    }
+
+    @Transactional
+    public void release(Long id) {
+        StockReservation reservation = findOwnedById(id);
+        if (stockReservationRepository.deleteReservation(id) == 0) {
+            throw new StockReservationNotFoundException();
+        }
+        itemService.restoreQuantity(reservation.getItemId(), reservation.getQuantity());
+    }
+
+    /**
+     * Turns an unexpired reservation into a sale: the reservation is removed and its units stay out of stock.
+     */
+    @Transactional
+    public void confirm(Long id) {
+        findOwnedById(id);
+        if (stockReservationRepository.deleteUnexpiredReservation(id, LocalDateTime.now()) == 0) {
+            throw new StockReservationNotFoundException();
+        }
+    }
+
+    /**
+     * Puts the units of expired reservations back in stock, oldest first. Returns the number released.
+     */
+    @Scheduled(fixedDelayString = "${item.reservation.sweep-interval}", initialDelayString = "${item.reservation.sweep-interval}")
+    @Transactional
+    public int releaseExpired() {
+        List<StockReservation> expired = stockReservationRepository.findExpired(LocalDateTime.now(), Limit.of(sweepBatchSize));
+        int released = 0;
+        for (StockReservation reservation : expired) {
+            // Skips reservations released or confirmed since they were read
+            if (stockReservationRepository.deleteReservation(reservation.getId()) == 1) {
+                itemService.restoreQuantity(reservation.getItemId(), reservation.getQuantity());
+                released++;
+            }
+        }
+        return released;
+    }
+
+    public StockReservation findById(Long id) {
+        return stockReservationRepository.findById(id)
+                .orElseThrow(StockReservationNotFoundException::new);
+    }
+
+    // Helpers
+
+    private StockReservation findOwnedById(Long id) {
+        StockReservation reservation = findById(id);
+        if (AuthUtils.isNotAllowedModifier(reservation.getMember())) {
+            throw new ForbiddenException();
+        }
+        return reservation;
+    }
+}
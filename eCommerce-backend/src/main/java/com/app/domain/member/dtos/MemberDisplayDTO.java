@@ -0,0 +1,6 @@
+package com.app.domain.member.dtos;
+
+import com.app.global.vos.Media;
+
+public record MemberDisplayDTO(String username, Media profile) {
+}
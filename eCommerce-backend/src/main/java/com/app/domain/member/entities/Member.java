@@ -21,7 +21,7 @@ import static com.app.global.constants.UserInputConstants.*;
 public class Member extends AuditableEntity implements UserDetails, Principal {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "member_id")
     private Long id;
 
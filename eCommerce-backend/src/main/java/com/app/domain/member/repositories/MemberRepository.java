@@ -1,10 +1,14 @@
 package com.app.domain.member.repositories;
 
+import com.app.domain.member.dtos.MemberDisplayDTO;
 import com.app.domain.member.entities.Member;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
@@ -17,4 +21,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Query("SELECT m FROM Member m WHERE m.username = :username")
     Optional<Member> findByUsername(String username);
 
+    // Pending changes are not flushed first, so a save can compare the stored fields with the new ones
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT new com.app.domain.member.dtos.MemberDisplayDTO(m.username, m.profile) FROM Member m WHERE m.id = :id")
+    Optional<MemberDisplayDTO> findDisplayById(@Param("id") Long id);
+
 }
@@ -0,0 +1,76 @@
+package com.app.domain.member.services;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of HMAC signing keys addressed by key id ("kid" header).
+ * New tokens are signed with the current key; retired keys are kept only to verify
+ * tokens issued before a rotation. Tokens without a key id verify against the current key.
+ */
+class JwtKeyring extends SigningKeyResolverAdapter {
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String ID_SEPARATOR = ":";
+
+    private final String currentKeyId;
+    private final Key currentKey;
+    private final Map<String, Key> keys;
+
+    private JwtKeyring(String currentKeyId, Key currentKey, Map<String, Key> keys) {
+        this.currentKeyId = currentKeyId;
+        this.currentKey = currentKey;
+        this.keys = Map.copyOf(keys);
+    }
+
+    /**
+     * @param retiredKeys comma separated {@code keyId:base64Secret} pairs, may be blank
+     */
+    static JwtKeyring of(String currentKeyId, String currentSecret, String retiredKeys) {
+        Key currentKey = toKey(currentSecret);
+        Map<String, Key> keys = new HashMap<>();
+        if (retiredKeys != null && !retiredKeys.isBlank()) {
+            for (String entry : retiredKeys.split(ENTRY_SEPARATOR)) {
+                String[] parts = entry.trim().split(ID_SEPARATOR, 2);
+                if (parts.length != 2 || parts[0].isBlank()) {
+                    throw new IllegalArgumentException("Retired JWT keys must be 'keyId:base64Secret' pairs");
+                }
+                keys.put(parts[0], toKey(parts[1]));
+            }
+        }
+        keys.put(currentKeyId, currentKey);
+        return new JwtKeyring(currentKeyId, currentKey, keys);
+    }
+
+    String getCurrentKeyId() {
+        return currentKeyId;
+    }
+
+    Key getCurrentKey() {
+        return currentKey;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String keyId = header.getKeyId();
+        if (keyId == null) {
+            return currentKey;
+        }
+        Key key = keys.get(keyId);
+        if (key == null) {
+            throw new JwtException("Unknown JWT signing key id");
+        }
+        return key;
+    }
+
+    private static Key toKey(String base64Secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Secret.trim()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.app.domain.member.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Short-lived cache of authenticated principals keyed by username.
+ * MemberService evicts a member whenever it is saved or deleted, so lock, enable
+ * and role changes apply on the next request; the TTL bounds any change made elsewhere.
+ * Members are loaded outside the cache's map lock, so a virtual thread waiting on the database
+ * never pins its carrier. A load that overlaps an eviction is returned but not cached, and loads read
+ * on the primary, so a replica still behind an evicting write cannot put the old member back.
+ */
+@Component
+public class MemberPrincipalCache {
+    public static final String CACHE_NAME = "member.principal";
+
+    private final Cache<String, UserDetails> cache;
+    private final AtomicLong evictions = new AtomicLong();
+
+    public MemberPrincipalCache(@Value("${security.principal-cache.ttl}") long ttl,
+                                @Value("${security.principal-cache.max-size}") long maxSize,
+                                MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        UserDetails cached = cache.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = evictions.get();
+        UserDetails loaded = loader.apply(username);
+        if (evictions.get() == stamp) {
+            cache.asMap().putIfAbsent(username, loaded);
+        }
+        return loaded;
+    }
+
+    public void evict(String username) {
+        evictions.incrementAndGet();
+        cache.invalidate(username);
+    }
+}
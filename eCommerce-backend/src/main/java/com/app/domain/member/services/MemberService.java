@@ -1,13 +1,19 @@
 package com.app.domain.member.services;
 
+import com.app.domain.item.services.ItemDetailCache;
+import com.app.domain.member.dtos.MemberDisplayDTO;
 import com.app.domain.member.dtos.MemberSummaryDTO;
 import com.app.domain.member.entities.Member;
 import com.app.domain.member.exceptions.DuplicateMemberException;
 import com.app.domain.member.exceptions.MemberNotFoundException;
 import com.app.domain.member.mappers.MemberMapper;
 import com.app.domain.member.repositories.MemberRepository;
+import com.app.global.utils.TransactionUtils;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,15 +21,25 @@ import org.springframework.stereotype.Service;
 @Service
 public class MemberService {
     private final MemberRepository memberRepository;
+    private final MemberPrincipalCache memberPrincipalCache;
+    private final ItemDetailCache itemDetailCache;
+    private final TransactionTemplate principalTransaction;
 
-    public MemberService(MemberRepository memberRepository) {
+    public MemberService(MemberRepository memberRepository, MemberPrincipalCache memberPrincipalCache,
+                         ItemDetailCache itemDetailCache, PlatformTransactionManager transactionManager) {
         this.memberRepository = memberRepository;
+        this.memberPrincipalCache = memberPrincipalCache;
+        this.itemDetailCache = itemDetailCache;
+        // Read-write, so a lock, a password change or a new registration is never missed on a lagging replica
+        this.principalTransaction = new TransactionTemplate(transactionManager);
+        this.principalTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     @Transactional
     public void deleteById(Long id) {
         Member member = findById(id);
         memberRepository.delete(member);
+        evictPrincipal(member);
     }
 
     public Member findById(Long id) {
@@ -33,8 +49,16 @@ public class MemberService {
 
     @Transactional
     public MemberSummaryDTO save(Member member) {
+        MemberDisplayDTO stored = member.getId() != null ? memberRepository.findDisplayById(member.getId()).orElse(null) : null;
         try {
-            return MemberMapper.toMemberSummaryDTO(memberRepository.saveAndFlush(member));
+            Member savedMember = memberRepository.saveAndFlush(member);
+            evictPrincipal(savedMember);
+            // Item details show their seller's username and profile, so only a change of those evicts them
+            if (stored != null && !stored.equals(new MemberDisplayDTO(savedMember.getUsername(), savedMember.getProfile()))) {
+                Long memberId = savedMember.getId();
+                TransactionUtils.afterCommit(() -> itemDetailCache.evictBySeller(memberId));
+            }
+            return MemberMapper.toMemberSummaryDTO(savedMember);
         } catch (DataIntegrityViolationException e) {
             throw new DuplicateMemberException();
         }
@@ -58,7 +82,20 @@ public class MemberService {
         return memberRepository.findByUsername(username).orElseThrow(MemberNotFoundException::new);
     }
 
+    /**
+     * Same as {@link #findByUsername(String)}, but always read on the primary. Authentication
+     * and the principal cache load members through it.
+     */
+    public Member findPrincipalByUsername(String username) {
+        return principalTransaction.execute(status -> findByUsername(username));
+    }
+
     public boolean memberExists(String username) {
         return memberRepository.findByUsername(username).isPresent();
     }
+
+    private void evictPrincipal(Member member) {
+        String username = member.getUsername();
+        TransactionUtils.afterCommit(() -> memberPrincipalCache.evict(username));
+    }
 }
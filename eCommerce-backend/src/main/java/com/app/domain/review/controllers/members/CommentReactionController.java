@@ -5,14 +5,19 @@ import com.app.domain.review.dtos.requests.CommentReactionRequest;
 import com.app.domain.review.enums.ReactionType;
 import com.app.domain.review.services.CommentReactionService;
 import com.app.global.constants.RestEndpoints;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+
+import static com.app.global.constants.UserInputConstants.SLICE_SIZE_MAX;
 
 @RestController("membersCommentReactionController")
 @PreAuthorize("hasAnyRole({'MEMBER', 'ADMIN'})")
@@ -64,4 +69,13 @@ public class CommentReactionController {
             Long commentId) {
         return ResponseEntity.ok(commentReactionService.getAllByCommentId(commentId));
     }
+
+    @GetMapping
+    public ResponseEntity<Map<Long, List<CommentReactionsInfoDTO>>> getAllByCommentIds(
+            @RequestParam("commentIds")
+            @NotEmpty
+            @Size(max = SLICE_SIZE_MAX)
+            List<Long> commentIds) {
+        return ResponseEntity.ok(commentReactionService.getAllByCommentIds(commentIds));
+    }
 }
@@ -1,15 +1,22 @@
 package com.app.domain.review.controllers.publ;
 
 import com.app.domain.review.dtos.CommentDTO;
+import com.app.domain.review.dtos.CommentTreeDTO;
 import com.app.domain.review.services.CommentService;
 import com.app.global.constants.RestEndpoints;
+import com.app.global.dtos.KeysetSliceDTO;
+import com.app.global.metrics.StatementBudget;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import static com.app.global.constants.UserInputConstants.SLICE_SIZE_MAX;
+
 @RestController("publCommentController")
 @RequestMapping(CommentController.BASE_URL)
 public class CommentController {
@@ -31,6 +38,7 @@ public class CommentController {
         return ResponseEntity.ok(commentService.getAllByAuthorId(authorId, pageable));
     }
 
+    @StatementBudget(5)
     @GetMapping("/parent/{parentId}")
     public ResponseEntity<Page<CommentDTO>> getByParentId(
             @PathVariable("parentId")
@@ -40,4 +48,37 @@ public class CommentController {
             Pageable pageable) {
         return ResponseEntity.ok(commentService.getAllByParentId(parentId, pageable));
     }
-}
\ No newline at end of file
+
+    @StatementBudget(5)
+    @GetMapping("/parent/{parentId}/scroll")
+    public ResponseEntity<KeysetSliceDTO<CommentDTO>> scrollByParentId(
+            @PathVariable("parentId")
+            @NotNull
+            @PositiveOrZero
+            Long parentId,
+            @RequestParam(name = "cursor", required = false)
+            String cursor,
+            @RequestParam(name = "size", defaultValue = "20")
+            @Positive
+            @Max(SLICE_SIZE_MAX)
+            int size) {
+        return ResponseEntity.ok(commentService.getAllByParentId(parentId, cursor, size));
+    }
+
+    @StatementBudget(10)
+    @GetMapping("/{commentId}/tree")
+    public ResponseEntity<CommentTreeDTO> getTreeById(
+            @PathVariable("commentId")
+            @NotNull
+            @PositiveOrZero
+            Long commentId,
+            @RequestParam(name = "depth", defaultValue = "3")
+            @PositiveOrZero
+            int depth,
+            @RequestParam(name = "size", defaultValue = "20")
+            @Positive
+            @Max(SLICE_SIZE_MAX)
+            int size) {
+        return ResponseEntity.ok(commentService.getTreeById(commentId, depth, size));
+    }
+}
@@ -1,9 +1,14 @@
 package com.app.domain.review.controllers.publ;
 
+import com.app.domain.review.dtos.RatingSummaryDTO;
 import com.app.domain.review.dtos.ReviewDTO;
 import com.app.domain.review.services.ItemReviewService;
 import com.app.global.constants.RestEndpoints;
+import com.app.global.dtos.KeysetSliceDTO;
+import com.app.global.metrics.StatementBudget;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,10 +16,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.UUID;
 
+import static com.app.global.constants.UserInputConstants.SLICE_SIZE_MAX;
+
 @RestController("publItemReviewController")
 @RequestMapping(ItemReviewController.BASE_URL)
 @PreAuthorize("hasAnyRole({'MEMBER', 'ADMIN'})")
@@ -27,12 +35,28 @@ public class ItemReviewController {
         this.reviewService = reviewService;
     }
 
+    @StatementBudget(7)
     @RequestMapping("/item/{itemId}")
     public ResponseEntity<Page<ReviewDTO>> getAllByItemId(@PathVariable("itemId") @NotNull UUID itemId,
                                                           Pageable pageable) {
         return ResponseEntity.ok(reviewService.getAllByItemId(itemId, pageable));
     }
 
+    @StatementBudget(5)
+    @RequestMapping("/item/{itemId}/scroll")
+    public ResponseEntity<KeysetSliceDTO<ReviewDTO>> scrollByItemId(
+            @PathVariable("itemId")
+            @NotNull
+            UUID itemId,
+            @RequestParam(name = "cursor", required = false)
+            String cursor,
+            @RequestParam(name = "size", defaultValue = "20")
+            @Positive
+            @Max(SLICE_SIZE_MAX)
+            int size) {
+        return ResponseEntity.ok(reviewService.getAllByItemId(itemId, cursor, size));
+    }
+
     @RequestMapping("/author/{authorId}")
     public ResponseEntity<Page<ReviewDTO>> getAllByAuthorId(@PathVariable("authorId") @NotNull Long authorId,
                                                             Pageable pageable) {
@@ -56,4 +80,9 @@ public class ItemReviewController {
     public ResponseEntity<Float> getRatingByItemId(@PathVariable("itemId") @NotNull UUID itemId) {
         return ResponseEntity.ok(reviewService.getAverageReviewRatingByItemId(itemId));
     }
-}
\ No newline at end of file
+
+    @RequestMapping("/item/rating-summary/{itemId}")
+    public ResponseEntity<RatingSummaryDTO> getRatingSummaryByItemId(@PathVariable("itemId") @NotNull UUID itemId) {
+        return ResponseEntity.ok(reviewService.getRatingSummaryByItemId(itemId));
+    }
+}
@@ -1,5 +1,6 @@
 package com.app.domain.review.controllers.publ;
 
+import com.app.domain.review.dtos.RatingSummaryDTO;
 import com.app.domain.review.dtos.ReviewDTO;
 import com.app.domain.review.services.MemberReviewService;
 import com.app.global.constants.RestEndpoints;
@@ -66,4 +67,12 @@ public class MemberReviewController {
                                                    Long memberId) {
         return ResponseEntity.ok(reviewService.getAverageReviewRatingByMemberId(memberId));
     }
-}
\ No newline at end of file
+
+    @RequestMapping("/member/rating-summary/{memberId}")
+    public ResponseEntity<RatingSummaryDTO> getRatingSummaryByMemberId(@PathVariable
+                                                                       @NotNull
+                                                                       @PositiveOrZero
+                                                                       Long memberId) {
+        return ResponseEntity.ok(reviewService.getRatingSummaryByMemberId(memberId));
+    }
+}
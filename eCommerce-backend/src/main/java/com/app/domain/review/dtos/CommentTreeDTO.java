@@ -0,0 +1,11 @@
+package com.app.domain.review.dtos;
+
+import com.app.global.dtos.KeysetSliceDTO;
+
+/**
+ * A comment with the first slice of its replies, each again with its own replies.
+ * {@code replies} is null where the tree was cut off; {@code replyCount} is always filled in,
+ * and further replies are scrolled with the parent's scroll endpoint from {@code replies.nextCursor()}.
+ */
+public record CommentTreeDTO(CommentDTO comment, long replyCount, KeysetSliceDTO<CommentTreeDTO> replies) {
+}
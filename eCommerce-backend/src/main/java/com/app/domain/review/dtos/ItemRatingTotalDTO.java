@@ -0,0 +1,6 @@
+package com.app.domain.review.dtos;
+
+import java.util.UUID;
+
+public record ItemRatingTotalDTO(UUID itemId, long ratingSum, long ratingCount) {
+}
@@ -0,0 +1,4 @@
+package com.app.domain.review.dtos;
+
+public record RatingCountDTO(int rating, long count) {
+}
@@ -0,0 +1,9 @@
+package com.app.domain.review.dtos;
+
+import java.util.Map;
+
+/**
+ * Review count, average rating and the number of reviews per rating, from lowest to highest rating.
+ */
+public record RatingSummaryDTO(long count, float average, Map<Integer, Long> histogram) {
+}
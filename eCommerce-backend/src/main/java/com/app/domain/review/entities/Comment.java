@@ -14,11 +14,12 @@ import static com.app.global.constants.UserInputConstants.COMMENT_CONTENT_LENGTH
 
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        @Index(name = "idx_comment_parent_created", columnList = "comment_parent_id, created_date, comment_id")})
 public class Comment extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "comment_id")
     private Long id;
 
@@ -12,7 +12,7 @@ import jakarta.validation.constraints.NotNull;
 public class CommentReaction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "reaction_id")
     private Long id;
 
@@ -0,0 +1,55 @@
+package com.app.domain.review.entities;
+
+import com.app.domain.review.enums.ReactionType;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Number of reactions of one type to a comment, kept in step with {@link CommentReaction}
+ * so reading a comment's reactions never aggregates over the reactions themselves.
+ * The database drops the counts together with their comment.
+ */
+@Entity
+@Table(name = "comment_reaction_count")
+public class CommentReactionCount {
+
+    @Embeddable
+    public record Key(
+            @Column(name = "comment_id", nullable = false)
+            Long commentId,
+
+            @Column(name = "reaction_type", nullable = false)
+            @Enumerated(EnumType.STRING)
+            ReactionType reactionType) {
+    }
+
+    @EmbeddedId
+    private Key id;
+
+    // Only declares the foreign key; the id above is what gets written
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "comment_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Comment comment;
+
+    @Column(name = "reaction_count", nullable = false)
+    private long count;
+
+    protected CommentReactionCount() {}
+
+    public CommentReactionCount(Long commentId, ReactionType reactionType, long count) {
+        this.id = new Key(commentId, reactionType);
+        this.count = count;
+    }
+
+    // AUTO GENERATED
+
+    public Key getId() {
+        return id;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
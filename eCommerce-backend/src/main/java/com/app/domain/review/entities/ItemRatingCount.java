@@ -0,0 +1,47 @@
+package com.app.domain.review.entities;
+
+import jakarta.persistence.*;
+
+import java.util.UUID;
+
+/**
+ * Number of reviews giving an item one rating, kept in step with {@link ItemReview} so an item's
+ * review count, average and histogram are read from at most one row per rating.
+ * The item is referenced by id only, so deleting an item never has to touch its counts first.
+ */
+@Entity
+@Table(name = "item_rating_count")
+public class ItemRatingCount {
+
+    @Embeddable
+    public record Key(
+            @Column(name = "item_id", nullable = false)
+            UUID itemId,
+
+            @Column(name = "review_rating", nullable = false)
+            int rating) {
+    }
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "review_count", nullable = false)
+    private long count;
+
+    protected ItemRatingCount() {}
+
+    public ItemRatingCount(UUID itemId, int rating, long count) {
+        this.id = new Key(itemId, rating);
+        this.count = count;
+    }
+
+    // AUTO GENERATED
+
+    public Key getId() {
+        return id;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
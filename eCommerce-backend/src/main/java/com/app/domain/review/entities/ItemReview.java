@@ -9,7 +9,8 @@ import jakarta.validation.constraints.NotNull;
 @Entity
 @Table(name = "item_review", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"item_id", "review_author_id"})
-})
+}, indexes = {
+        @Index(name = "idx_item_review_item_created", columnList = "item_id, created_date, review_id")})
 public class ItemReview extends Review {
 
     @NotNull
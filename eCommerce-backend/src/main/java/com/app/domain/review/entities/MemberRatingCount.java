@@ -0,0 +1,43 @@
+package com.app.domain.review.entities;
+
+import jakarta.persistence.*;
+
+/**
+ * Number of reviews giving a member one rating, kept in step with {@link MemberReview}.
+ */
+@Entity
+@Table(name = "member_rating_count")
+public class MemberRatingCount {
+
+    @Embeddable
+    public record Key(
+            @Column(name = "member_id", nullable = false)
+            Long memberId,
+
+            @Column(name = "review_rating", nullable = false)
+            int rating) {
+    }
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "review_count", nullable = false)
+    private long count;
+
+    protected MemberRatingCount() {}
+
+    public MemberRatingCount(Long memberId, int rating, long count) {
+        this.id = new Key(memberId, rating);
+        this.count = count;
+    }
+
+    // AUTO GENERATED
+
+    public Key getId() {
+        return id;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
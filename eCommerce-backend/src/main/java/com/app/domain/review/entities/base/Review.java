@@ -15,7 +15,7 @@ import static com.app.global.constants.UserInputConstants.RATING_MIN;
 public abstract class Review extends AuditableEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "review_id")
     private Long id;
 
@@ -4,7 +4,14 @@ import com.app.domain.member.dtos.MemberSummaryDTO;
 import com.app.domain.member.entities.Member;
 import com.app.domain.member.mappers.MemberMapper;
 import com.app.domain.review.dtos.CommentDTO;
+import com.app.domain.review.dtos.CommentTreeDTO;
 import com.app.domain.review.entities.Comment;
+import com.app.global.dtos.KeysetSliceDTO;
+import com.app.global.mappers.KeysetSliceMapper;
+import com.app.global.vos.KeysetCursor;
+
+import java.util.List;
+import java.util.Map;
 
 public class CommentMapper {
 
@@ -24,4 +31,18 @@ public class CommentMapper {
                 comment.getLastModifiedDate()
         );
     }
+
+    /**
+     * Maps a loaded comment tree. A comment missing from {@code repliesByParent} was not expanded;
+     * its replies hold up to {@code size + 1} comments, the extra one marking that more exist.
+     */
+    public static CommentTreeDTO toCommentTreeDTO(Comment comment, int size,
+                                                  Map<Long, List<Comment>> repliesByParent,
+                                                  Map<Long, Long> replyCounts) {
+        List<Comment> replies = repliesByParent.get(comment.getId());
+        KeysetSliceDTO<CommentTreeDTO> replySlice = replies == null ? null : KeysetSliceMapper.toKeysetSliceDTO(replies, size,
+                c -> KeysetCursor.of(c.getCreatedDate(), c.getId()),
+                c -> toCommentTreeDTO(c, size, repliesByParent, replyCounts));
+        return new CommentTreeDTO(toCommentDTO(comment), replyCounts.getOrDefault(comment.getId(), 0L), replySlice);
+    }
 }
@@ -0,0 +1,14 @@
+package com.app.domain.review.mappers;
+
+import com.app.domain.review.dtos.CommentReactionsInfoDTO;
+import com.app.domain.review.entities.CommentReactionCount;
+
+public class CommentReactionMapper {
+
+    private CommentReactionMapper() {
+    }
+
+    public static CommentReactionsInfoDTO toCommentReactionsInfoDTO(CommentReactionCount reactionCount) {
+        return new CommentReactionsInfoDTO(reactionCount.getId().reactionType(), reactionCount.getCount());
+    }
+}
@@ -0,0 +1,33 @@
+package com.app.domain.review.mappers;
+
+import com.app.domain.review.dtos.RatingCountDTO;
+import com.app.domain.review.dtos.RatingSummaryDTO;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.app.global.constants.UserInputConstants.RATING_MAX;
+import static com.app.global.constants.UserInputConstants.RATING_MIN;
+
+public class RatingMapper {
+
+    private RatingMapper() {
+    }
+
+    public static RatingSummaryDTO toRatingSummaryDTO(List<RatingCountDTO> ratingCounts) {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int rating = RATING_MIN; rating <= RATING_MAX; rating++) {
+            histogram.put(rating, 0L);
+        }
+        long count = 0;
+        long sum = 0;
+        for (RatingCountDTO ratingCount : ratingCounts) {
+            histogram.put(ratingCount.rating(), ratingCount.count());
+            count += ratingCount.count();
+            sum += ratingCount.rating() * ratingCount.count();
+        }
+        float average = count == 0 ? 0.0f : (float) sum / count;
+        return new RatingSummaryDTO(count, average, histogram);
+    }
+}
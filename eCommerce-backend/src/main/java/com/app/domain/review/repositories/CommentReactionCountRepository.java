@@ -0,0 +1,39 @@
+package com.app.domain.review.repositories;
+
+import com.app.domain.review.entities.CommentReactionCount;
+import com.app.domain.review.enums.ReactionType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CommentReactionCountRepository extends JpaRepository<CommentReactionCount, CommentReactionCount.Key> {
+
+    @Query("""
+            SELECT new com.app.domain.review.entities.CommentReactionCount(c.id.commentId, c.id.reactionType, c.count)\s
+            FROM CommentReactionCount c\s
+            WHERE c.id.commentId IN :commentIds AND c.count > 0\s
+            ORDER BY c.id.commentId, c.id.reactionType
+            """)
+    // Unmanaged copies, so counts moved by the native upsert earlier in the transaction are never read stale
+    List<CommentReactionCount> findAllByCommentIds(@Param("commentIds") Collection<Long> commentIds);
+
+    // Native, for the upsert; the reaction type is bound by name like the enum column stores it
+    @Modifying
+    @Query(value = """
+            INSERT INTO comment_reaction_count (comment_id, reaction_type, reaction_count)\s
+            VALUES (:commentId, :reactionType, :count)\s
+            ON DUPLICATE KEY UPDATE reaction_count = reaction_count + :count
+            """, nativeQuery = true)
+    void increment(@Param("commentId") Long commentId, @Param("reactionType") String reactionType, @Param("count") long count);
+
+    @Modifying
+    @Query("""
+            UPDATE CommentReactionCount c SET c.count = c.count - :count\s
+            WHERE c.id.commentId = :commentId AND c.id.reactionType = :reactionType AND c.count >= :count
+            """)
+    int decrement(@Param("commentId") Long commentId, @Param("reactionType") ReactionType reactionType, @Param("count") long count);
+}
@@ -1,27 +1,32 @@
 package com.app.domain.review.repositories;
 
 import com.app.domain.member.entities.Member;
-import com.app.domain.review.dtos.CommentReactionsInfoDTO;
-import com.app.domain.review.entities.Comment;
 import com.app.domain.review.entities.CommentReaction;
+import com.app.domain.review.entities.CommentReactionCount;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentReactionRepository extends JpaRepository<CommentReaction, Long> {
 
-    @Query("SELECT COUNT(cr) FROM CommentReaction cr WHERE cr.comment = :comment")
-    long findCountByComment(@Param("comment") Comment comment);
+    // Locks the reaction, so concurrent edits move its reaction count one after another
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT cr FROM CommentReaction cr WHERE cr.id = :id")
+    Optional<CommentReaction> findForUpdateById(@Param("id") Long id);
 
     @Query("""
-            SELECT new com.app.domain.review.dtos.CommentReactionsInfoDTO(cr.reactionType, COUNT(cr))\s
+            SELECT new com.app.domain.review.entities.CommentReactionCount(cr.comment.id, cr.reactionType, COUNT(cr))\s
             FROM CommentReaction cr\s
-            GROUP BY cr.reactionType
+            WHERE cr.author = :author\s
+            GROUP BY cr.comment.id, cr.reactionType
             """)
-    List<CommentReactionsInfoDTO> findAllByComment(Comment comment);
+    List<CommentReactionCount> findReactionCountsByAuthor(@Param("author") Member author);
 
     @Modifying
     @Query("DELETE FROM CommentReaction cr WHERE cr.author = :author")
@@ -2,6 +2,7 @@ package com.app.domain.review.repositories;
 
 import com.app.domain.member.entities.Member;
 import com.app.domain.review.entities.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -9,11 +10,61 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT c FROM Comment c WHERE c.parent = :parent")
     Page<Comment> findAllByParent(@Param("parent") Comment parent, Pageable pageable);
 
+    @Query("SELECT c FROM Comment c " +
+            "WHERE c.parent = :parent " +
+            "AND (c.createdDate < :createdDate OR (c.createdDate = :createdDate AND c.id < :id)) " +
+            "ORDER BY c.createdDate DESC, c.id DESC")
+    List<Comment> findAllByParentBefore(@Param("parent") Comment parent, @Param("createdDate") LocalDateTime createdDate,
+                                        @Param("id") Long id, Limit limit);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id = :id")
+    Optional<Comment> findWithAuthorById(@Param("id") Long id);
+
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.id IN :ids")
+    List<Comment> findAllWithAuthorByIds(@Param("ids") Collection<Long> ids);
+
+    interface ReplyRow {
+        Long getId();
+
+        Long getParentId();
+
+        Long getReplyCount();
+    }
+
+    /**
+     * The newest {@code limit} replies of every given parent, with each parent's total reply count.
+     * Replies are ordered like {@link #findAllByParentBefore}, so a tree's cursor continues on the scroll endpoint.
+     */
+    @Query(value = """
+            SELECT replies.comment_id AS id, replies.comment_parent_id AS parentId, replies.reply_count AS replyCount\s
+            FROM (SELECT comment_id, comment_parent_id, created_date,\s
+                         ROW_NUMBER() OVER (PARTITION BY comment_parent_id ORDER BY created_date DESC, comment_id DESC) AS position,\s
+                         COUNT(*) OVER (PARTITION BY comment_parent_id) AS reply_count\s
+                  FROM comment WHERE comment_parent_id IN (:parentIds)) replies\s
+            WHERE replies.position <= :limit\s
+            ORDER BY replies.comment_parent_id, replies.created_date DESC, replies.comment_id DESC
+            """, nativeQuery = true)
+    List<ReplyRow> findReplyRows(@Param("parentIds") Collection<Long> parentIds, @Param("limit") int limit);
+
+    interface ReplyCount {
+        Long getParentId();
+
+        Long getReplyCount();
+    }
+
+    @Query("SELECT c.parent.id AS parentId, COUNT(c) AS replyCount FROM Comment c WHERE c.parent.id IN :parentIds GROUP BY c.parent.id")
+    List<ReplyCount> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
     @Query("SELECT c FROM Comment c WHERE c.author = :author")
     Page<Comment> findByAuthor(@Param("author") Member author, Pageable pageable);
 
@@ -0,0 +1,60 @@
+package com.app.domain.review.repositories;
+
+import com.app.domain.review.dtos.ItemRatingTotalDTO;
+import com.app.domain.review.dtos.RatingCountDTO;
+import com.app.domain.review.entities.ItemRatingCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ItemRatingCountRepository extends JpaRepository<ItemRatingCount, ItemRatingCount.Key> {
+
+    @Query("""
+            SELECT new com.app.domain.review.dtos.RatingCountDTO(c.id.rating, c.count)\s
+            FROM ItemRatingCount c\s
+            WHERE c.id.itemId = :itemId
+            """)
+    List<RatingCountDTO> findAllByItemId(@Param("itemId") UUID itemId);
+
+    @Query("""
+            SELECT new com.app.domain.review.dtos.ItemRatingTotalDTO(c.id.itemId, SUM(c.id.rating * c.count), SUM(c.count))\s
+            FROM ItemRatingCount c\s
+            GROUP BY c.id.itemId
+            """)
+    List<ItemRatingTotalDTO> findAllTotals();
+
+    // An upsert, so the first reviews of an item with the same rating cannot race to create the row
+    @Modifying
+    @Query(value = """
+            INSERT INTO item_rating_count (item_id, review_rating, review_count)\s
+            VALUES (:itemId, :rating, :count)\s
+            ON DUPLICATE KEY UPDATE review_count = review_count + :count
+            """, nativeQuery = true)
+    void increment(@Param("itemId") UUID itemId, @Param("rating") int rating, @Param("count") long count);
+
+    @Modifying
+    @Query("""
+            UPDATE ItemRatingCount c SET c.count = c.count - :count\s
+            WHERE c.id.itemId = :itemId AND c.id.rating = :rating AND c.count >= :count
+            """)
+    int decrement(@Param("itemId") UUID itemId, @Param("rating") int rating, @Param("count") long count);
+
+    @Modifying
+    @Query("DELETE FROM ItemRatingCount c WHERE c.id.itemId = :itemId")
+    void deleteAllByItemId(@Param("itemId") UUID itemId);
+
+    @Modifying
+    @Query(value = "DELETE FROM item_rating_count", nativeQuery = true)
+    void deleteAllCounts();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO item_rating_count (item_id, review_rating, review_count)\s
+            SELECT item_id, review_rating, COUNT(*) FROM item_review GROUP BY item_id, review_rating
+            """, nativeQuery = true)
+    int insertCountsFromReviews();
+}
@@ -2,30 +2,46 @@ package com.app.domain.review.repositories;
 
 import com.app.domain.item.entities.Item;
 import com.app.domain.member.entities.Member;
+import com.app.domain.review.entities.ItemRatingCount;
 import com.app.domain.review.entities.ItemReview;
+import com.app.domain.review.repositories.base.ReviewRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface ItemReviewRepository extends JpaRepository<ItemReview, Long> {
+import java.time.LocalDateTime;
+import java.util.List;
 
-    @Query("SELECT ir FROM ItemReview ir WHERE ir.item = :item")
+public interface ItemReviewRepository extends ReviewRepository<ItemReview> {
+
+    // Authors and comments are fetched with the page, since every review is mapped with both
+    @Query(value = "SELECT ir FROM ItemReview ir JOIN FETCH ir.author JOIN FETCH ir.comment c JOIN FETCH c.author WHERE ir.item = :item",
+            countQuery = "SELECT COUNT(ir) FROM ItemReview ir WHERE ir.item = :item")
     Page<ItemReview> findAllByItem(@Param("item") Item item, Pageable pageable);
 
+    @Query("SELECT ir FROM ItemReview ir JOIN FETCH ir.author JOIN FETCH ir.comment c JOIN FETCH c.author " +
+            "WHERE ir.item = :item " +
+            "AND (ir.createdDate < :createdDate OR (ir.createdDate = :createdDate AND ir.id < :id)) " +
+            "ORDER BY ir.createdDate DESC, ir.id DESC")
+    List<ItemReview> findAllByItemBefore(@Param("item") Item item, @Param("createdDate") LocalDateTime createdDate,
+                                         @Param("id") Long id, Limit limit);
+
     @Query("SELECT ir FROM ItemReview ir WHERE ir.author = :author")
     Page<ItemReview> findAllByAuthor(@Param("author") Member author, Pageable pageable);
 
-    @Query("SELECT COUNT(ir) FROM ItemReview ir WHERE ir.item = :item")
-    long findReviewCountByItem(@Param("item") Item item);
-
     @Query("SELECT COUNT(ir) FROM ItemReview ir WHERE ir.author = :author")
     long findReviewCountByAuthor(@Param("author") Member author);
 
-    @Query("SELECT COALESCE(AVG(ir.rating), 0.0) FROM ItemReview ir WHERE ir.item = :item")
-    float findAverageReviewRatingByItem(@Param("item") Item item);
+    @Query("""
+            SELECT new com.app.domain.review.entities.ItemRatingCount(ir.item.id, ir.rating, COUNT(ir))\s
+            FROM ItemReview ir\s
+            WHERE ir.author = :author\s
+            GROUP BY ir.item.id, ir.rating
+            """)
+    List<ItemRatingCount> findRatingCountsByAuthor(@Param("author") Member author);
 
     @Modifying
     @Query("DELETE FROM ItemReview ir WHERE ir.item = :item")
@@ -0,0 +1,51 @@
+package com.app.domain.review.repositories;
+
+import com.app.domain.review.dtos.RatingCountDTO;
+import com.app.domain.review.entities.MemberRatingCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MemberRatingCountRepository extends JpaRepository<MemberRatingCount, MemberRatingCount.Key> {
+
+    @Query("""
+            SELECT new com.app.domain.review.dtos.RatingCountDTO(c.id.rating, c.count)\s
+            FROM MemberRatingCount c\s
+            WHERE c.id.memberId = :memberId
+            """)
+    List<RatingCountDTO> findAllByMemberId(@Param("memberId") Long memberId);
+
+    // An upsert, so the first reviews of a member with the same rating cannot race to create the row
+    @Modifying
+    @Query(value = """
+            INSERT INTO member_rating_count (member_id, review_rating, review_count)\s
+            VALUES (:memberId, :rating, :count)\s
+            ON DUPLICATE KEY UPDATE review_count = review_count + :count
+            """, nativeQuery = true)
+    void increment(@Param("memberId") Long memberId, @Param("rating") int rating, @Param("count") long count);
+
+    @Modifying
+    @Query("""
+            UPDATE MemberRatingCount c SET c.count = c.count - :count\s
+            WHERE c.id.memberId = :memberId AND c.id.rating = :rating AND c.count >= :count
+            """)
+    int decrement(@Param("memberId") Long memberId, @Param("rating") int rating, @Param("count") long count);
+
+    @Modifying
+    @Query("DELETE FROM MemberRatingCount c WHERE c.id.memberId = :memberId")
+    void deleteAllByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query(value = "DELETE FROM member_rating_count", nativeQuery = true)
+    void deleteAllCounts();
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO member_rating_count (member_id, review_rating, review_count)\s
+            SELECT member_id, review_rating, COUNT(*) FROM member_review GROUP BY member_id, review_rating
+            """, nativeQuery = true)
+    int insertCountsFromReviews();
+}
@@ -0,0 +1,20 @@
+package com.app.domain.review.repositories.base;
+
+import com.app.domain.review.entities.base.Review;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+@NoRepositoryBean
+public interface ReviewRepository<T extends Review> extends JpaRepository<T, Long> {
+
+    // Locks the review, so concurrent edits move its rating count one after another
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM #{#entityName} r WHERE r.id = :id")
+    Optional<T> findForUpdateById(@Param("id") Long id);
+}
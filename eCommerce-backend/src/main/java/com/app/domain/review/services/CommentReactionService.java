@@ -9,6 +9,8 @@ import com.app.domain.review.entities.CommentReaction;
 import com.app.domain.review.enums.ReactionType;
 import com.app.domain.review.exceptions.CommentReactionNotFoundException;
 import com.app.domain.review.exceptions.DuplicateCommentReactionException;
+import com.app.domain.review.mappers.CommentReactionMapper;
+import com.app.domain.review.repositories.CommentReactionCountRepository;
 import com.app.domain.review.repositories.CommentReactionRepository;
 import com.app.global.exceptions.ForbiddenException;
 import com.app.global.utils.AuthUtils;
@@ -16,17 +18,27 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+/**
+ * Reactions to comments. Every write also moves the comment's per-type reaction count in the same
+ * transaction, so reading reactions is a key lookup on the counts, for one comment or a page of them.
+ */
 @Service
 public class CommentReactionService {
 
     private final CommentReactionRepository commentReactionRepository;
+    private final CommentReactionCountRepository commentReactionCountRepository;
     private final CommentService commentService;
     private final MemberService memberService;
 
-    public CommentReactionService(CommentReactionRepository commentReactionRepository, CommentService commentService, MemberService memberService) {
+    public CommentReactionService(CommentReactionRepository commentReactionRepository, CommentReactionCountRepository commentReactionCountRepository, CommentService commentService, MemberService memberService) {
         this.commentReactionRepository = commentReactionRepository;
+        this.commentReactionCountRepository = commentReactionCountRepository;
         this.commentService = commentService;
         this.memberService = memberService;
     }
@@ -42,31 +54,44 @@ public class CommentReactionService {
 
     @Transactional
     public List<CommentReactionsInfoDTO> modify(Long commentReactionId, ReactionType newReactionType) {
-        CommentReaction commentReaction = getById(commentReactionId);
+        CommentReaction commentReaction = getForUpdate(commentReactionId);
         if (AuthUtils.isNotAllowedModifier(commentReaction.getAuthor())) {
             throw new ForbiddenException();
         }
+        ReactionType previousReactionType = commentReaction.getReactionType();
         commentReaction.setReactionType(newReactionType);
         save(commentReaction);
+        if (newReactionType != previousReactionType) {
+            Long commentId = commentReaction.getComment().getId();
+            commentReactionCountRepository.decrement(commentId, previousReactionType, 1);
+            commentReactionCountRepository.increment(commentId, newReactionType.name(), 1);
+        }
         return getAllByComment(commentReaction.getComment());
     }
 
     @Transactional
     public CommentReaction save(CommentReaction reaction) {
+        boolean created = reaction.getId() == null;
+        CommentReaction saved;
         try {
-            return commentReactionRepository.save(reaction);
+            saved = commentReactionRepository.saveAndFlush(reaction);
         } catch (DataIntegrityViolationException e) {
             throw new DuplicateCommentReactionException();
         }
+        if (created) {
+            commentReactionCountRepository.increment(saved.getComment().getId(), saved.getReactionType().name(), 1);
+        }
+        return saved;
     }
 
     @Transactional
     public void deleteById(Long reactionId) {
-        CommentReaction commentReaction = getById(reactionId);
+        CommentReaction commentReaction = getForUpdate(reactionId);
         if (AuthUtils.isNotAllowedModifier(commentReaction.getAuthor())) {
             throw new ForbiddenException();
         }
         commentReactionRepository.deleteById(reactionId);
+        commentReactionCountRepository.decrement(commentReaction.getComment().getId(), commentReaction.getReactionType(), 1);
     }
 
     public List<CommentReactionsInfoDTO> getAllByCommentId(Long commentId) {
@@ -75,24 +100,46 @@ public class CommentReactionService {
     }
 
     public List<CommentReactionsInfoDTO> getAllByComment(Comment comment) {
-        return commentReactionRepository.findAllByComment(comment);
+        return getAllByCommentIds(List.of(comment.getId())).getOrDefault(comment.getId(), List.of());
+    }
+
+    /**
+     * Reaction counts of a whole page of comments in one query, by comment id.
+     * Comments without reactions are left out.
+     */
+    public Map<Long, List<CommentReactionsInfoDTO>> getAllByCommentIds(Collection<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return Map.of();
+        }
+        return commentReactionCountRepository.findAllByCommentIds(commentIds).stream()
+                .collect(Collectors.groupingBy(c -> c.getId().commentId(), LinkedHashMap::new,
+                        Collectors.mapping(CommentReactionMapper::toCommentReactionsInfoDTO, Collectors.toList())));
     }
 
     public long getCountByCommentId(Long commentId) {
         Comment comment = commentService.getById(commentId);
-        return commentReactionRepository.findCountByComment(comment);
+        return getAllByComment(comment).stream()
+                .mapToLong(CommentReactionsInfoDTO::count)
+                .sum();
     }
 
     public CommentReaction getById(Long reactionId) {
         return commentReactionRepository.findById(reactionId).orElseThrow(CommentReactionNotFoundException::new);
     }
 
+    // Counts are moved from the type read here, so writers of one reaction wait for each other
+    private CommentReaction getForUpdate(Long reactionId) {
+        return commentReactionRepository.findForUpdateById(reactionId).orElseThrow(CommentReactionNotFoundException::new);
+    }
+
     @Transactional
     public void deleteAllByAuthorId(Long authorId) {
         Member author = memberService.findById(authorId);
         if (AuthUtils.isNotAllowedModifier(author)) {
             throw new ForbiddenException();
         }
+        commentReactionRepository.findReactionCountsByAuthor(author).forEach(c ->
+                commentReactionCountRepository.decrement(c.getId().commentId(), c.getId().reactionType(), c.getCount()));
         commentReactionRepository.deleteAllByAuthor(author);
     }
 }
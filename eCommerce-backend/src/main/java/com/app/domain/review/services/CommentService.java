@@ -3,19 +3,32 @@ package com.app.domain.review.services;
 import com.app.domain.member.entities.Member;
 import com.app.domain.member.services.MemberService;
 import com.app.domain.review.dtos.CommentDTO;
+import com.app.domain.review.dtos.CommentTreeDTO;
 import com.app.domain.review.dtos.requests.CommentRequest;
 import com.app.domain.review.entities.Comment;
 import com.app.domain.review.exceptions.CommentNotFoundException;
 import com.app.domain.review.exceptions.ParentCommentNotFoundException;
 import com.app.domain.review.mappers.CommentMapper;
 import com.app.domain.review.repositories.CommentRepository;
+import com.app.global.dtos.KeysetSliceDTO;
 import com.app.global.exceptions.ForbiddenException;
+import com.app.global.mappers.KeysetSliceMapper;
 import com.app.global.utils.AuthUtils;
+import com.app.global.vos.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 
 @Service
 @Transactional(readOnly = true)
@@ -23,10 +36,16 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final MemberService memberService;
+    private final int maxTreeDepth;
+    private final int maxTreeNodes;
 
-    public CommentService(CommentRepository commentRepository, MemberService memberService) {
+    public CommentService(CommentRepository commentRepository, MemberService memberService,
+                          @Value("${comment.tree.max-depth}") int maxTreeDepth,
+                          @Value("${comment.tree.max-nodes}") int maxTreeNodes) {
         this.commentRepository = commentRepository;
         this.memberService = memberService;
+        this.maxTreeDepth = maxTreeDepth;
+        this.maxTreeNodes = maxTreeNodes;
     }
 
     @Transactional
@@ -80,6 +99,73 @@ public class CommentService {
         }
     }
 
+    public KeysetSliceDTO<CommentDTO> getAllByParentId(Long parentId, String cursor, int size) {
+        try {
+            Comment parent = getById(parentId);
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            List<Comment> comments = commentRepository.findAllByParentBefore(parent, position.createdDate(), position.longId(),
+                    Limit.of(size + 1));
+            return KeysetSliceMapper.toKeysetSliceDTO(comments, size,
+                    c -> KeysetCursor.of(c.getCreatedDate(), c.getId()),
+                    CommentMapper::toCommentDTO);
+        } catch (CommentNotFoundException e) {
+            throw new ParentCommentNotFoundException();
+        }
+    }
+
+    /**
+     * Loads the comment and up to {@code depth} levels of its replies, the newest {@code size} per comment,
+     * in two queries per level with the authors fetched alongside.
+     * The depth is capped at {@code comment.tree.max-depth}; once {@code comment.tree.max-nodes} comments
+     * are loaded, no further comments are expanded.
+     */
+    public CommentTreeDTO getTreeById(Long commentId, int depth, int size) {
+        Comment root = commentRepository.findWithAuthorById(commentId)
+                .orElseThrow(CommentNotFoundException::new);
+        Map<Long, List<Comment>> repliesByParent = new HashMap<>();
+        Map<Long, Long> replyCounts = new HashMap<>();
+        List<Long> unexpanded = new ArrayList<>();
+        List<Long> frontier = List.of(root.getId());
+        int loaded = 1;
+        for (int level = 0; level < Math.min(depth, maxTreeDepth) && !frontier.isEmpty(); level++) {
+            // Every expanded comment may add a full slice of replies
+            int expandable = Math.min(frontier.size(), (maxTreeNodes - loaded) / size);
+            unexpanded.addAll(frontier.subList(expandable, frontier.size()));
+            List<Long> expanded = frontier.subList(0, expandable);
+            if (expanded.isEmpty()) {
+                frontier = List.of();
+                break;
+            }
+
+            List<CommentRepository.ReplyRow> rows = commentRepository.findReplyRows(expanded, size + 1);
+            Map<Long, Comment> replies = commentRepository.findAllWithAuthorByIds(rows.stream().map(CommentRepository.ReplyRow::getId).toList())
+                    .stream()
+                    .collect(Collectors.toMap(Comment::getId, Function.identity()));
+            expanded.forEach(id -> {
+                repliesByParent.put(id, new ArrayList<>());
+                replyCounts.put(id, 0L);
+            });
+            List<Long> next = new ArrayList<>();
+            for (CommentRepository.ReplyRow row : rows) {
+                List<Comment> siblings = repliesByParent.get(row.getParentId());
+                replyCounts.put(row.getParentId(), row.getReplyCount());
+                siblings.add(replies.get(row.getId()));
+                // The extra reply only tells the slice that more exist
+                if (siblings.size() <= size) {
+                    next.add(row.getId());
+                    loaded++;
+                }
+            }
+            frontier = next;
+        }
+        unexpanded.addAll(frontier);
+        if (!unexpanded.isEmpty()) {
+            commentRepository.countRepliesByParentIds(unexpanded)
+                    .forEach(c -> replyCounts.put(c.getParentId(), c.getReplyCount()));
+        }
+        return CommentMapper.toCommentTreeDTO(root, size, repliesByParent, replyCounts);
+    }
+
     public Comment getById(Long commentId) {
         return commentRepository.findById(commentId)
                 .orElseThrow(CommentNotFoundException::new);
@@ -0,0 +1,87 @@
+package com.app.domain.review.services;
+
+import com.app.domain.item.services.ItemSearchService;
+import com.app.domain.review.dtos.RatingSummaryDTO;
+import com.app.domain.review.entities.ItemRatingCount;
+import com.app.domain.review.mappers.RatingMapper;
+import com.app.domain.review.repositories.ItemRatingCountRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-rating review counts of items, updated in the transaction that writes the reviews,
+ * so reading an item's rating never aggregates over its reviews.
+ * {@link #rebuild()} recomputes every count from the reviews, repairing any drift
+ * left by writes that bypassed {@link ItemReviewService}.
+ * Every change is also passed on to the item facet index, which filters by average rating.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ItemRatingService {
+
+    private final ItemRatingCountRepository itemRatingCountRepository;
+    private final ItemSearchService itemSearchService;
+
+    public ItemRatingService(ItemRatingCountRepository itemRatingCountRepository, ItemSearchService itemSearchService) {
+        this.itemRatingCountRepository = itemRatingCountRepository;
+        this.itemSearchService = itemSearchService;
+    }
+
+    @Transactional
+    public void add(UUID itemId, int rating) {
+        itemRatingCountRepository.increment(itemId, rating, 1);
+        itemSearchService.addRatings(itemId, rating, 1);
+    }
+
+    @Transactional
+    public void remove(UUID itemId, int rating) {
+        if (itemRatingCountRepository.decrement(itemId, rating, 1) > 0) {
+            itemSearchService.addRatings(itemId, rating, -1);
+        }
+    }
+
+    @Transactional
+    public void removeAll(List<ItemRatingCount> ratingCounts) {
+        ratingCounts.forEach(c -> {
+            UUID itemId = c.getId().itemId();
+            int rating = c.getId().rating();
+            if (itemRatingCountRepository.decrement(itemId, rating, c.getCount()) > 0) {
+                itemSearchService.addRatings(itemId, rating, -c.getCount());
+            }
+        });
+    }
+
+    @Transactional
+    public void deleteAllByItemId(UUID itemId) {
+        itemRatingCountRepository.deleteAllByItemId(itemId);
+        itemSearchService.indexRatings(itemId, 0, 0);
+    }
+
+    public RatingSummaryDTO getSummary(UUID itemId) {
+        return RatingMapper.toRatingSummaryDTO(itemRatingCountRepository.findAllByItemId(itemId));
+    }
+
+    // Runs after ItemSearchService has indexed the items
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void indexRatings() {
+        itemSearchService.clearRatings();
+        itemRatingCountRepository.findAllTotals()
+                .forEach(t -> itemSearchService.indexRatings(t.itemId(), t.ratingSum(), t.ratingCount()));
+    }
+
+    @Scheduled(cron = "${review.rating.rebuild-cron}")
+    @Transactional
+    public int rebuild() {
+        itemRatingCountRepository.deleteAllCounts();
+        int inserted = itemRatingCountRepository.insertCountsFromReviews();
+        indexRatings();
+        return inserted;
+    }
+}
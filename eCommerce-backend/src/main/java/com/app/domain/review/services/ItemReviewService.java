@@ -5,6 +5,7 @@ import com.app.domain.item.entities.Item;
 import com.app.domain.item.services.ItemService;
 import com.app.domain.member.entities.Member;
 import com.app.domain.member.services.MemberService;
+import com.app.domain.review.dtos.RatingSummaryDTO;
 import com.app.domain.review.dtos.ReviewDTO;
 import com.app.domain.review.dtos.requests.ItemReviewRequest;
 import com.app.domain.review.entities.Comment;
@@ -12,13 +13,18 @@ import com.app.domain.review.entities.ItemReview;
 import com.app.domain.review.mappers.ReviewMapper;
 import com.app.domain.review.repositories.ItemReviewRepository;
 import com.app.domain.review.services.base.ReviewService;
+import com.app.global.dtos.KeysetSliceDTO;
 import com.app.global.exceptions.ForbiddenException;
+import com.app.global.mappers.KeysetSliceMapper;
 import com.app.global.utils.AuthUtils;
+import com.app.global.vos.KeysetCursor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -27,12 +33,15 @@ public class ItemReviewService extends ReviewService<ItemReviewRepository, ItemR
 
     private final ItemService itemService;
     private final MemberService memberService;
+    private final ItemRatingService itemRatingService;
 
-    public ItemReviewService(ItemReviewRepository reviewRepository, ItemService itemService, MemberService memberService) {
+    public ItemReviewService(ItemReviewRepository reviewRepository, ItemService itemService, MemberService memberService, ItemRatingService itemRatingService) {
         super(reviewRepository);
         this.itemService = itemService;
         this.memberService = memberService;
+        this.itemRatingService = itemRatingService;
     }
+
     @Transactional
     public ReviewDTO create(ItemReviewRequest request) {
         Item item = itemService.findById(request.itemId());
@@ -49,6 +58,7 @@ public class ItemReviewService extends ReviewService<ItemReviewRepository, ItemR
             throw new ForbiddenException();
         }
         reviewRepository.deleteAllByItem(item);
+        itemRatingService.deleteAllByItemId(itemId);
     }
 
     @Transactional
@@ -57,6 +67,7 @@ public class ItemReviewService extends ReviewService<ItemReviewRepository, ItemR
         if (AuthUtils.isNotAllowedModifier(author)) {
             throw new ForbiddenException();
         }
+        itemRatingService.removeAll(reviewRepository.findRatingCountsByAuthor(author));
         reviewRepository.deleteAllByAuthor(author);
     }
 
@@ -66,6 +77,16 @@ public class ItemReviewService extends ReviewService<ItemReviewRepository, ItemR
         return itemReviewPage.map(ReviewMapper::toReviewDTO);
     }
 
+    public KeysetSliceDTO<ReviewDTO> getAllByItemId(UUID itemId, String cursor, int size) {
+        Item item = itemService.findById(itemId);
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        List<ItemReview> reviews = reviewRepository.findAllByItemBefore(item, position.createdDate(), position.longId(),
+                Limit.of(size + 1));
+        return KeysetSliceMapper.toKeysetSliceDTO(reviews, size,
+                r -> KeysetCursor.of(r.getCreatedDate(), r.getId()),
+                ReviewMapper::toReviewDTO);
+    }
+
     public Page<ReviewDTO> getAllByAuthorId(Long authorId, Pageable pageable) {
         Member author = memberService.findById(authorId);
         Page<ItemReview> itemReviewPage = reviewRepository.findAllByAuthor(author, pageable);
@@ -73,8 +94,7 @@ public class ItemReviewService extends ReviewService<ItemReviewRepository, ItemR
     }
 
     public long getReviewCountByItemId(UUID itemId) {
-        Item item = itemService.findById(itemId);
-        return reviewRepository.findReviewCountByItem(item);
+        return getRatingSummaryByItemId(itemId).count();
     }
 
     public long getReviewCountByAuthorId(Long authorId) {
@@ -84,7 +104,21 @@ public class ItemReviewService extends ReviewService<ItemReviewRepository, ItemR
     }
 
     public float getAverageReviewRatingByItemId(UUID itemId) {
-        Item item = itemService.findById(itemId);
-        return reviewRepository.findAverageReviewRatingByItem(item);
+        return getRatingSummaryByItemId(itemId).average();
+    }
+
+    public RatingSummaryDTO getRatingSummaryByItemId(UUID itemId) {
+        itemService.findById(itemId);
+        return itemRatingService.getSummary(itemId);
+    }
+
+    @Override
+    protected void addRating(ItemReview review, int rating) {
+        itemRatingService.add(review.getItem().getId(), rating);
+    }
+
+    @Override
+    protected void removeRating(ItemReview review, int rating) {
+        itemRatingService.remove(review.getItem().getId(), rating);
     }
 }
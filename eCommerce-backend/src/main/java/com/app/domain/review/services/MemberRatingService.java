@@ -0,0 +1,56 @@
+package com.app.domain.review.services;
+
+import com.app.domain.review.dtos.RatingSummaryDTO;
+import com.app.domain.review.entities.MemberRatingCount;
+import com.app.domain.review.mappers.RatingMapper;
+import com.app.domain.review.repositories.MemberRatingCountRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Per-rating review counts of members, maintained like {@link ItemRatingService}'s.
+ */
+@Service
+@Transactional(readOnly = true)
+public class MemberRatingService {
+
+    private final MemberRatingCountRepository memberRatingCountRepository;
+
+    public MemberRatingService(MemberRatingCountRepository memberRatingCountRepository) {
+        this.memberRatingCountRepository = memberRatingCountRepository;
+    }
+
+    @Transactional
+    public void add(Long memberId, int rating) {
+        memberRatingCountRepository.increment(memberId, rating, 1);
+    }
+
+    @Transactional
+    public void remove(Long memberId, int rating) {
+        memberRatingCountRepository.decrement(memberId, rating, 1);
+    }
+
+    @Transactional
+    public void removeAll(List<MemberRatingCount> ratingCounts) {
+        ratingCounts.forEach(c -> memberRatingCountRepository.decrement(c.getId().memberId(), c.getId().rating(), c.getCount()));
+    }
+
+    @Transactional
+    public void deleteAllByMemberId(Long memberId) {
+        memberRatingCountRepository.deleteAllByMemberId(memberId);
+    }
+
+    public RatingSummaryDTO getSummary(Long memberId) {
+        return RatingMapper.toRatingSummaryDTO(memberRatingCountRepository.findAllByMemberId(memberId));
+    }
+
+    @Scheduled(cron = "${review.rating.rebuild-cron}")
+    @Transactional
+    public int rebuild() {
+        memberRatingCountRepository.deleteAllCounts();
+        return memberRatingCountRepository.insertCountsFromReviews();
+    }
+}
@@ -2,6 +2,7 @@ package com.app.domain.review.services;
 
 import com.app.domain.member.entities.Member;
 import com.app.domain.member.services.MemberService;
+import com.app.domain.review.dtos.RatingSummaryDTO;
 import com.app.domain.review.dtos.ReviewDTO;
 import com.app.domain.review.dtos.requests.MemberReviewRequest;
 import com.app.domain.review.entities.Comment;
@@ -21,10 +22,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class MemberReviewService extends ReviewService<MemberReviewRepository, MemberReview> {
 
     private final MemberService memberService;
+    private final MemberRatingService memberRatingService;
 
-    protected MemberReviewService(MemberReviewRepository reviewRepository, MemberService memberService) {
+    protected MemberReviewService(MemberReviewRepository reviewRepository, MemberService memberService, MemberRatingService memberRatingService) {
         super(reviewRepository);
         this.memberService = memberService;
+        this.memberRatingService = memberRatingService;
     }
 
     @Transactional
@@ -43,6 +46,7 @@ public class MemberReviewService extends ReviewService<MemberReviewRepository, M
             throw new ForbiddenException();
         }
         reviewRepository.deleteAllByMember(member);
+        memberRatingService.deleteAllByMemberId(memberId);
     }
 
     @Transactional
@@ -51,6 +55,7 @@ public class MemberReviewService extends ReviewService<MemberReviewRepository, M
         if (AuthUtils.isNotAllowedModifier(author)) {
             throw new ForbiddenException();
         }
+        memberRatingService.removeAll(reviewRepository.findRatingCountsByAuthor(author));
         reviewRepository.deleteAllByAuthor(author);
     }
 
@@ -67,8 +72,7 @@ public class MemberReviewService extends ReviewService<MemberReviewRepository, M
     }
 
     public long getReviewCountByMemberId(Long memberId) {
-        Member member = memberService.findById(memberId);
-        return reviewRepository.findReviewCountByMember(member);
+        return getRatingSummaryByMemberId(memberId).count();
     }
 
     public long getReviewCountByAuthorId(Long authorId) {
@@ -77,7 +81,21 @@ public class MemberReviewService extends ReviewService<MemberReviewRepository, M
     }
 
     public float getAverageReviewRatingByMemberId(Long memberId) {
-        Member member = memberService.findById(memberId);
-        return reviewRepository.findAverageReviewRatingByMember(member);
+        return getRatingSummaryByMemberId(memberId).average();
+    }
+
+    public RatingSummaryDTO getRatingSummaryByMemberId(Long memberId) {
+        memberService.findById(memberId);
+        return memberRatingService.getSummary(memberId);
+    }
+
+    @Override
+    protected void addRating(MemberReview review, int rating) {
+        memberRatingService.add(review.getMember().getId(), rating);
+    }
+
+    @Override
+    protected void removeRating(MemberReview review, int rating) {
+        memberRatingService.remove(review.getMember().getId(), rating);
     }
 }
@@ -9,12 +9,12 @@ import com.app.domain.review.exceptions.ReviewNotFoundException;
 import com.app.domain.review.mappers.ReviewMapper;
 import com.app.global.exceptions.ForbiddenException;
 import com.app.global.utils.AuthUtils;
+import com.app.domain.review.repositories.base.ReviewRepository;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
 
-public abstract class ReviewService<R extends JpaRepository<T, Long>, T extends Review> {
+public abstract class ReviewService<R extends ReviewRepository<T>, T extends Review> {
 
     protected final R reviewRepository;
 
@@ -26,34 +26,58 @@ public abstract class ReviewService<R extends JpaRepository<T, Long>, T extends
         return reviewRepository.findById(id).orElseThrow(ReviewNotFoundException::new);
     }
 
+    // Rating counts are moved from the rating read here, so writers of one review wait for each other
+    protected T getForUpdate(Long id) {
+        return reviewRepository.findForUpdateById(id).orElseThrow(ReviewNotFoundException::new);
+    }
+
     @Transactional
     public T save(T entity) {
+        boolean created = entity.getId() == null;
+        T saved;
         try {
-            return reviewRepository.saveAndFlush(entity);
+            saved = reviewRepository.saveAndFlush(entity);
         } catch (DataIntegrityViolationException e) {
             throw new DuplicateReviewException();
         }
+        if (created) {
+            addRating(saved, saved.getRating());
+        }
+        return saved;
     }
 
     @Transactional
     public ReviewDTO modify(Long reviewId, ModifyReviewRequest request) {
-        T review = getById(reviewId);
+        T review = getForUpdate(reviewId);
         if (AuthUtils.isNotAllowedModifier(review.getAuthor())) {
             throw new ForbiddenException();
         }
+        int previousRating = review.getRating();
         updateReview(review, request);
-        return ReviewMapper.toReviewDTO(save(review));
+        T saved = save(review);
+        if (saved.getRating() != previousRating) {
+            removeRating(saved, previousRating);
+            addRating(saved, saved.getRating());
+        }
+        return ReviewMapper.toReviewDTO(saved);
     }
 
     @Transactional
     public void deleteById(Long id) {
-        T review = getById(id);
+        T review = getForUpdate(id);
         if (AuthUtils.isNotAllowedModifier(review.getAuthor())) {
             throw new ForbiddenException();
         }
         reviewRepository.delete(review);
+        removeRating(review, review.getRating());
     }
 
+    // Keep the rating counts of the reviewed item or member in step, in the same transaction
+
+    protected abstract void addRating(T review, int rating);
+
+    protected abstract void removeRating(T review, int rating);
+
     private void updateReview(Review review, ModifyReviewRequest request) {
         if (request.rating() != null) {
             review.setRating(request.rating());
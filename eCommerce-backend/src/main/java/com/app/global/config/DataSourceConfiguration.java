@@ -0,0 +1,69 @@
+package com.app.global.config;
+
+import com.app.global.datasource.ReadWriteRoutingDataSource;
+import com.app.global.datasource.ReadYourWritesFilter;
+import com.app.global.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Two connection pools: the primary one from {@code spring.datasource}, and a replica one from {@code datasource.replica}
+ * when its url is set. Both are registered as beans so their pool metrics and health are reported separately.
+ * With a replica, members are kept on the primary for a short while after each write, see {@link ReadYourWritesFilter}.
+ */
+@Configuration
+public class DataSourceConfiguration {
+
+    private static final String REPLICA_ENABLED = "!'${datasource.replica.jdbc-url:}'.isBlank()";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    @ConditionalOnExpression(REPLICA_ENABLED)
+    HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @ConditionalOnExpression(REPLICA_ENABLED)
+    ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                        @Value("${datasource.replica.lag-query}") String lagQuery,
+                                        @Value("${datasource.replica.lag-column}") String lagColumn,
+                                        @Value("${datasource.replica.max-lag}") long maxLag,
+                                        MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(replica, lagQuery, lagColumn, maxLag, meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnExpression(REPLICA_ENABLED)
+    ReadYourWritesFilter readYourWritesFilter(@Value("${datasource.replica.read-your-writes-window}") long window) {
+        return new ReadYourWritesFilter(window);
+    }
+
+    // The one JPA and everything else uses
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                          @Qualifier("replicaDataSource") ObjectProvider<DataSource> replica,
+                          ObjectProvider<ReplicaLagMonitor> lagMonitor) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primary, replica.getIfAvailable(), lagMonitor.getIfAvailable()));
+    }
+}
@@ -3,6 +3,7 @@ package com.app.global.config.aws;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
@@ -22,12 +23,21 @@ public class S3ClientConfig {
     @Value("${aws.client.region}")
     private String awsRegion;
 
+    // Set to use an S3-compatible store such as MinIO or LocalStack instead of AWS
+    @Value("${aws.s3.endpoint:}")
+    private String s3Endpoint;
+
     @Bean
     public AmazonS3 getAmazonS3Client() {
         AWSCredentials credentials = new BasicAWSCredentials(awsAccessKey,awsSecretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withCredentials(new AWSStaticCredentialsProvider(credentials))
-                .withRegion(Regions.EU_NORTH_1)
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(credentials));
+        if (s3Endpoint.isBlank()) {
+            return builder.withRegion(Regions.EU_NORTH_1).build();
+        }
+        return builder
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(s3Endpoint, awsRegion))
+                .withPathStyleAccessEnabled(true)
                 .build();
     }
 }
@@ -1,6 +1,7 @@
 package com.app.global.config.security;
 
 import com.app.domain.member.services.JwtService;
+import com.app.domain.member.services.MemberPrincipalCache;
 import com.app.global.constants.RestEndpoints;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -25,10 +26,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final MemberPrincipalCache memberPrincipalCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserDetailsService userDetailsService, MemberPrincipalCache memberPrincipalCache) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.memberPrincipalCache = memberPrincipalCache;
     }
 
     @Override
@@ -49,12 +52,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        final String username = jwtService.extractUsername(jwt);
+        final String username = jwtService.extractValidUsername(jwt);
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (username != null && authentication == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            UserDetails userDetails = memberPrincipalCache.get(username, userDetailsService::loadUserByUsername);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (userDetails.isEnabled() && userDetails.isAccountNonLocked()) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
                         null,
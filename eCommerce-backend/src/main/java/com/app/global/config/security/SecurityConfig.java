@@ -36,6 +36,9 @@ public class SecurityConfig {
                         req.requestMatchers(
                                         RestEndpoints.PUBLIC_API + "/**"
                                 ).permitAll()
+                                .requestMatchers(
+                                        RestEndpoints.ADMIN_API + "/actuator/**"
+                                ).hasRole("ADMIN")
                                 .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -6,6 +6,10 @@ public class ExceptionMessages {
     public static final String DUPLICATE_CATEGORY_MESSAGE = "Category with such name already exists.";
 
     public static final String ITEM_NOT_FOUND_MESSAGE = "Item was not found.";
+    public static final String ITEM_IMPORT_NOT_FOUND_MESSAGE = "Item import was not found or has expired.";
+    public static final String ITEM_IMPORT_TOO_LARGE_MESSAGE = "Item import file is too large.";
+    public static final String TOO_MANY_ITEM_IMPORTS_MESSAGE = "Too many item imports are pending. Try again once one has finished.";
+    public static final String STOCK_RESERVATION_NOT_FOUND_MESSAGE = "Stock reservation was not found or has expired.";
 
     public static final String ROLE_NOT_FOUND_MESSAGE = "Role was not found.";
     public static final String ROLE_ALREADY_EXISTS_MESSAGE = "A role with this title already exists";
@@ -37,6 +41,10 @@ public class ExceptionMessages {
     public static final String CART_ITEM_NOT_FOUND_MESSAGE = "Cart item was not found.";
     public static final String INSUFFICIENT_STOCK_MESSAGE = "Requested quantity is greater than available stock.";
 
+    public static final String INVALID_CURSOR_MESSAGE = "Invalid page cursor.";
+
+    public static final String STATEMENT_BUDGET_EXCEEDED_MESSAGE = "%s ran %d SQL statements, over its budget of %d.";
+
             ;
     public static final String GENERIC_MESSAGE = "Something went wrong.";
 }
@@ -10,10 +10,20 @@ public class UserInputConstants {
 
     public static final int PRICE_PRECISION = 8;
     public static final int PRICE_SCALE = 2;
+    // Largest price a PRICE_PRECISION, PRICE_SCALE column holds
+    public static final String PRICE_MAX = "999999.99";
 
     public static final int TITLE_LENGTH_MIN = 3;
     public static final int TITLE_LENGTH_MAX = 40;
 
+    public static final int SEARCH_QUERY_LENGTH_MAX = 100;
+
+    public static final int SLICE_SIZE_MAX = 100;
+
+    public static final int CART_BATCH_SIZE_MAX = 100;
+
+    public static final int ITEM_MEDIA_COUNT_MAX = 10;
+
     public static final String USERNAME_REGEX = "^[a-zA-Z0-9_.-]+$";
     public static final int USERNAME_LENGTH_MIN = 3;
     public static final int USERNAME_LENGTH_MAX = 30;
@@ -0,0 +1,15 @@
+package com.app.global.datasource;
+
+/**
+ * The database a connection is taken from.
+ */
+public enum DataSourceRole {
+    /**
+     * Takes the writes, and the reads while the replica is off or lagging.
+     */
+    PRIMARY,
+    /**
+     * Takes the read-only transactions.
+     */
+    REPLICA
+}
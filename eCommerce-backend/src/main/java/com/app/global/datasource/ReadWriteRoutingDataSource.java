@@ -0,0 +1,60 @@
+package com.app.global.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out replica connections to read-only transactions while the {@link ReplicaLagMonitor} finds the replica
+ * close enough to the primary, and primary connections otherwise. A thread pinned to the primary (see
+ * {@link ReadYourWritesFilter}) only ever gets primary connections.
+ * <p>
+ * Transactions take their connection before they are marked read-only, so this must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which only asks for it on the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = ThreadLocal.withInitial(() -> false);
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    /**
+     * @param replica    {@code null} to send everything to the primary
+     * @param lagMonitor {@code null} when there is no replica
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceRole.PRIMARY, primary);
+        if (replica != null) {
+            targets.put(DataSourceRole.REPLICA, replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(true);
+    }
+
+    static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+
+    static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean replicaAvailable = lagMonitor != null && lagMonitor.isAvailable();
+        return replicaAvailable && !isPinnedToPrimary() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? DataSourceRole.REPLICA
+                : DataSourceRole.PRIMARY;
+    }
+}
@@ -0,0 +1,72 @@
+package com.app.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps the reads of a member who has just written on the primary, so they see their own writes while the replica
+ * catches up. Every request other than GET, HEAD, OPTIONS or TRACE counts as a write; the member's requests are
+ * pinned to the primary for {@code window} after the last one.
+ * <p>
+ * It runs after the security filters, which load the principal on the primary anyway. Anonymous writes
+ * (registration, verification) are not tracked: the login that follows them also loads its member on the primary.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS", "TRACE");
+    // Members writing within one window; past it the oldest are forgotten early and may read a lagging replica
+    private static final long MAX_WRITERS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    /**
+     * @param window in milliseconds
+     */
+    public ReadYourWritesFilter(long window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(window))
+                .maximumSize(MAX_WRITERS)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String member = authenticatedName();
+        boolean pinned = member != null && recentWriters.getIfPresent(member) != null;
+        if (pinned) {
+            ReadWriteRoutingDataSource.pinToPrimary();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (pinned) {
+                ReadWriteRoutingDataSource.unpin();
+            }
+            // Also after a failure, which may have written part of its changes before failing
+            if (member != null && !SAFE_METHODS.contains(request.getMethod())) {
+                recentWriters.put(member, Boolean.TRUE);
+            }
+        }
+    }
+
+    private static String authenticatedName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,91 @@
+package com.app.global.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Periodically asks the replica how far it is behind the primary. It is available for reads while that is known
+ * and at most {@code max-lag}; a failing check, a stopped replication or a lag too large sends reads to the primary
+ * until a later check finds it caught up again.
+ * <p>
+ * The lag is published as {@code datasource.replica.lag} in seconds, and the outcome as {@code datasource.replica.available}.
+ */
+public class ReplicaLagMonitor {
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLag;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean available;
+
+    /**
+     * @param lagQuery  returns the seconds the replica is behind in {@code lagColumn} of its first row,
+     *                  e.g. {@code SHOW SLAVE STATUS} and {@code Seconds_Behind_Master} on MariaDB
+     * @param maxLag    in milliseconds
+     */
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, String lagColumn, long maxLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLag = maxLag;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Seconds the read replica is behind the primary")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+                .description("Whether read-only transactions are sent to the read replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval}")
+    public void check() {
+        double lag;
+        try {
+            lag = queryLagSeconds();
+        } catch (SQLException e) {
+            log.debug("Replica lag check failed", e);
+            lag = Double.NaN;
+        }
+        lagSeconds = lag;
+        boolean nowAvailable = !Double.isNaN(lag) && lag * 1000 <= maxLag;
+        if (nowAvailable != available) {
+            if (nowAvailable) {
+                log.info("Read replica is {} sec. behind, sending reads to it", lag);
+            } else if (Double.isNaN(lag)) {
+                log.warn("Read replica is unreachable or not replicating, sending reads to the primary");
+            } else {
+                log.warn("Read replica is {} sec. behind, sending reads to the primary", lag);
+            }
+        }
+        available = nowAvailable;
+    }
+
+    // NaN when the replica does not replicate
+    private double queryLagSeconds() throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(lagQuery)) {
+            if (!result.next()) {
+                return Double.NaN;
+            }
+            double lag = result.getDouble(lagColumn);
+            return result.wasNull() ? Double.NaN : lag;
+        }
+    }
+}
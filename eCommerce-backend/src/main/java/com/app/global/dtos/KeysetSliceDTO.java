@@ -0,0 +1,6 @@
+package com.app.global.dtos;
+
+import java.util.List;
+
+public record KeysetSliceDTO<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+}
@@ -0,0 +1,7 @@
+package com.app.global.events;
+
+/**
+ * Marker for facts published on the {@link DomainEventBus}. Events are immutable and describe a committed change.
+ */
+public interface DomainEvent {
+}
@@ -0,0 +1,143 @@
+package com.app.global.events;
+
+import com.app.global.utils.TransactionUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process publish/subscribe for domain events.
+ * An event published inside a transaction is queued only once that transaction commits, so subscribers never
+ * see a change that was rolled back. A single background thread takes up to {@code domain.events.batch-size}
+ * queued events, waiting at most {@code domain.events.linger} for a batch to fill, and hands each subscriber
+ * the ones of its type. A failing subscriber is logged and does not affect the others.
+ * The queue lives in memory: events still queued when the process stops are lost.
+ */
+@Component
+public class DomainEventBus {
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBus.class);
+
+    private record Envelope(DomainEvent event, long publishedNanos) {
+    }
+
+    private final List<DomainEventSubscriber<?>> subscribers;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<Envelope> queue = new LinkedBlockingQueue<>();
+    private final Thread worker;
+    private final Timer lagTimer;
+
+    public DomainEventBus(List<DomainEventSubscriber<?>> subscribers,
+                          MeterRegistry meterRegistry,
+                          @Value("${domain.events.batch-size}") int batchSize,
+                          @Value("${domain.events.linger}") long linger) {
+        this.subscribers = subscribers;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(linger);
+        this.worker = Thread.ofPlatform().name("domain-events").daemon().unstarted(this::run);
+
+        Gauge.builder("domain.events.queued", queue, BlockingQueue::size)
+                .description("Events published but not yet handed to subscribers")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("domain.events.lag")
+                .description("Time from publishing an event to its subscribers having handled it")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the event once the current transaction commits, or right away if there is no transaction.
+     */
+    public void publish(DomainEvent event) {
+        TransactionUtils.afterCommit(() -> {
+            queue.add(new Envelope(event, System.nanoTime()));
+            meterRegistry.counter("domain.events.published", "type", event.getClass().getSimpleName()).increment();
+        });
+    }
+
+    @PostConstruct
+    void start() {
+        worker.start();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                dispatch(nextBatch());
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.error("Domain event dispatch failed", e);
+            }
+        }
+    }
+
+    // Blocks for the first event, then collects more until the batch is full or the linger time is up
+    private List<Envelope> nextBatch() throws InterruptedException {
+        List<Envelope> batch = new ArrayList<>(batchSize);
+        batch.add(queue.take());
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() == batchSize || remaining <= 0) {
+                break;
+            }
+            Envelope next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void dispatch(List<Envelope> batch) {
+        for (DomainEventSubscriber<?> subscriber : subscribers) {
+            deliver(subscriber, batch);
+        }
+        long now = System.nanoTime();
+        for (Envelope envelope : batch) {
+            lagTimer.record(now - envelope.publishedNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private <E extends DomainEvent> void deliver(DomainEventSubscriber<E> subscriber, List<Envelope> batch) {
+        Class<E> type = subscriber.eventType();
+        List<E> events = batch.stream()
+                .map(Envelope::event)
+                .filter(type::isInstance)
+                .map(type::cast)
+                .toList();
+        if (events.isEmpty()) {
+            return;
+        }
+        String subscriberName = ClassUtils.getUserClass(subscriber).getSimpleName();
+        try {
+            subscriber.handle(events);
+            meterRegistry.counter("domain.events.handled", "subscriber", subscriberName).increment(events.size());
+        } catch (RuntimeException e) {
+            meterRegistry.counter("domain.events.failed", "subscriber", subscriberName).increment(events.size());
+            log.error("Subscriber {} failed to handle {} events", subscriberName, events.size(), e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.app.global.events;
+
+import java.util.List;
+
+/**
+ * Receives every published event of {@link #eventType()} or a subtype, in batches, in publishing order.
+ * Handlers run on the bus thread, so they should not block on anything but the database.
+ */
+public interface DomainEventSubscriber<E extends DomainEvent> {
+
+    Class<E> eventType();
+
+    void handle(List<E> events);
+}
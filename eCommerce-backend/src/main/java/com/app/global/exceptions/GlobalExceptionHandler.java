@@ -4,16 +4,25 @@ import com.app.domain.cart.exceptions.CartItemNotFoundException;
 import com.app.domain.cart.exceptions.CartNotFoundException;
 import com.app.domain.cart.exceptions.InsufficientStockException;
 import com.app.domain.item.exceptions.CategoryNotFoundException;
+import com.app.domain.item.exceptions.ItemImportNotFoundException;
+import com.app.domain.item.exceptions.ItemImportTooLargeException;
 import com.app.domain.item.exceptions.ItemNotFoundException;
 import com.app.domain.item.exceptions.ParentCategoryNotFoundException;
+import com.app.domain.item.exceptions.StockReservationNotFoundException;
+import com.app.domain.item.exceptions.TooManyItemImportsException;
 import com.app.domain.member.exceptions.*;
 import com.app.domain.review.exceptions.*;
 import com.app.global.constants.ExceptionMessages;
 import com.app.global.dtos.ExceptionDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -22,7 +31,7 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
-    private static final Map<Class<? extends RuntimeException>, HttpStatus> EXCEPTION_STATUS_MAP = new HashMap<>();
+    private static final Map<Class<? extends Exception>, HttpStatus> EXCEPTION_STATUS_MAP = new HashMap<>();
 
     static {
         EXCEPTION_STATUS_MAP.put(CategoryNotFoundException.class, HttpStatus.NOT_FOUND);
@@ -30,6 +39,10 @@ public class GlobalExceptionHandler {
         EXCEPTION_STATUS_MAP.put(MemberNotFoundException.class, HttpStatus.NOT_FOUND);
         EXCEPTION_STATUS_MAP.put(MemberAlreadyExistsException.class, HttpStatus.CONFLICT);
         EXCEPTION_STATUS_MAP.put(ItemNotFoundException.class, HttpStatus.NOT_FOUND);
+        EXCEPTION_STATUS_MAP.put(StockReservationNotFoundException.class, HttpStatus.NOT_FOUND);
+        EXCEPTION_STATUS_MAP.put(ItemImportNotFoundException.class, HttpStatus.NOT_FOUND);
+        EXCEPTION_STATUS_MAP.put(ItemImportTooLargeException.class, HttpStatus.PAYLOAD_TOO_LARGE);
+        EXCEPTION_STATUS_MAP.put(TooManyItemImportsException.class, HttpStatus.TOO_MANY_REQUESTS);
         EXCEPTION_STATUS_MAP.put(RoleNotFoundException.class, HttpStatus.NOT_FOUND);
         EXCEPTION_STATUS_MAP.put(RoleAlreadyExistsException.class, HttpStatus.CONFLICT);
         EXCEPTION_STATUS_MAP.put(BadMemberCredentialsException.class, HttpStatus.UNAUTHORIZED);
@@ -46,11 +59,26 @@ public class GlobalExceptionHandler {
         EXCEPTION_STATUS_MAP.put(InsufficientStockException.class, HttpStatus.BAD_REQUEST);
         EXCEPTION_STATUS_MAP.put(CartItemNotFoundException.class, HttpStatus.NOT_FOUND);
         EXCEPTION_STATUS_MAP.put(CartNotFoundException.class, HttpStatus.NOT_FOUND);
+        EXCEPTION_STATUS_MAP.put(InvalidCursorException.class, HttpStatus.BAD_REQUEST);
+        // Bean validation of request bodies, bound request objects and handler parameters
+        EXCEPTION_STATUS_MAP.put(MethodArgumentNotValidException.class, HttpStatus.BAD_REQUEST);
+        EXCEPTION_STATUS_MAP.put(BindException.class, HttpStatus.BAD_REQUEST);
+        EXCEPTION_STATUS_MAP.put(HandlerMethodValidationException.class, HttpStatus.BAD_REQUEST);
+        EXCEPTION_STATUS_MAP.put(ConstraintViolationException.class, HttpStatus.BAD_REQUEST);
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ExceptionDTO> handleException(Exception exception) {
         HttpStatus status = EXCEPTION_STATUS_MAP.getOrDefault(exception.getClass(), HttpStatus.INTERNAL_SERVER_ERROR);
+        meterRegistry.counter("http.server.exceptions",
+                "exception", exception.getClass().getSimpleName(),
+                "status", String.valueOf(status.value())).increment();
         return buildResponseEntity(exception.getMessage() == null ?
                         ExceptionMessages.GENERIC_MESSAGE :
                         exception.getMessage(),
@@ -0,0 +1,9 @@
+package com.app.global.exceptions;
+
+import com.app.global.constants.ExceptionMessages;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super(ExceptionMessages.INVALID_CURSOR_MESSAGE);
+    }
+}
@@ -0,0 +1,9 @@
+package com.app.global.exceptions;
+
+import com.app.global.constants.ExceptionMessages;
+
+public class StatementBudgetExceededException extends RuntimeException {
+    public StatementBudgetExceededException(String endpoint, int statements, int budget) {
+        super(ExceptionMessages.STATEMENT_BUDGET_EXCEEDED_MESSAGE.formatted(endpoint, statements, budget));
+    }
+}
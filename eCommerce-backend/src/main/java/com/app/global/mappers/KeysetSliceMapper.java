@@ -0,0 +1,25 @@
+package com.app.global.mappers;
+
+import com.app.global.dtos.KeysetSliceDTO;
+import com.app.global.vos.KeysetCursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+public class KeysetSliceMapper {
+
+    private KeysetSliceMapper() {
+    }
+
+    /**
+     * Expects up to {@code size + 1} rows; the extra row only signals that another slice exists.
+     */
+    public static <E, T> KeysetSliceDTO<T> toKeysetSliceDTO(List<E> rows, int size,
+                                                            Function<E, KeysetCursor> cursorMapper,
+                                                            Function<E, T> contentMapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> sliceRows = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorMapper.apply(sliceRows.getLast()).encode() : null;
+        return new KeysetSliceDTO<>(sliceRows.stream().map(contentMapper).toList(), size, hasNext, nextCursor);
+    }
+}
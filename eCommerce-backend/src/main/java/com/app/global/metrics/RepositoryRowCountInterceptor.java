@@ -0,0 +1,76 @@
+package com.app.global.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records the rows each repository method returned, or changed for {@code @Modifying} queries,
+ * as {@code spring.data.repository.rows} tagged by repository and method.
+ * Timing of the same calls is recorded by Spring Boot as {@code spring.data.repository.invocations}.
+ * Counts, exists checks and streams are not recorded.
+ */
+public class RepositoryRowCountInterceptor implements MethodInterceptor {
+
+    static final String METRIC_NAME = "spring.data.repository.rows";
+
+    private final MeterRegistry meterRegistry;
+    private final String repository;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public RepositoryRowCountInterceptor(MeterRegistry meterRegistry, Class<?> repositoryInterface) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        long rows = rowCount(invocation.getMethod(), result);
+        if (rows >= 0) {
+            summaries.computeIfAbsent(invocation.getMethod(), this::summary).record(rows);
+        }
+        return result;
+    }
+
+    private DistributionSummary summary(Method method) {
+        return DistributionSummary.builder(METRIC_NAME)
+                .description("Rows returned or changed by one repository call")
+                .baseUnit("rows")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .register(meterRegistry);
+    }
+
+    // -1 when the result is not a number of rows
+    private static long rowCount(Method method, Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number number) {
+            return method.isAnnotationPresent(Modifying.class) ? number.longValue() : -1;
+        }
+        if (result == null) {
+            return method.getReturnType() == void.class ? -1 : 0;
+        }
+        if (result instanceof Boolean || result instanceof Iterable<?> || result instanceof AutoCloseable) {
+            return -1;
+        }
+        return 1;
+    }
+}
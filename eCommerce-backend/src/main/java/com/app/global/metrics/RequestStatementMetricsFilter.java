@@ -0,0 +1,124 @@
+package com.app.global.metrics;
+
+import com.app.global.exceptions.StatementBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many SQL statements each request ran, as {@code http.server.requests.statements}
+ * tagged like {@code http.server.requests}, so an N+1 regression shows up as a jump for one endpoint.
+ * It runs first, so statements of the security filters and of lazy loading while rendering are included.
+ * <p>
+ * Requests to handlers with a {@link StatementBudget} are checked against it as {@code sql.statement-budget.mode} says.
+ * If {@code sql.statement-budget.report-file} is set, the statements per request of every endpoint are also
+ * written to that file, worst first, when the application stops.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestStatementMetricsFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(RequestStatementMetricsFilter.class);
+
+    static final String METRIC_NAME = "http.server.requests.statements";
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final int NO_BUDGET = -1;
+
+    private final MeterRegistry meterRegistry;
+    private final StatementBudgetMode budgetMode;
+    private final String reportFile;
+    private final Map<Method, Integer> budgets = new ConcurrentHashMap<>();
+
+    public RequestStatementMetricsFilter(MeterRegistry meterRegistry,
+                                         @Value("${sql.statement-budget.mode}") StatementBudgetMode budgetMode,
+                                         @Value("${sql.statement-budget.report-file}") String reportFile) {
+        this.meterRegistry = meterRegistry;
+        this.budgetMode = budgetMode;
+        this.reportFile = reportFile;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        StatementCounter.start();
+        int statements;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements = StatementCounter.stop();
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("SQL statements run by one request")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uriPattern(request))
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+        checkBudget(request, statements);
+    }
+
+    @Override
+    public void destroy() {
+        if (reportFile.isBlank()) {
+            return;
+        }
+        try {
+            StatementReport.write(Path.of(reportFile));
+        } catch (IOException e) {
+            log.warn("Could not write the SQL statement report to {}", reportFile, e);
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, int statements) {
+        boolean reporting = !reportFile.isBlank();
+        if (budgetMode == StatementBudgetMode.OFF && !reporting
+                || !(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return;
+        }
+        int budget = budgets.computeIfAbsent(handler.getMethod(), m -> findBudget(handler));
+        String endpoint = request.getMethod() + " " + uriPattern(request);
+        if (reporting) {
+            StatementReport.record(endpoint, budget != NO_BUDGET ? budget : null, statements);
+        }
+        if (budget == NO_BUDGET || statements <= budget) {
+            return;
+        }
+        if (budgetMode == StatementBudgetMode.FAIL) {
+            throw new StatementBudgetExceededException(endpoint, statements, budget);
+        }
+        if (budgetMode == StatementBudgetMode.LOG) {
+            log.warn("{} ran {} SQL statements, over its budget of {}", endpoint, statements, budget);
+        }
+    }
+
+    private static int findBudget(HandlerMethod handler) {
+        StatementBudget budget = AnnotatedElementUtils.findMergedAnnotation(handler.getMethod(), StatementBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handler.getBeanType(), StatementBudget.class);
+        }
+        return budget != null ? budget.value() : NO_BUDGET;
+    }
+
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,14 @@
+package com.app.global.metrics;
+
+import java.lang.annotation.*;
+
+/**
+ * The most SQL statements one request to the annotated handler method, or to every handler of the
+ * annotated controller, may run. What happens when a request runs more is set by {@code sql.statement-budget.mode}.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StatementBudget {
+    int value();
+}
@@ -0,0 +1,17 @@
+package com.app.global.metrics;
+
+public enum StatementBudgetMode {
+    /**
+     * Budgets are not checked.
+     */
+    OFF,
+    /**
+     * A request over budget is logged as a warning.
+     */
+    LOG,
+    /**
+     * A request over budget fails with a {@link com.app.global.exceptions.StatementBudgetExceededException}.
+     * The response may already be sent by then, so this is meant for tests, where the exception fails the test.
+     */
+    FAIL
+}
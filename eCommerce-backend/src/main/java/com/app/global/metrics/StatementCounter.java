@@ -0,0 +1,38 @@
+package com.app.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between {@link #start()} and {@link #stop()}.
+ * Outside of such a span nothing is counted, so scheduled and background work costs a single thread-local read.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final class Count {
+        private int value;
+    }
+
+    private static final ThreadLocal<Count> CURRENT = new ThreadLocal<>();
+
+    public static void start() {
+        CURRENT.set(new Count());
+    }
+
+    /**
+     * Ends the span and returns the number of statements prepared in it.
+     */
+    public static int stop() {
+        Count count = CURRENT.get();
+        CURRENT.remove();
+        return count != null ? count.value : 0;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Count count = CURRENT.get();
+        if (count != null) {
+            count.value++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,57 @@
+package com.app.global.metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Statements per request of every endpoint, collected for the whole JVM so that a test run spanning several
+ * application contexts ends up in one report. The report lists the endpoints with the most statements per
+ * request first.
+ */
+final class StatementReport {
+
+    private record Entry(long requests, long statements, int max, Integer budget) {
+
+        Entry add(int requestStatements, Integer currentBudget) {
+            return new Entry(requests + 1, statements + requestStatements, Math.max(max, requestStatements), currentBudget);
+        }
+
+        double mean() {
+            return (double) statements / requests;
+        }
+    }
+
+    private static final Map<String, Entry> ENTRIES = new ConcurrentHashMap<>();
+
+    static void record(String endpoint, Integer budget, int statements) {
+        ENTRIES.merge(endpoint, new Entry(1, statements, statements, budget),
+                (entry, ignored) -> entry.add(statements, budget));
+    }
+
+    static void write(Path file) throws IOException {
+        List<Map.Entry<String, Entry>> rows = new ArrayList<>(ENTRIES.entrySet());
+        rows.sort(Comparator.comparingDouble((Map.Entry<String, Entry> row) -> row.getValue().mean()).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        List<String> lines = new ArrayList<>(rows.size() + 1);
+        lines.add("%-60s %9s %8s %6s %7s".formatted("endpoint", "requests", "mean", "max", "budget"));
+        for (Map.Entry<String, Entry> row : rows) {
+            Entry entry = row.getValue();
+            lines.add("%-60s %9d %8.1f %6d %7s".formatted(row.getKey(), entry.requests(), entry.mean(), entry.max(),
+                    entry.budget() != null ? entry.budget() : "-"));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.write(file, lines);
+    }
+
+    private StatementReport() {
+    }
+}
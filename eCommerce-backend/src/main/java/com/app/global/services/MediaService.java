@@ -1,78 +1,149 @@
 package com.app.global.services;
 
+import com.amazonaws.AmazonClientException;
 import com.app.global.enums.FileFormat;
 import com.app.global.exceptions.FailedToUploadFileException;
 import com.app.global.utils.FileUtils;
 import com.app.global.vos.Media;
 import com.app.infra.aws.AwsS3Service;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.apache.commons.io.FilenameUtils;
 
-import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
+/**
+ * Uploads media straight from the request stream to object storage.
+ * Every file gets a random key, so uploads of files with the same name never collide.
+ * Several files are uploaded in parallel, at most {@code media.upload.concurrency} at a time per call;
+ * if any of them fails, the ones already stored are deleted again. Uploads run on the application task
+ * executor, so they use virtual or platform threads as {@code spring.threads.virtual.enabled} says.
+ */
 @Service
 public class MediaService {
 
     private final AwsS3Service s3Service;
+    private final int uploadConcurrency;
+    private final AsyncTaskExecutor taskExecutor;
 
-    public MediaService(AwsS3Service s3Service) {
+    public MediaService(AwsS3Service s3Service,
+                        @Value("${media.upload.concurrency}") int uploadConcurrency,
+                        @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) AsyncTaskExecutor taskExecutor) {
         this.s3Service = s3Service;
+        this.uploadConcurrency = uploadConcurrency;
+        this.taskExecutor = taskExecutor;
+    }
+
+    private record PendingUpload(MultipartFile file, String baseName, FileFormat format) {
     }
 
     public List<Media> uploadAndGet(List<MultipartFile> multipartFileList) {
-        return multipartFileList.stream()
-                .map(this::tryUploadAndGet)
+        // Validate every file before storing any of them
+        List<PendingUpload> uploads = multipartFileList.stream()
+                .map(MediaService::toPendingUpload)
                 .toList();
+        if (uploads.size() == 1) {
+            return List.of(tryUpload(uploads.getFirst()));
+        }
+
+        // Permits are taken before submitting, so a pooled executor never has a thread waiting for one
+        Semaphore permits = new Semaphore(uploadConcurrency);
+        List<Future<Media>> futures = new ArrayList<>(uploads.size());
+        boolean interrupted = false;
+        for (PendingUpload upload : uploads) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                interrupted = true;
+                break;
+            }
+            futures.add(taskExecutor.submit(() -> {
+                try {
+                    return tryUpload(upload);
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+
+        // Waits for every submitted upload, even when interrupted, so none is still running when the stored ones are deleted
+        List<Media> uploaded = new ArrayList<>(uploads.size());
+        boolean failed = interrupted;
+        for (Future<Media> future : futures) {
+            while (true) {
+                try {
+                    uploaded.add(future.get());
+                    break;
+                } catch (ExecutionException e) {
+                    failed = true;
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    failed = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failed) {
+            FailedToUploadFileException failure = new FailedToUploadFileException();
+            uploaded.forEach(media -> deleteQuietly(media.key(), failure));
+            throw failure;
+        }
+        return uploaded;
     }
 
     public Media uploadAndGet(MultipartFile multipartFile) {
-        return tryUploadAndGet(multipartFile);
+        return tryUpload(toPendingUpload(multipartFile));
     }
 
-    public void delete(String fileKey) {
-        s3Service.delete(fileKey);
+    // External media are not in the bucket, so there is nothing to delete for them
+    public void delete(Media media) {
+        if (!media.isExternal()) {
+            s3Service.delete(media.key());
+        }
     }
 
-    private Media tryUploadAndGet(MultipartFile multipartFile) {
+    private Media tryUpload(PendingUpload upload) {
         try {
-            return UploadAndGetImpl(multipartFile);
-        } catch (IOException e) {
+            return uploadImpl(upload);
+        } catch (IOException | AmazonClientException e) {
             throw new FailedToUploadFileException();
         }
     }
 
-    private Media UploadAndGetImpl(MultipartFile multipartFile) throws IOException {
-        final String name = multipartFile.getOriginalFilename();
-
-        final String format = FileUtils.getValidatedFileFormat(name);
-        final String baseName = FilenameUtils.getBaseName(name);
-        final FileFormat fileFormat = FileFormat.valueOf(format);
+    private Media uploadImpl(PendingUpload upload) throws IOException {
         final String key = UUID.randomUUID().toString();
-
-        final File file = multipartToFile(multipartFile);
-        try {
-            String url = s3Service.upload(key, file);
-            return new Media(baseName, key, url, fileFormat);
-        } finally {
-            deleteTempFile(file);
+        final MultipartFile file = upload.file();
+        try (InputStream content = file.getInputStream()) {
+            String url = s3Service.upload(key, content, file.getSize(), file.getContentType());
+            return new Media(upload.baseName(), key, url, upload.format());
         }
     }
 
-    private static File multipartToFile(MultipartFile multipart) throws IOException {
-        File convFile = new File(System.getProperty("java.io.tmpdir") + "/" + multipart.getOriginalFilename());
-        multipart.transferTo(convFile);
-        return convFile;
+    private void deleteQuietly(String fileKey, RuntimeException cause) {
+        try {
+            s3Service.delete(fileKey);
+        } catch (AmazonClientException e) {
+            cause.addSuppressed(e);
+        }
     }
 
-    private static void deleteTempFile(File file) {
-        if (file != null && file.exists()) {
-            if (!file.delete()) {
-                throw new IllegalStateException("Failed to delete file."); // TODO
-            }
-        }
+    private static PendingUpload toPendingUpload(MultipartFile multipartFile) {
+        final String name = multipartFile.getOriginalFilename();
+        final String format = FileUtils.getValidatedFileFormat(name);
+        return new PendingUpload(multipartFile, FilenameUtils.getBaseName(name), FileFormat.valueOf(format));
     }
 }
@@ -0,0 +1,63 @@
+package com.app.global.vos;
+
+import com.app.global.exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page, ordered by (createdDate DESC, id DESC).
+ * Clients only ever see the opaque token produced by {@link #encode()}.
+ */
+public record KeysetCursor(LocalDateTime createdDate, String id) {
+
+    // Sorts after every stored row, so the first page uses the same query as the following ones
+    public static final KeysetCursor FIRST = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 0, 0), null);
+
+    private static final String SEPARATOR = "|";
+    private static final UUID UUID_MAX = new UUID(-1L, -1L);
+
+    public static KeysetCursor of(LocalDateTime createdDate, Object id) {
+        return new KeysetCursor(createdDate, String.valueOf(id));
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException();
+            }
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)), decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = createdDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public UUID uuidId() {
+        try {
+            return id == null ? UUID_MAX : UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public Long longId() {
+        try {
+            return id == null ? Long.MAX_VALUE : Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -4,9 +4,14 @@ import com.app.global.enums.FileFormat;
 import jakarta.persistence.Embeddable;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+/**
+ * A file shown on the storefront. Files uploaded through {@link com.app.global.services.MediaService} are kept
+ * in the bucket under {@code key}; external ones (see {@link #external}) are only linked to and have no key there.
+ */
 @Embeddable
 public record Media(
         @NotBlank
@@ -21,4 +26,15 @@ public record Media(
         @NotNull
         @Enumerated(EnumType.STRING)
         FileFormat format) {
+
+    public static final String EXTERNAL_KEY = "external";
+
+    public static Media external(String title, String url, FileFormat format) {
+        return new Media(title, EXTERNAL_KEY, url, format);
+    }
+
+    @Transient
+    public boolean isExternal() {
+        return EXTERNAL_KEY.equals(key);
+    }
 }
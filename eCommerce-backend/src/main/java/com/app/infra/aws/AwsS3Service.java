@@ -1,15 +1,22 @@
 package com.app.infra.aws;
 
-import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.*;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
+/**
+ * Streams uploads to S3 without staging them on disk.
+ * Objects of at least {@code aws.s3.multipart.threshold} bytes are sent as a multipart upload,
+ * one part of {@code aws.s3.multipart.part-size} bytes at a time, so memory use does not grow with the object.
+ */
 @Service
 public class AwsS3Service {
 
@@ -17,18 +24,77 @@ public class AwsS3Service {
     private String bucketName;
 
     private final AmazonS3 s3Client;
+    private final long multipartThreshold;
+    private final long partSize;
 
-    public AwsS3Service(AmazonS3 s3Client) {
+    public AwsS3Service(AmazonS3 s3Client,
+                        @Value("${aws.s3.multipart.threshold}") long multipartThreshold,
+                        @Value("${aws.s3.multipart.part-size}") long partSize) {
         this.s3Client = s3Client;
+        this.multipartThreshold = multipartThreshold;
+        this.partSize = partSize;
     }
 
-    public String upload(String fileKey, File file) throws AmazonServiceException {
-        s3Client.putObject(new PutObjectRequest(bucketName, fileKey, file)
-                .withCannedAcl(CannedAccessControlList.PublicRead));
+    /**
+     * Uploads exactly {@code size} bytes of the stream and returns the object's URL. The stream is not closed.
+     */
+    public String upload(String fileKey, InputStream content, long size, String contentType) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(size);
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+        if (size < multipartThreshold) {
+            s3Client.putObject(new PutObjectRequest(bucketName, fileKey, content, metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+        } else {
+            uploadMultipart(fileKey, content, size, metadata);
+        }
         return s3Client.getUrl(bucketName, fileKey).toString();
     }
 
     public void delete(String fileKey) {
         s3Client.deleteObject(bucketName, fileKey);
     }
+
+    private void uploadMultipart(String fileKey, InputStream content, long size, ObjectMetadata metadata) throws IOException {
+        metadata.setContentLength(0);
+        String uploadId = s3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, fileKey, metadata)
+                .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            long offset = 0;
+            for (int partNumber = 1; offset < size; partNumber++) {
+                long length = Math.min(partSize, size - offset);
+                InputStream part = BoundedInputStream.builder()
+                        .setInputStream(content)
+                        .setMaxCount(length)
+                        .setPropagateClose(false)
+                        .get();
+                UploadPartResult result = s3Client.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(fileKey)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(length)
+                        .withInputStream(part)
+                        .withLastPart(offset + length == size));
+                partETags.add(result.getPartETag());
+                offset += length;
+            }
+            s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, fileKey, uploadId, partETags));
+        } catch (AmazonClientException | IOException e) {
+            abortQuietly(fileKey, uploadId, e);
+            throw e;
+        }
+    }
+
+    // Parts of an unfinished upload are billed until the upload is aborted
+    private void abortQuietly(String fileKey, String uploadId, Exception cause) {
+        try {
+            s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, fileKey, uploadId));
+        } catch (AmazonClientException e) {
+            cause.addSuppressed(e);
+        }
+    }
 }
@@ -0,0 +1,204 @@
+package com.app.infra.email;
+
+import com.app.infra.email.entities.OutboundEmail;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background sender for the email outbox.
+ * Every poll claims a batch of due emails and splits it across a fixed pool of workers.
+ * Each worker sends its share over a single SMTP connection. Workers are platform threads,
+ * because the SMTP transport blocks inside synchronized methods and would pin virtual threads.
+ */
+@Component
+public class EmailDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(EmailDispatcher.class);
+
+    private record Share(List<OutboundEmail> emails, Future<Map<Long, String>> errors) {
+    }
+
+    private final EmailOutboxService emailOutboxService;
+    private final JavaMailSender sender;
+    private final String from;
+    private final int batchSize;
+    private final int workers;
+    private final ExecutorService workerPool;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final Timer sendTimer;
+    private final Timer deliveryTimer;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    public EmailDispatcher(EmailOutboxService emailOutboxService,
+                           JavaMailSender sender,
+                           MeterRegistry meterRegistry,
+                           @Value("${spring.mail.username}") String from,
+                           @Value("${email.outbox.batch-size}") int batchSize,
+                           @Value("${email.outbox.workers}") int workers) {
+        this.emailOutboxService = emailOutboxService;
+        this.sender = sender;
+        this.from = from;
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.workerPool = Executors.newFixedThreadPool(workers, Thread.ofPlatform().name("email-worker-", 0).factory());
+
+        Gauge.builder("email.outbox.pending", pending, AtomicLong::get)
+                .description("Emails waiting to be sent, as of the last poll")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("email.outbox.send")
+                .description("Time to send one worker's share of a batch over one SMTP connection")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("email.outbox.delivery")
+                .description("Time from enqueueing an email to its successful delivery")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("email.outbox.sent");
+        this.retriedCounter = meterRegistry.counter("email.outbox.retried");
+        this.deadCounter = meterRegistry.counter("email.outbox.dead");
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval}", initialDelayString = "${email.outbox.poll-interval}")
+    public void poll() {
+        try {
+            // A full batch means more are likely due, so keep draining
+            int dispatched;
+            do {
+                dispatched = dispatch();
+            } while (dispatched == batchSize);
+            pending.set(emailOutboxService.countPending());
+        } catch (RuntimeException e) {
+            log.error("Email outbox poll failed", e);
+        }
+    }
+
+    /**
+     * Sends one batch of due emails and records the outcome of each. Returns the batch size, or 0 when
+     * interrupted; then only the shares already sent are recorded.
+     */
+    public int dispatch() {
+        List<OutboundEmail> batch = emailOutboxService.claimDue(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<Share> shares = new ArrayList<>(workers);
+        int shareSize = (batch.size() + workers - 1) / workers;
+        for (int start = 0; start < batch.size(); start += shareSize) {
+            List<OutboundEmail> share = batch.subList(start, Math.min(start + shareSize, batch.size()));
+            shares.add(new Share(share, workerPool.submit(() -> send(share))));
+        }
+
+        List<OutboundEmail> finished = new ArrayList<>(batch.size());
+        Map<Long, String> errorsById = new HashMap<>();
+        boolean interrupted = false;
+        for (Share share : shares) {
+            if (!interrupted) {
+                try {
+                    errorsById.putAll(share.errors().get());
+                    finished.addAll(share.emails());
+                    continue;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            // Unrecorded emails become due again when their claim lapses, so a share already sent is recorded
+            if (share.errors().state() == Future.State.SUCCESS) {
+                errorsById.putAll(share.errors().resultNow());
+                finished.addAll(share.emails());
+            }
+        }
+
+        List<Long> sentIds = new ArrayList<>(finished.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (OutboundEmail email : finished) {
+            if (!errorsById.containsKey(email.getId())) {
+                sentIds.add(email.getId());
+                deliveryTimer.record(Duration.between(email.getCreatedDate(), now));
+            }
+        }
+        emailOutboxService.markSent(sentIds);
+        int dead = emailOutboxService.markFailed(errorsById);
+        sentCounter.increment(sentIds.size());
+        retriedCounter.increment(errorsById.size() - dead);
+        deadCounter.increment(dead);
+        if (!errorsById.isEmpty()) {
+            log.warn("Failed to send {} of {} emails, {} given up", errorsById.size(), finished.size(), dead);
+        }
+        // Set again only once the outcomes are recorded, so the interrupt does not abort those writes; 0 stops the poll
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+        return batch.size();
+    }
+
+    // Returns the error of every email that could not be sent
+    private Map<Long, String> send(List<OutboundEmail> emails) {
+        Map<MimeMessage, Long> idsByMessage = new IdentityHashMap<>();
+        Map<Long, String> errorsById = new HashMap<>();
+        for (OutboundEmail email : emails) {
+            try {
+                idsByMessage.put(toMimeMessage(email), email.getId());
+            } catch (MessagingException e) {
+                errorsById.put(email.getId(), e.toString());
+            }
+        }
+        if (idsByMessage.isEmpty()) {
+            return errorsById;
+        }
+
+        Timer.Sample sample = Timer.start();
+        try {
+            sender.send(idsByMessage.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                idsByMessage.values().forEach(id -> errorsById.put(id, e.toString()));
+            }
+            e.getFailedMessages().forEach((message, error) ->
+                    errorsById.put(idsByMessage.get((MimeMessage) message), error.toString()));
+        } catch (MailException e) {
+            idsByMessage.values().forEach(id -> errorsById.put(id, e.toString()));
+        } finally {
+            sample.stop(sendTimer);
+        }
+        return errorsById;
+    }
+
+    private MimeMessage toMimeMessage(OutboundEmail email) throws MessagingException {
+        MimeMessage message = sender.createMimeMessage();
+        message.setFrom(from);
+        message.setRecipients(MimeMessage.RecipientType.TO, email.getRecipient());
+        message.setSubject(email.getSubject());
+        message.setContent(email.getHtmlContent(), "text/html; charset=utf-8");
+        return message;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workerPool.close();
+    }
+}
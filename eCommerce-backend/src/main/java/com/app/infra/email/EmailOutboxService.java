@@ -0,0 +1,118 @@
+package com.app.infra.email;
+
+import com.app.infra.email.entities.OutboundEmail;
+import com.app.infra.email.repositories.OutboundEmailRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Durable queue of outbound emails. Emails are enqueued in the caller's transaction,
+ * so an email exists exactly when the change that triggered it was committed.
+ * Failed sends are retried with exponential backoff and jitter, up to a maximum number
+ * of attempts, after which the email is kept as DEAD for inspection.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmailOutboxService {
+
+    private final OutboundEmailRepository outboundEmailRepository;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public EmailOutboxService(OutboundEmailRepository outboundEmailRepository,
+                              @Value("${email.outbox.lease}") long lease,
+                              @Value("${email.outbox.max-attempts}") int maxAttempts,
+                              @Value("${email.outbox.backoff.initial}") long initialBackoff,
+                              @Value("${email.outbox.backoff.max}") long maxBackoff) {
+        this.outboundEmailRepository = outboundEmailRepository;
+        this.lease = Duration.ofMillis(lease);
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoff);
+        this.maxBackoff = Duration.ofMillis(maxBackoff);
+    }
+
+    @Transactional
+    public OutboundEmail enqueue(String recipient, String subject, String htmlContent) {
+        return outboundEmailRepository.save(new OutboundEmail(recipient, subject, htmlContent));
+    }
+
+    /**
+     * Claims up to {@code size} due emails for this caller. A claim lasts for the configured lease;
+     * emails neither sent nor failed by then become due again.
+     */
+    @Transactional
+    public List<OutboundEmail> claimDue(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboundEmailRepository.findDueIds(now, Limit.of(size));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        UUID claim = UUID.randomUUID();
+        outboundEmailRepository.claim(ids, claim, now, now.plus(lease));
+        return outboundEmailRepository.findAllByClaim(claim);
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            outboundEmailRepository.deleteAllByIdInBatch(ids);
+        }
+    }
+
+    /**
+     * Schedules the next attempt of each failed email, or marks it DEAD once it ran out of attempts.
+     * Returns the number of emails marked DEAD.
+     */
+    @Transactional
+    public int markFailed(Map<Long, String> errorsById) {
+        if (errorsById.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int dead = 0;
+        for (OutboundEmail email : outboundEmailRepository.findAllById(errorsById.keySet())) {
+            email.setAttempts(email.getAttempts() + 1);
+            email.setClaim(null);
+            email.setLastError(truncate(errorsById.get(email.getId())));
+            if (email.getAttempts() >= maxAttempts) {
+                email.setStatus(OutboundEmail.Status.DEAD);
+                dead++;
+            } else {
+                email.setNextAttemptAt(now.plus(backoff(email.getAttempts())));
+            }
+        }
+        return dead;
+    }
+
+    public long countPending() {
+        return outboundEmailRepository.countByStatus(OutboundEmail.Status.PENDING);
+    }
+
+    // Helpers
+
+    Duration backoff(int attempts) {
+        long base = initialBackoff.toMillis() << Math.min(attempts - 1, 30);
+        long capped = Math.min(base < 0 ? Long.MAX_VALUE : base, maxBackoff.toMillis());
+        // Up to 20% jitter keeps emails that failed together from retrying together
+        return Duration.ofMillis(capped + ThreadLocalRandom.current().nextLong(capped / 5 + 1));
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= OutboundEmail.ERROR_LENGTH_MAX) {
+            return error;
+        }
+        return error.substring(0, OutboundEmail.ERROR_LENGTH_MAX);
+    }
+}
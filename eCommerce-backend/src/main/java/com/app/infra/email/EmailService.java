@@ -1,10 +1,6 @@
 package com.app.infra.email;
 
 import com.app.domain.member.entities.VerificationToken;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
@@ -12,19 +8,19 @@ import org.thymeleaf.context.Context;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * Composes emails and hands them to the outbox; EmailDispatcher delivers them in the background.
+ * Sending joins the caller's transaction, so a rolled back change sends nothing.
+ */
 @Service
 public class EmailService {
 
-    private final JavaMailSender sender;
+    private final EmailOutboxService emailOutboxService;
     private final TemplateEngine templateEngine;
 
-    @Value("${spring.mail.username}")
-    private String from;
-
-    public EmailService(JavaMailSender sender, TemplateEngine templateEngine) {
-        this.sender = sender;
+    public EmailService(EmailOutboxService emailOutboxService, TemplateEngine templateEngine) {
+        this.emailOutboxService = emailOutboxService;
         this.templateEngine = templateEngine;
-
     }
 
     public void sendVerificationEmail(String recipient, VerificationToken token) {
@@ -34,17 +30,7 @@ public class EmailService {
     }
 
     public void sendHtmlEmail(String recipient, String subject, String htmlContent) {
-        try {
-            MimeMessage message = sender.createMimeMessage();
-            message.setFrom(from);
-            message.setRecipients(MimeMessage.RecipientType.TO, recipient);
-            message.setSubject(subject);
-            message.setContent(htmlContent, "text/html; charset=utf-8");
-
-            sender.send(message);
-        } catch (MessagingException e) {
-            throw new RuntimeException(e);
-        }
+        emailOutboxService.enqueue(recipient, subject, htmlContent);
     }
 
     private String getVerificationHtmlContent(VerificationToken token) {
@@ -0,0 +1,151 @@
+package com.app.infra.email.entities;
+
+import com.app.global.entities.AuditableEntity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "outbound_email", indexes = {
+        @Index(name = "idx_outbound_email_due", columnList = "outbound_email_status, outbound_email_next_attempt_at, outbound_email_id"),
+        @Index(name = "idx_outbound_email_claim", columnList = "outbound_email_claim")})
+public class OutboundEmail extends AuditableEntity {
+    public static final int ERROR_LENGTH_MAX = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbound_email_id")
+    private Long id;
+
+    @NotBlank
+    @Column(name = "outbound_email_recipient", nullable = false)
+    private String recipient;
+
+    @NotBlank
+    @Column(name = "outbound_email_subject", nullable = false)
+    private String subject;
+
+    @Lob
+    @Column(name = "outbound_email_content", nullable = false)
+    private String htmlContent;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "outbound_email_status", nullable = false)
+    private Status status = Status.PENDING;
+
+    @Column(name = "outbound_email_attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "outbound_email_next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // Set while a dispatcher holds the email; the claim lapses when nextAttemptAt passes
+    @Column(name = "outbound_email_claim")
+    private UUID claim;
+
+    @Column(name = "outbound_email_last_error", length = ERROR_LENGTH_MAX)
+    private String lastError;
+
+    protected OutboundEmail() {
+    }
+
+    public OutboundEmail(String recipient, String subject, String htmlContent) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.htmlContent = htmlContent;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        PENDING,
+        DEAD
+    }
+
+    // AUTO GENERATED
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public void setRecipient(String recipient) {
+        this.recipient = recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public void setSubject(String subject) {
+        this.subject = subject;
+    }
+
+    public String getHtmlContent() {
+        return htmlContent;
+    }
+
+    public void setHtmlContent(String htmlContent) {
+        this.htmlContent = htmlContent;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public UUID getClaim() {
+        return claim;
+    }
+
+    public void setClaim(UUID claim) {
+        this.claim = claim;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboundEmail{" +
+                "id=" + id +
+                ", recipient='" + recipient + '\'' +
+                ", subject='" + subject + '\'' +
+                ", status=" + status +
+                ", attempts=" + attempts +
+                ", nextAttemptAt=" + nextAttemptAt +
+                '}';
+    }
+}
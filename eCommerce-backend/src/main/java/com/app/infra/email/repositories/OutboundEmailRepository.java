@@ -0,0 +1,37 @@
+package com.app.infra.email.repositories;
+
+import com.app.infra.email.entities.OutboundEmail;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboundEmailRepository extends JpaRepository<OutboundEmail, Long> {
+
+    @Query("SELECT e.id FROM OutboundEmail e " +
+            "WHERE e.status = com.app.infra.email.entities.OutboundEmail.Status.PENDING AND e.nextAttemptAt <= :now " +
+            "ORDER BY e.nextAttemptAt, e.id")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Limit limit);
+
+    // Only rows still due are claimed, so two dispatchers never take the same email
+    @Modifying
+    @Query("UPDATE OutboundEmail e SET e.claim = :claim, e.nextAttemptAt = :leaseExpiry " +
+            "WHERE e.id IN :ids AND e.status = com.app.infra.email.entities.OutboundEmail.Status.PENDING " +
+            "AND e.nextAttemptAt <= :now")
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("claim") UUID claim,
+              @Param("now") LocalDateTime now,
+              @Param("leaseExpiry") LocalDateTime leaseExpiry);
+
+    @Query("SELECT e FROM OutboundEmail e WHERE e.claim = :claim ORDER BY e.id")
+    List<OutboundEmail> findAllByClaim(@Param("claim") UUID claim);
+
+    @Query("SELECT COUNT(e) FROM OutboundEmail e WHERE e.status = :status")
+    long countByStatus(@Param("status") OutboundEmail.Status status);
+}
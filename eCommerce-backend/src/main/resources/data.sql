@@ -18,4 +18,6 @@ VALUES (1, NOW(), NOW(), TRUE, FALSE, 'test123@gmail.com', 'MALE',
 UPDATE
     member_id = member_id;
 
-
+-- Ids of new members continue after the ones above. Only a sequence that was just created is moved,
+-- so restarts leave it alone; existing databases are moved by db/migration/V1__sequence_ids.sql
+SELECT SETVAL(member_seq, 2) FROM member_seq WHERE next_not_cached_value = 1;
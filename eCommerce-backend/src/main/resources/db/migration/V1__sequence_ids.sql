@@ -0,0 +1,71 @@
+-- Moves the ids of these tables from identity columns to sequences, for databases created before they used them.
+-- Run once on MariaDB (10.3 or later) before deploying the version that takes ids from the sequences.
+-- New databases do not need it: ddl-auto creates the sequences and data.sql moves member_seq past the seeded members.
+--
+-- Each sequence is created as Hibernate would create it, then set to its table's highest id (1 when the table is
+-- empty, the lowest value a sequence takes). Hibernate takes 50 ids per NEXTVAL, so the first new row gets the id
+-- right after it. Running it again changes nothing, as SETVAL never moves a sequence back.
+
+-- CATEGORY
+CREATE SEQUENCE IF NOT EXISTS category_seq START WITH 1 INCREMENT BY 50;
+SET @max_id = (SELECT GREATEST(COALESCE(MAX(category_id), 1), 1) FROM category);
+SET @set_sequence = CONCAT('SELECT SETVAL(category_seq, ', @max_id, ')');
+PREPARE set_sequence FROM @set_sequence;
+EXECUTE set_sequence;
+DEALLOCATE PREPARE set_sequence;
+
+-- ITEM MEDIA
+CREATE SEQUENCE IF NOT EXISTS item_media_seq START WITH 1 INCREMENT BY 50;
+SET @max_id = (SELECT GREATEST(COALESCE(MAX(item_media_id), 1), 1) FROM item_media);
+SET @set_sequence = CONCAT('SELECT SETVAL(item_media_seq, ', @max_id, ')');
+PREPARE set_sequence FROM @set_sequence;
+EXECUTE set_sequence;
+DEALLOCATE PREPARE set_sequence;
+
+-- CART ITEM
+CREATE SEQUENCE IF NOT EXISTS cart_item_seq START WITH 1 INCREMENT BY 50;
+SET @max_id = (SELECT GREATEST(COALESCE(MAX(cart_item_id), 1), 1) FROM cart_item);
+SET @set_sequence = CONCAT('SELECT SETVAL(cart_item_seq, ', @max_id, ')');
+PREPARE set_sequence FROM @set_sequence;
+EXECUTE set_sequence;
+DEALLOCATE PREPARE set_sequence;
+
+-- COMMENT
+CREATE SEQUENCE IF NOT EXISTS comment_seq START WITH 1 INCREMENT BY 50;
+SET @max_id = (SELECT GREATEST(COALESCE(MAX(comment_id), 1), 1) FROM comment);
+SET @set_sequence = CONCAT('SELECT SETVAL(comment_seq, ', @max_id, ')');
+PREPARE set_sequence FROM @set_sequence;
+EXECUTE set_sequence;
+DEALLOCATE PREPARE set_sequence;
+
+-- COMMENT REACTION
+CREATE SEQUENCE IF NOT EXISTS comment_reaction_seq START WITH 1 INCREMENT BY 50;
+SET @max_id = (SELECT GREATEST(COALESCE(MAX(reaction_id), 1), 1) FROM comment_reaction);
+SET @set_sequence = CONCAT('SELECT SETVAL(comment_reaction_seq, ', @max_id, ')');
+PREPARE set_sequence FROM @set_sequence;
+EXECUTE set_sequence;
+DEALLOCATE PREPARE set_sequence;
+
+-- MEMBER
+CREATE SEQUENCE IF NOT EXISTS member_seq START WITH 1 INCREMENT BY 50;
+SET @max_id = (SELECT GREATEST(COALESCE(MAX(member_id), 1), 1) FROM member);
+SET @set_sequence = CONCAT('SELECT SETVAL(member_seq, ', @max_id, ')');
+PREPARE set_sequence FROM @set_sequence;
+EXECUTE set_sequence;
+DEALLOCATE PREPARE set_sequence;
+
+-- ITEM REVIEW
+CREATE SEQUENCE IF NOT EXISTS item_review_seq START WITH 1 INCREMENT BY 50;
+SET @max_id = (SELECT GREATEST(COALESCE(MAX(review_id), 1), 1) FROM item_review);
+SET @set_sequence = CONCAT('SELECT SETVAL(item_review_seq, ', @max_id, ')');
+PREPARE set_sequence FROM @set_sequence;
+EXECUTE set_sequence;
+DEALLOCATE PREPARE set_sequence;
+
+-- MEMBER REVIEW
+CREATE SEQUENCE IF NOT EXISTS member_review_seq START WITH 1 INCREMENT BY 50;
+SET @max_id = (SELECT GREATEST(COALESCE(MAX(review_id), 1), 1) FROM member_review);
+SET @set_sequence = CONCAT('SELECT SETVAL(member_review_seq, ', @max_id, ')');
+PREPARE set_sequence FROM @set_sequence;
+EXECUTE set_sequence;
+DEALLOCATE PREPARE set_sequence;
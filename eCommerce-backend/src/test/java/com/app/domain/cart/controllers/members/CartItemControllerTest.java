@@ -1,9 +1,15 @@
 package com.app.domain.cart.controllers.members;
 
 
+import com.app.domain.cart.dtos.CartBatchDTO;
 import com.app.domain.cart.dtos.CartDTO;
 import com.app.domain.cart.dtos.CartItemDTO;
+import com.app.domain.cart.dtos.CartOperationResultDTO;
+import com.app.domain.cart.dtos.requests.CartBatchRequest;
 import com.app.domain.cart.dtos.requests.CartItemRequest;
+import com.app.domain.cart.dtos.requests.CartOperationRequest;
+import com.app.domain.cart.enums.CartOperationStatus;
+import com.app.domain.cart.enums.CartOperationType;
 import com.app.domain.cart.exceptions.CartItemNotFoundException;
 import com.app.domain.cart.exceptions.InsufficientStockException;
 import com.app.domain.cart.services.CartItemService;
@@ -62,7 +68,8 @@ public class CartItemControllerTest {
         itemRequest = new CartItemRequest(item.getId(), 1);
         CartItemDTO cartItemDTO = new CartItemDTO(1L,
                 ItemMapper.toItemSummaryDTO(item),
-                item.getQuantity());
+                item.getQuantity(),
+                item.getPrice());
         cartDTO = new CartDTO(UUID.randomUUID(), List.of(cartItemDTO), cartItemDTO.itemSummary().price());
         itemRequestJson = StringUtils.toJSON(itemRequest);
     }
@@ -93,6 +100,24 @@ public class CartItemControllerTest {
                 .andExpect(jsonPath("$.message", is(ExceptionMessages.INSUFFICIENT_STOCK_MESSAGE)));
     }
 
+    @Test
+    void applyBatch_ok() throws Exception {
+        CartBatchRequest request = new CartBatchRequest(List.of(
+                new CartOperationRequest(CartOperationType.ADD, itemRequest.itemId(), 1)));
+        CartOperationResultDTO result = new CartOperationResultDTO(itemRequest.itemId(), CartOperationType.ADD,
+                CartOperationStatus.APPLIED, 1);
+        given(cartItemService.applyBatch(request)).willReturn(new CartBatchDTO(cartDTO, List.of(result)));
+
+        mockMvc.perform(post(CartItemController.BASE_URL + "/batch")
+                        .content(StringUtils.toJSON(request))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cart.cartId", is(cartDTO.cartId().toString())))
+                .andExpect(jsonPath("$.results.size()", is(1)))
+                .andExpect(jsonPath("$.results[0].status", is(CartOperationStatus.APPLIED.name())));
+    }
+
     @Test
     void modifyCartItem_ok() throws Exception {
         given(cartItemService.modifyCartItem(1L, itemRequest.quantity())).willReturn(cartDTO);
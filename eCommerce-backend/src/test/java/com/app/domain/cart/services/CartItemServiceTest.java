@@ -1,14 +1,20 @@
 package com.app.domain.cart.services;
 
+import com.app.domain.cart.dtos.CartBatchDTO;
 import com.app.domain.cart.dtos.CartDTO;
 import com.app.domain.cart.dtos.CartItemDTO;
+import com.app.domain.cart.dtos.requests.CartBatchRequest;
 import com.app.domain.cart.dtos.requests.CartItemRequest;
+import com.app.domain.cart.dtos.requests.CartOperationRequest;
+import com.app.domain.cart.enums.CartOperationStatus;
 import com.app.domain.cart.entities.Cart;
 import com.app.domain.cart.exceptions.CartItemNotFoundException;
 import com.app.domain.cart.exceptions.InsufficientStockException;
 import com.app.domain.cart.repositories.CartItemRepository;
 import com.app.domain.cart.repositories.CartRepository;
+import com.app.domain.cart.entities.CartItem;
 import com.app.domain.item.entities.Item;
+import com.app.domain.item.events.ItemPriceChangedEvent;
 import com.app.domain.item.exceptions.ItemNotFoundException;
 import com.app.domain.item.repositories.ItemRepository;
 import com.app.domain.item.services.ItemService;
@@ -17,7 +23,11 @@ import com.app.domain.member.repositories.MemberRepository;
 import com.app.domain.member.services.MemberService;
 import com.app.utils.domain.item.RandomItemBuilder;
 import com.app.utils.domain.member.RandomMemberBuilder;
+import com.app.global.events.DomainEventBus;
 import com.app.utils.global.NumberUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,9 +37,18 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static com.app.domain.cart.enums.CartOperationType.*;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 
@@ -54,6 +73,12 @@ public class CartItemServiceTest {
     private ItemService itemService;
     @Autowired
     private ItemRepository itemRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private DomainEventBus domainEventBus;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     @MockBean
     private Authentication authentication;
@@ -90,7 +115,8 @@ public class CartItemServiceTest {
 
     @AfterEach
     void clear() {
-        cartItemRepository.deleteAll();
+        // Also zeroes the stored total, which is only ever moved by deltas
+        cartItemService.clear();
     }
 
     @Test
@@ -192,4 +218,189 @@ public class CartItemServiceTest {
         itemService.save(item);
         return item;
     }
-}
\ No newline at end of file
+
+    @Test
+    void totalCost_followsEveryLineChange() {
+        Item item2 = createItem(3);
+        BigDecimal price = item.getPrice();
+        BigDecimal price2 = item2.getPrice();
+
+        CartDTO cart = cartItemService.addItemToCart(new CartItemRequest(item.getId(), 2));
+        assertSameAmount(price.multiply(BigDecimal.TWO), cart.totalCost());
+
+        cart = cartItemService.addItemToCart(new CartItemRequest(item.getId(), 1));
+        assertSameAmount(price.multiply(BigDecimal.valueOf(3)), cart.totalCost());
+
+        Long lineId = cart.items().getFirst().cardId();
+        cart = cartItemService.modifyCartItem(lineId, 1);
+        assertSameAmount(price, cart.totalCost());
+
+        cart = cartItemService.addItemToCart(new CartItemRequest(item2.getId(), 3));
+        assertSameAmount(price.add(price2.multiply(BigDecimal.valueOf(3))), cart.totalCost());
+
+        cart = cartItemService.removeItemFromCart(lineId);
+        assertSameAmount(price2.multiply(BigDecimal.valueOf(3)), cart.totalCost());
+
+        cart = cartItemService.clear();
+        assertSameAmount(BigDecimal.ZERO, cart.totalCost());
+    }
+
+    @Test
+    void addItemToCart_concurrentFirstAdds_mergeIntoOneLine() throws Exception {
+        CartItemRequest request = new CartItemRequest(item.getId(), 1);
+        CountDownLatch firstAdded = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+
+        // The first add holds its transaction open while the second one starts from an empty cart
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            transactionTemplate.executeWithoutResult(status -> {
+                cartItemService.addItemToCart(request);
+                firstAdded.countDown();
+                try {
+                    commitFirst.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        });
+        assertTrue(firstAdded.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            cartItemService.addItemToCart(request);
+        });
+        Thread.sleep(300);
+        commitFirst.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        CartDTO cart = cartService.getCartDto();
+        assertEquals(1, cart.items().size());
+        assertEquals(2, cart.items().getFirst().quantity());
+        assertSameAmount(item.getPrice().multiply(BigDecimal.TWO), cart.totalCost());
+    }
+
+    @Test
+    void addItemToCart_keepsPriceSnapshot() {
+        Item repriced = createItem(2);
+        BigDecimal oldPrice = repriced.getPrice();
+        cartItemService.addItemToCart(new CartItemRequest(repriced.getId(), 1));
+
+        repriced.setPrice(oldPrice.add(BigDecimal.TEN));
+        itemService.save(repriced);
+        CartDTO cart = cartItemService.addItemToCart(new CartItemRequest(repriced.getId(), 1));
+
+        assertSameAmount(oldPrice, cart.items().getFirst().unitPrice());
+        assertSameAmount(oldPrice.multiply(BigDecimal.TWO), cart.totalCost());
+    }
+
+    @Test
+    void getCartDto_constantStatementCount() {
+        cartItemService.addItemToCart(new CartItemRequest(item.getId(), 1));
+        long oneLine = countStatements(() -> cartService.getCartDto());
+
+        cartItemService.addItemToCart(new CartItemRequest(createItem(1).getId(), 1));
+        cartItemService.addItemToCart(new CartItemRequest(createItem(1).getId(), 1));
+        long threeLines = countStatements(() -> cartService.getCartDto());
+
+        assertEquals(2, oneLine);
+        assertEquals(oneLine, threeLines);
+    }
+
+    @Test
+    void addItemToCart_constantStatementCount() {
+        long firstLine = countStatements(() -> cartItemService.addItemToCart(new CartItemRequest(item.getId(), 1)));
+        cartItemService.addItemToCart(new CartItemRequest(createItem(1).getId(), 1));
+        Item item3 = createItem(1);
+        long thirdLine = countStatements(() -> cartItemService.addItemToCart(new CartItemRequest(item3.getId(), 1)));
+
+        assertEquals(firstLine, thirdLine);
+    }
+
+    @Test
+    void applyBatch_appliesInOrderAndReportsEachLine() {
+        Item item2 = createItem(2);
+        Item item3 = createItem(1);
+        cartItemService.addItemToCart(new CartItemRequest(item3.getId(), 1));
+
+        CartBatchDTO batch = cartItemService.applyBatch(new CartBatchRequest(List.of(
+                new CartOperationRequest(ADD, item.getId(), 2),
+                new CartOperationRequest(ADD, item.getId(), 1),
+                new CartOperationRequest(SET_QUANTITY, item2.getId(), 3),
+                new CartOperationRequest(REMOVE, item3.getId(), 0),
+                new CartOperationRequest(REMOVE, item2.getId(), 0),
+                new CartOperationRequest(ADD, UUID.randomUUID(), 1))));
+
+        List<CartOperationStatus> statuses = batch.results().stream().map(r -> r.status()).toList();
+        assertEquals(List.of(CartOperationStatus.APPLIED, CartOperationStatus.APPLIED, CartOperationStatus.INSUFFICIENT_STOCK,
+                CartOperationStatus.APPLIED, CartOperationStatus.NOT_IN_CART, CartOperationStatus.ITEM_NOT_FOUND), statuses);
+        assertEquals(3, batch.results().get(1).quantity());
+        assertEquals(1, batch.cart().items().size());
+        assertEquals(3, batch.cart().items().getFirst().quantity());
+        assertSameAmount(item.getPrice().multiply(BigDecimal.valueOf(3)), batch.cart().totalCost());
+        assertSameAmount(batch.cart().totalCost(), cartService.getCartDto().totalCost());
+    }
+
+    @Test
+    void applyBatch_setQuantityZero_removesLine() {
+        cartItemService.addItemToCart(new CartItemRequest(item.getId(), 2));
+
+        CartBatchDTO batch = cartItemService.applyBatch(new CartBatchRequest(List.of(
+                new CartOperationRequest(SET_QUANTITY, item.getId(), 0))));
+
+        assertEquals(CartOperationStatus.APPLIED, batch.results().getFirst().status());
+        assertTrue(batch.cart().items().isEmpty());
+        assertSameAmount(BigDecimal.ZERO, batch.cart().totalCost());
+    }
+
+    @Test
+    void applyBatch_readsItemsAndLinesOnce() {
+        cartItemService.addItemToCart(new CartItemRequest(item.getId(), 1));
+        CartBatchRequest oneLine = new CartBatchRequest(List.of(
+                new CartOperationRequest(SET_QUANTITY, item.getId(), 2)));
+        CartBatchRequest threeLines = new CartBatchRequest(List.of(
+                new CartOperationRequest(SET_QUANTITY, item.getId(), 3),
+                new CartOperationRequest(SET_QUANTITY, createItem(1).getId(), 2),
+                new CartOperationRequest(SET_QUANTITY, createItem(1).getId(), 2)));
+
+        // Only the first line is updatable; the others fail the stock check and add no statements
+        assertEquals(countStatements(() -> cartItemService.applyBatch(oneLine)),
+                countStatements(() -> cartItemService.applyBatch(threeLines)));
+    }
+
+    @Test
+    void itemPriceChanged_recomputesOnlyAffectedCarts() {
+        Item repriced = createItem(2);
+        Item other = createItem(1);
+        cartItemService.addItemToCart(new CartItemRequest(repriced.getId(), 2));
+        cartItemService.addItemToCart(new CartItemRequest(other.getId(), 1));
+
+        Member otherMember = new RandomMemberBuilder().create();
+        memberService.save(otherMember);
+        Cart untouched = new Cart(otherMember);
+        untouched.setTotalCost(BigDecimal.valueOf(7));
+        cartRepository.save(untouched);
+
+        BigDecimal newPrice = repriced.getPrice().add(BigDecimal.ONE);
+        BigDecimal expected = newPrice.multiply(BigDecimal.TWO).add(other.getPrice());
+        domainEventBus.publish(new ItemPriceChangedEvent(repriced.getId(), repriced.getPrice(), newPrice));
+
+        // Polled on the test thread, which holds the mocked authentication
+        await().atMost(Duration.ofSeconds(5)).pollInSameThread()
+                .until(() -> cartService.getCartDto().totalCost().compareTo(expected) == 0);
+        CartItem line = cartItemRepository.findByCartAndItemId(cartService.getCart(), repriced.getId()).orElseThrow();
+        assertSameAmount(newPrice, line.getUnitPrice());
+        assertSameAmount(BigDecimal.valueOf(7), cartService.findById(untouched.getId()).getTotalCost());
+        cartRepository.delete(untouched);
+    }
+
+    private long countStatements(Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void assertSameAmount(BigDecimal expected, BigDecimal actual) {
+        assertEquals(0, expected.compareTo(actual), () -> "expected " + expected + " but was " + actual);
+    }
+}
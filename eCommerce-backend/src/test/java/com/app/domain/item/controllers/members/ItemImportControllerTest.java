@@ -0,0 +1,130 @@
+package com.app.domain.item.controllers.members;
+
+import com.app.domain.item.dtos.ItemImportDTO;
+import com.app.domain.item.dtos.ItemImportErrorDTO;
+import com.app.domain.item.enums.ItemImportStatus;
+import com.app.domain.item.exceptions.ItemImportNotFoundException;
+import com.app.domain.item.exceptions.ItemImportTooLargeException;
+import com.app.domain.item.exceptions.TooManyItemImportsException;
+import com.app.domain.item.services.ItemImportService;
+import com.app.global.config.security.JwtAuthenticationFilter;
+import com.app.global.constants.ExceptionMessages;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ItemImportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ExtendWith(MockitoExtension.class)
+public class ItemImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ItemImportService itemImportService;
+
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    private UUID importId;
+    private ItemImportDTO queuedDTO;
+    private ItemImportDTO completedDTO;
+
+    @BeforeAll
+    void setup() {
+        importId = UUID.randomUUID();
+        LocalDateTime createdDate = LocalDateTime.now();
+        queuedDTO = new ItemImportDTO(importId, ItemImportStatus.QUEUED, 0, 0, 0, List.of(), createdDate, null);
+        completedDTO = new ItemImportDTO(importId, ItemImportStatus.COMPLETED, 3, 2, 1,
+                List.of(new ItemImportErrorDTO(3, "price: must be a number")), createdDate, createdDate.plusSeconds(1));
+    }
+
+    @Test
+    void start_returnAccepted() throws Exception {
+        given(itemImportService.start(any(), anyLong(), any())).willReturn(queuedDTO);
+
+        mockMvc.perform(post(ItemImportController.BASE_URL)
+                        .contentType("text/csv")
+                        .content("title,price"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id", is(importId.toString())))
+                .andExpect(jsonPath("$.status", is("QUEUED")));
+    }
+
+    @Test
+    void start_passesBodyTypeAndLength() throws Exception {
+        given(itemImportService.start(eq("text/csv"), eq(11L), any())).willReturn(queuedDTO);
+
+        mockMvc.perform(post(ItemImportController.BASE_URL)
+                        .contentType("text/csv")
+                        .content("title,price"))
+                .andExpect(status().isAccepted());
+    }
+
+    @Test
+    void start_returnPayloadTooLarge() throws Exception {
+        doThrow(new ItemImportTooLargeException()).when(itemImportService).start(any(), anyLong(), any());
+
+        mockMvc.perform(post(ItemImportController.BASE_URL)
+                        .contentType("text/csv")
+                        .content("title,price"))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.message", is(ExceptionMessages.ITEM_IMPORT_TOO_LARGE_MESSAGE)));
+    }
+
+    @Test
+    void start_returnTooManyRequests() throws Exception {
+        doThrow(new TooManyItemImportsException()).when(itemImportService).start(any(), anyLong(), any());
+
+        mockMvc.perform(post(ItemImportController.BASE_URL)
+                        .contentType("text/csv")
+                        .content("title,price"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.message", is(ExceptionMessages.TOO_MANY_ITEM_IMPORTS_MESSAGE)));
+    }
+
+    @Test
+    void getById_returnOk() throws Exception {
+        given(itemImportService.getById(importId)).willReturn(completedDTO);
+
+        mockMvc.perform(get(ItemImportController.BASE_URL + "/" + importId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status", is("COMPLETED")))
+                .andExpect(jsonPath("$.itemsCreated", is(2)))
+                .andExpect(jsonPath("$.errors[0].row", is(3)))
+                .andExpect(jsonPath("$.errors[0].message", is("price: must be a number")));
+    }
+
+    @Test
+    void getById_returnNotFound() throws Exception {
+        UUID unknownId = UUID.randomUUID();
+        doThrow(new ItemImportNotFoundException()).when(itemImportService).getById(unknownId);
+
+        mockMvc.perform(get(ItemImportController.BASE_URL + "/" + unknownId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is(ExceptionMessages.ITEM_IMPORT_NOT_FOUND_MESSAGE)));
+    }
+}
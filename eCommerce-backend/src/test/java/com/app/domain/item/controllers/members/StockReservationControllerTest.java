@@ -0,0 +1,102 @@
+package com.app.domain.item.controllers.members;
+
+import com.app.domain.cart.exceptions.InsufficientStockException;
+import com.app.domain.item.dtos.StockReservationDTO;
+import com.app.domain.item.dtos.requests.StockReservationRequest;
+import com.app.domain.item.exceptions.StockReservationNotFoundException;
+import com.app.domain.item.services.StockReservationService;
+import com.app.global.config.security.JwtAuthenticationFilter;
+import com.app.global.constants.ExceptionMessages;
+import com.app.utils.global.StringUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = StockReservationController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@ExtendWith(MockitoExtension.class)
+public class StockReservationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StockReservationService stockReservationService;
+
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    private StockReservationRequest request;
+    private StockReservationDTO reservationDTO;
+    private String requestJson;
+
+    @BeforeAll
+    void setup() throws JsonProcessingException {
+        UUID itemId = UUID.randomUUID();
+        request = new StockReservationRequest(itemId, 2);
+        reservationDTO = new StockReservationDTO(1L, itemId, 2, LocalDateTime.now().plusMinutes(15));
+        requestJson = StringUtils.toJSON(request);
+    }
+
+    @Test
+    void reserve_returnOk() throws Exception {
+        given(stockReservationService.reserve(request)).willReturn(reservationDTO);
+
+        mockMvc.perform(post(StockReservationController.BASE_URL)
+                        .content(requestJson)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id", is(1)))
+                .andExpect(jsonPath("$.itemId", is(request.itemId().toString())))
+                .andExpect(jsonPath("$.quantity", is(2)));
+    }
+
+    @Test
+    void reserve_insufficientStock_returnBadRequest() throws Exception {
+        doThrow(new InsufficientStockException()).when(stockReservationService).reserve(request);
+
+        mockMvc.perform(post(StockReservationController.BASE_URL)
+                        .content(requestJson)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(ExceptionMessages.INSUFFICIENT_STOCK_MESSAGE)));
+    }
+
+    @Test
+    void confirm_returnOk() throws Exception {
+        doNothing().when(stockReservationService).confirm(1L);
+
+        mockMvc.perform(post(StockReservationController.BASE_URL + "/1/confirm"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void release_returnNotFound() throws Exception {
+        doThrow(new StockReservationNotFoundException()).when(stockReservationService).release(1L);
+
+        mockMvc.perform(delete(StockReservationController.BASE_URL + "/1"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message", is(ExceptionMessages.STOCK_RESERVATION_NOT_FOUND_MESSAGE)));
+    }
+}
@@ -8,6 +8,8 @@ import com.app.domain.item.mappers.ItemMapper;
 import com.app.domain.item.services.ItemService;
 import com.app.global.config.security.JwtAuthenticationFilter;
 import com.app.global.constants.ExceptionMessages;
+import com.app.global.dtos.KeysetSliceDTO;
+import com.app.global.exceptions.InvalidCursorException;
 import com.app.utils.domain.item.RandomItemBuilder;
 import com.app.utils.global.NumberUtils;
 import org.apache.commons.lang3.RandomStringUtils;
@@ -95,6 +97,33 @@ public class ItemControllerTest {
                 .andExpect(jsonPath("$.content.size()", is(itemCount)));
     }
 
+    @Test
+    void scrollAll_returnOk() throws Exception {
+        final String nextCursor = "next";
+        KeysetSliceDTO<ItemSummaryDTO> slice = new KeysetSliceDTO<>(itemSummaryDtoPage.getContent(), itemCount, true, nextCursor);
+        given(itemService.findAll(isNull(), eq(itemCount))).willReturn(slice);
+
+        mockMvc.perform(get(ItemController.BASE_URL + "/scroll")
+                        .param("size", String.valueOf(itemCount))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content.size()", is(itemCount)))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.nextCursor", is(nextCursor)));
+    }
+
+    @Test
+    void scrollAll_returnBadRequest() throws Exception {
+        doThrow(new InvalidCursorException()).when(itemService).findAll(anyString(), anyInt());
+
+        mockMvc.perform(get(ItemController.BASE_URL + "/scroll")
+                        .param("cursor", "invalid")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", is(ExceptionMessages.INVALID_CURSOR_MESSAGE)));
+    }
+
     @Test
     void getAll_returnEmpty() throws Exception {
         given(itemService.findAll(DEFAULT_PAGEABLE)).willReturn(Page.empty());
@@ -0,0 +1,125 @@
+package com.app.domain.item.controllers.publ;
+
+import com.app.domain.item.dtos.CategoryFacetDTO;
+import com.app.domain.item.dtos.ItemFacetSearchDTO;
+import com.app.domain.item.dtos.ItemSummaryDTO;
+import com.app.domain.item.dtos.PriceBucketDTO;
+import com.app.domain.item.dtos.requests.ItemFacetSearchRequest;
+import com.app.domain.item.mappers.ItemMapper;
+import com.app.domain.item.services.ItemSearchService;
+import com.app.global.config.security.JwtAuthenticationFilter;
+import com.app.utils.domain.item.RandomItemBuilder;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = ItemSearchController.class)
+@ExtendWith(MockitoExtension.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@AutoConfigureMockMvc(addFilters = false)
+public class ItemSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ItemSearchService itemSearchService;
+
+    @MockBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    private final int itemCount = 5;
+    private static final Pageable DEFAULT_PAGEABLE = PageRequest.of(0, 20);
+
+    private Page<ItemSummaryDTO> itemSummaryDtoPage;
+
+    @BeforeAll
+    void setup() {
+        List<ItemSummaryDTO> itemSummaryDTOList = new RandomItemBuilder()
+                .withId()
+                .create(itemCount)
+                .stream()
+                .map(ItemMapper::toItemSummaryDTO)
+                .toList();
+        itemSummaryDtoPage = new PageImpl<>(itemSummaryDTOList, DEFAULT_PAGEABLE, itemSummaryDTOList.size());
+    }
+
+    @Test
+    void search_returnOk() throws Exception {
+        given(itemSearchService.search(anyString(), any())).willReturn(itemSummaryDtoPage);
+
+        mockMvc.perform(get(ItemSearchController.BASE_URL)
+                        .param("query", "phone case")
+                        .param("page", String.valueOf(DEFAULT_PAGEABLE.getPageNumber()))
+                        .param("size", String.valueOf(DEFAULT_PAGEABLE.getPageSize()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content.size()", is(itemCount)));
+    }
+
+    @Test
+    void search_returnEmpty() throws Exception {
+        given(itemSearchService.search(anyString(), any())).willReturn(Page.empty());
+
+        mockMvc.perform(get(ItemSearchController.BASE_URL)
+                        .param("query", "phone case")
+                        .param("page", String.valueOf(DEFAULT_PAGEABLE.getPageNumber()))
+                        .param("size", String.valueOf(DEFAULT_PAGEABLE.getPageSize()))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content.size()", is(0)));
+    }
+
+    @Test
+    void facetedSearch_returnOk() throws Exception {
+        ItemFacetSearchRequest request = new ItemFacetSearchRequest(3L, BigDecimal.TEN, null, null, null, 7.5);
+        ItemFacetSearchDTO result = new ItemFacetSearchDTO(itemSummaryDtoPage,
+                List.of(new CategoryFacetDTO(4L, 3), new CategoryFacetDTO(5L, 2)),
+                List.of(new PriceBucketDTO(BigDecimal.ZERO, BigDecimal.TEN, 0), new PriceBucketDTO(BigDecimal.TEN, null, 5)));
+        given(itemSearchService.facetedSearch(eq(request), any())).willReturn(result);
+
+        mockMvc.perform(get(ItemSearchController.BASE_URL + "/facets")
+                        .param("categoryId", "3")
+                        .param("minPrice", "10")
+                        .param("minRating", "7.5")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items.content.size()", is(itemCount)))
+                .andExpect(jsonPath("$.categories[0].categoryId", is(4)))
+                .andExpect(jsonPath("$.priceBuckets[1].count", is(5)));
+    }
+
+    @Test
+    void facetedSearch_priceAboveMax_returnBadRequest() throws Exception {
+        mockMvc.perform(get(ItemSearchController.BASE_URL + "/facets")
+                        .param("maxPrice", "1e30")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+}
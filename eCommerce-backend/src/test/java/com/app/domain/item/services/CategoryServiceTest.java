@@ -18,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Set;
@@ -36,6 +38,8 @@ public class CategoryServiceTest {
     private CategoryService categoryService;
     @Autowired
     private CategoryRepository categoryRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     private Category categorySingle;
     private Category categoryWithChildrenAndParent;
@@ -246,6 +250,74 @@ public class CategoryServiceTest {
         assertEquals(categoryCount * (childrenCount + 1), returnedCategories.size());
     }
 
+    @Test
+    void findDescendantIds_afterAddNewCategory_includesChild() {
+        categoryService.save(categorySingle);
+        assertEquals(List.of(categorySingle.getId()), categoryService.findDescendantIds(categorySingle.getId()));
+        NewCategoryRequest request = new NewCategoryRequest(categorySingle.getId(), RandomCategoryBuilder.getTitle());
+
+        CategoryDTO child = categoryService.addNewCategory(request);
+
+        List<Long> returnedIds = categoryService.findDescendantIds(categorySingle.getId());
+        assertEquals(2, returnedIds.size());
+        assertTrue(returnedIds.contains(child.id()));
+    }
+
+    @Test
+    void findDescendantIds_afterDeleteById_excludesSubtree() {
+        categoryService.save(categoryWithChildrenAndParent);
+        final long parentId = categoryWithChildrenAndParent.getParent().getId();
+        final long id = categoryWithChildrenAndParent.getId();
+        assertTrue(categoryService.findDescendantIds(parentId).contains(id));
+
+        categoryService.deleteById(id);
+
+        assertEquals(List.of(parentId), categoryService.findDescendantIds(parentId));
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.findDescendantIds(id));
+    }
+
+    @Test
+    void findDescendantIds_uncommittedInCallerTransaction_returnIdWithoutRebuild() {
+        categoryService.save(categorySingle);
+        categoryService.findDescendantIds(categorySingle.getId());
+        CategoryTree snapshot = categoryService.getTree();
+        Category uncommitted = new RandomCategoryBuilder().create();
+        TransactionTemplate caller = new TransactionTemplate(transactionManager);
+
+        caller.executeWithoutResult(status -> {
+            // Written past the service, so only the lookup below notices the tree lacks it
+            categoryRepository.saveAndFlush(uncommitted);
+            assertEquals(List.of(uncommitted.getId()), categoryService.findDescendantIds(uncommitted.getId()));
+            assertEquals(List.of(uncommitted.getId()), categoryService.findDescendantIds(uncommitted.getId()));
+            assertSame(snapshot, categoryService.getTree());
+            status.setRollbackOnly();
+        });
+
+        assertThrows(CategoryNotFoundException.class, () -> categoryService.findDescendantIds(uncommitted.getId()));
+        assertEquals(List.of(categorySingle.getId()), categoryService.findDescendantIds(categorySingle.getId()));
+    }
+
+    @Test
+    void findDescendantIds_committedPastService_rebuildTree() {
+        categoryService.save(categorySingle);
+        categoryService.findDescendantIds(categorySingle.getId());
+        Category child = new RandomCategoryBuilder().create();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            child.setParent(categoryRepository.findById(categorySingle.getId()).orElseThrow());
+            categoryRepository.saveAndFlush(child);
+        });
+
+        assertEquals(List.of(child.getId()), categoryService.findDescendantIds(child.getId()));
+        assertTrue(categoryService.findDescendantIds(categorySingle.getId()).contains(child.getId()));
+    }
+
+    @Test
+    void findDescendantIds_throwCategoryNotFound() {
+        assertThrows(CategoryNotFoundException.class,
+                () -> categoryService.findDescendantIds(NumberUtils.getId()));
+    }
+
     @Test
     void findByParentId_categoryWithChildrenAndParent() {
         categoryService.save(categoryWithChildrenAndParent);
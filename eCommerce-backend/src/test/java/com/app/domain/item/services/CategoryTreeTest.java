@@ -0,0 +1,48 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.CategoryNodeDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CategoryTreeTest {
+
+    // 1 -> (2 -> (4, 5), 3), 6 -> 7
+    private static final List<CategoryNodeDTO> NODES = List.of(
+            new CategoryNodeDTO(5L, 2L),
+            new CategoryNodeDTO(1L, null),
+            new CategoryNodeDTO(3L, 1L),
+            new CategoryNodeDTO(7L, 6L),
+            new CategoryNodeDTO(2L, 1L),
+            new CategoryNodeDTO(4L, 2L),
+            new CategoryNodeDTO(6L, null));
+
+    @Test
+    void getDescendantIds_root() {
+        CategoryTree tree = CategoryTree.build(1, NODES);
+
+        assertEquals(Set.of(1L, 2L, 3L, 4L, 5L), new HashSet<>(tree.getDescendantIds(1L)));
+        assertEquals(Set.of(6L, 7L), new HashSet<>(tree.getDescendantIds(6L)));
+    }
+
+    @Test
+    void getDescendantIds_innerAndLeaf() {
+        CategoryTree tree = CategoryTree.build(1, NODES);
+
+        assertEquals(Set.of(2L, 4L, 5L), new HashSet<>(tree.getDescendantIds(2L)));
+        assertEquals(List.of(3L), tree.getDescendantIds(3L));
+    }
+
+    @Test
+    void getDescendantIds_unknown_empty() {
+        CategoryTree tree = CategoryTree.build(1, NODES);
+
+        assertTrue(tree.getDescendantIds(100L).isEmpty());
+        assertFalse(tree.contains(100L));
+        assertEquals(NODES.size(), tree.size());
+    }
+}
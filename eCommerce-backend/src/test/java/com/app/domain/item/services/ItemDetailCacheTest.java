@@ -0,0 +1,62 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.ItemDetailedDTO;
+import com.app.domain.item.mappers.ItemMapper;
+import com.app.utils.domain.item.RandomItemBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemDetailCacheTest {
+
+    private final ItemDetailCache cache = new ItemDetailCache(60_000, 1_000_000, new SimpleMeterRegistry());
+    private final ItemDetailedDTO detail = ItemMapper.toItemDetailedDTO(new RandomItemBuilder().withId().withAuditable().create());
+
+    @Test
+    void get_evictionOfOtherItemDuringLoad_cachesLoad() {
+        UUID itemId = UUID.randomUUID();
+
+        cache.get(itemId, () -> {
+            cache.evictIfStale(otherStripe(itemId), 1);
+            return new ItemDetailCache.Entry(0, detail);
+        });
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void get_evictionOfSameItemDuringLoad_doesNotCache() {
+        UUID itemId = UUID.randomUUID();
+
+        cache.get(itemId, () -> {
+            cache.evictIfStale(itemId, 1);
+            return new ItemDetailCache.Entry(0, detail);
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void get_scanDuringLoad_doesNotCache() {
+        UUID itemId = UUID.randomUUID();
+
+        cache.get(itemId, () -> {
+            cache.evictByCategory("Lamps");
+            return new ItemDetailCache.Entry(0, detail);
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    // Ids are random, so one in a thousand shares a stamp stripe with the loaded item
+    private static UUID otherStripe(UUID itemId) {
+        UUID other;
+        do {
+            other = UUID.randomUUID();
+        } while ((other.hashCode() & Integer.MAX_VALUE) % 1024 == (itemId.hashCode() & Integer.MAX_VALUE) % 1024);
+        return other;
+    }
+}
@@ -0,0 +1,129 @@
+package com.app.domain.item.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemFacetIndexTest {
+
+    private static final long PHONES = 1;
+    private static final long CASES = 2;
+    private static final long SELLER = 10;
+    private static final long OTHER_SELLER = 20;
+    private static final ItemFacetIndex.Filter ALL = filter(null, null, null, null, null);
+
+    private final UUID phone = UUID.randomUUID();
+    private final UUID cheapPhone = UUID.randomUUID();
+    private final UUID case_ = UUID.randomUUID();
+    private final UUID inactive = UUID.randomUUID();
+
+    private ItemFacetIndex createIndex() {
+        ItemFacetIndex index = new ItemFacetIndex(List.of(BigDecimal.ZERO, BigDecimal.TEN, BigDecimal.valueOf(100)));
+        index.index(new ItemFacetIndex.Document(phone, new BigDecimal("499.99"), PHONES, SELLER, true, 1));
+        index.index(new ItemFacetIndex.Document(cheapPhone, new BigDecimal("99.99"), PHONES, OTHER_SELLER, true, 2));
+        index.index(new ItemFacetIndex.Document(case_, new BigDecimal("9.99"), CASES, SELLER, true, 3));
+        index.index(new ItemFacetIndex.Document(inactive, new BigDecimal("50"), CASES, SELLER, false, 4));
+        return index;
+    }
+
+    @Test
+    void search_noFilter_newestFirst() {
+        ItemFacetIndex.Result result = createIndex().search(ALL, 0, 10);
+
+        assertEquals(List.of(inactive, case_, cheapPhone, phone), result.itemIds());
+        assertEquals(4, result.total());
+    }
+
+    @Test
+    void search_combinesFilters() {
+        ItemFacetIndex.Filter filter = new ItemFacetIndex.Filter(Set.of(PHONES), new BigDecimal("50"), null, SELLER, true, null);
+
+        assertEquals(List.of(phone), createIndex().search(filter, 0, 10).itemIds());
+    }
+
+    @Test
+    void search_priceRangeInclusive() {
+        ItemFacetIndex.Filter filter = filter(null, new BigDecimal("9.99"), new BigDecimal("99.99"), true, null);
+
+        assertEquals(List.of(case_, cheapPhone), createIndex().search(filter, 0, 10).itemIds());
+    }
+
+    @Test
+    void search_facetsIgnoreTheirOwnFilter() {
+        ItemFacetIndex.Filter filter = filter(Set.of(CASES), null, new BigDecimal("20"), true, null);
+
+        ItemFacetIndex.Result result = createIndex().search(filter, 0, 10);
+
+        assertEquals(List.of(case_), result.itemIds());
+        // Categories counted within the price range, buckets within the category
+        assertEquals(Map.of(CASES, 1L), result.categoryCounts());
+        assertArrayEquals(new long[]{1, 0, 0}, result.priceBucketCounts());
+    }
+
+    @Test
+    void search_priceBuckets() {
+        ItemFacetIndex.Result result = createIndex().search(filter(null, null, null, true, null), 0, 10);
+
+        assertArrayEquals(new long[]{1, 1, 1}, result.priceBucketCounts());
+        assertEquals(Map.of(PHONES, 2L, CASES, 1L), result.categoryCounts());
+    }
+
+    @Test
+    void search_minRating() {
+        ItemFacetIndex index = createIndex();
+        index.addRatings(phone, 9, 2);
+        index.addRatings(cheapPhone, 9, 1);
+        index.addRatings(cheapPhone, 3, 1);
+
+        assertEquals(List.of(phone), index.search(filter(null, null, null, null, 8.0), 0, 10).itemIds());
+        assertEquals(List.of(cheapPhone, phone), index.search(filter(null, null, null, null, 6.0), 0, 10).itemIds());
+
+        index.addRatings(cheapPhone, 3, -1);
+        assertEquals(List.of(cheapPhone, phone), index.search(filter(null, null, null, null, 8.0), 0, 10).itemIds());
+    }
+
+    @Test
+    void index_reindexOverwritesInPlace() {
+        ItemFacetIndex index = createIndex();
+        index.addRatings(phone, 10, 1);
+
+        index.index(new ItemFacetIndex.Document(phone, new BigDecimal("5"), CASES, SELLER, true, 1));
+
+        assertEquals(4, index.size());
+        ItemFacetIndex.Filter filter = filter(Set.of(CASES), null, BigDecimal.TEN, true, 10.0);
+        assertEquals(List.of(phone), index.search(filter, 0, 10).itemIds());
+    }
+
+    @Test
+    void remove_keepsOtherRows() {
+        ItemFacetIndex index = createIndex();
+        index.addRatings(inactive, 7, 1);
+
+        index.remove(cheapPhone);
+        index.remove(cheapPhone);
+
+        assertEquals(3, index.size());
+        assertEquals(List.of(inactive, case_, phone), index.search(ALL, 0, 10).itemIds());
+        assertEquals(List.of(inactive), index.search(filter(null, null, null, false, 7.0), 0, 10).itemIds());
+    }
+
+    @Test
+    void search_paged() {
+        ItemFacetIndex.Result secondPage = createIndex().search(ALL, 2, 2);
+
+        assertEquals(List.of(cheapPhone, phone), secondPage.itemIds());
+        assertEquals(4, secondPage.total());
+        assertTrue(createIndex().search(ALL, 4, 2).itemIds().isEmpty());
+    }
+
+    private static ItemFacetIndex.Filter filter(Set<Long> categoryIds, BigDecimal minPrice, BigDecimal maxPrice,
+                                                Boolean active, Double minRating) {
+        return new ItemFacetIndex.Filter(categoryIds, minPrice, maxPrice, null, active, minRating);
+    }
+}
@@ -0,0 +1,288 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.ItemImportDTO;
+import com.app.domain.item.dtos.ItemImportErrorDTO;
+import com.app.domain.item.entities.Category;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.enums.ItemImportStatus;
+import com.app.domain.item.exceptions.ItemImportNotFoundException;
+import com.app.domain.item.exceptions.ItemImportTooLargeException;
+import com.app.domain.item.exceptions.TooManyItemImportsException;
+import com.app.domain.item.repositories.CategoryRepository;
+import com.app.domain.item.repositories.ItemRepository;
+import com.app.domain.member.entities.Member;
+import com.app.domain.member.repositories.MemberRepository;
+import com.app.domain.member.services.MemberService;
+import com.app.global.constants.ExceptionMessages;
+import com.app.global.exceptions.ForbiddenException;
+import com.app.global.exceptions.UnsupportedFileFormatException;
+import com.app.utils.domain.member.RandomMemberBuilder;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ItemImportServiceTest {
+
+    private static final String CSV = "text/csv";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String XLSX = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    @Autowired
+    private ItemImportService itemImportService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private Validator validator;
+
+    private Member seller;
+    private Category category;
+
+    @BeforeEach
+    void setup() {
+        seller = new RandomMemberBuilder().create();
+        memberService.save(seller);
+        category = categoryService.save(new Category("Imported"));
+        authenticate(seller);
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+        itemRepository.deleteAll();
+        categoryRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void start_csv_createItemsAndReportBadRows() {
+        String csv = """
+                title,price,quantity,categoryId,mediaUrls,description
+                Lamp,19.99,3,%1$d,https://cdn.example.com/lamp.png;https://cdn.example.com/lamp-side.jpg,"Warm, dimmable"
+                Chair,49.50,,%1$d,,
+                ,5.00,1,,,
+                Desk,cheap,1,,,
+                Rug,30.00,1,-1,,
+                Vase,12.00,1,,ftp://example.com/vase.png,
+
+                Shelf,80.00,2,,,
+                """.formatted(category.getId());
+
+        ItemImportDTO result = awaitFinished(start(itemImportService, CSV, csv));
+
+        assertEquals(ItemImportStatus.COMPLETED, result.status());
+        assertEquals(7, result.rowsRead());
+        assertEquals(3, result.itemsCreated());
+        assertEquals(4, result.rowsFailed());
+        assertEquals(List.of(4L, 5L, 6L, 7L), result.errors().stream().map(ItemImportErrorDTO::row).toList());
+        assertTrue(result.errors().get(0).message().startsWith("title: "));
+        assertEquals("price: must be a number", result.errors().get(1).message());
+        assertEquals(ExceptionMessages.CATEGORY_NOT_FOUND_MESSAGE, result.errors().get(2).message());
+        assertTrue(result.errors().get(3).message().startsWith("mediaUrls: "));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Item> items = itemRepository.findAll().stream()
+                    .sorted(Comparator.comparing(Item::getTitle))
+                    .toList();
+            assertEquals(List.of("Chair", "Lamp", "Shelf"), items.stream().map(Item::getTitle).toList());
+            Item lamp = items.get(1);
+            assertEquals(0, new BigDecimal("19.99").compareTo(lamp.getPrice()));
+            assertEquals(3, lamp.getQuantity());
+            assertEquals("Warm, dimmable", lamp.getDescription());
+            assertEquals(category.getId(), lamp.getCategory().getId());
+            assertEquals(2, lamp.getMediaList().size());
+            assertTrue(lamp.getMediaList().stream().allMatch(m -> m.getMedia().isExternal()));
+            assertEquals("https://cdn.example.com/lamp.png", lamp.getMediaList().getFirst().getMedia().url());
+            assertEquals(seller, lamp.getSeller());
+        });
+    }
+
+    @Test
+    void start_ndjson_createItemsAndReportBadLines() {
+        String ndjson = """
+                {"title":"Lamp","price":19.99,"quantity":3,"mediaUrls":["https://cdn.example.com/lamp.png"],"sku":"L-1"}
+                {"title":"Chair","price":-1}
+                {"title":"Desk",
+                {"title":"Shelf","price":80,"categoryId":%d}
+                """.formatted(category.getId());
+
+        ItemImportDTO result = awaitFinished(start(itemImportService, NDJSON, ndjson));
+
+        assertEquals(ItemImportStatus.COMPLETED, result.status());
+        assertEquals(4, result.rowsRead());
+        assertEquals(2, result.itemsCreated());
+        assertEquals(List.of(2L, 3L), result.errors().stream().map(ItemImportErrorDTO::row).toList());
+        assertTrue(result.errors().get(0).message().startsWith("price: "));
+        assertEquals(2, itemRepository.count());
+    }
+
+    @Test
+    void start_plainHttpMediaUrl_rejectRow() {
+        String csv = """
+                title,price,mediaUrls
+                Lamp,19.99,http://cdn.example.com/lamp.png
+                """;
+
+        ItemImportDTO result = awaitFinished(start(itemImportService, CSV, csv));
+
+        assertEquals(0, result.itemsCreated());
+        assertEquals("mediaUrls: http://cdn.example.com/lamp.png: not an https URL", result.errors().getFirst().message());
+    }
+
+    @Test
+    void start_unsupportedFormat_throw() {
+        assertThrows(UnsupportedFileFormatException.class,
+                () -> start(itemImportService, XLSX, "title,price"));
+    }
+
+    @Test
+    void start_fileTooLarge_throw() {
+        String csv = "title,price\n" + "Lamp,1.00\n".repeat(7000);
+
+        assertThrows(ItemImportTooLargeException.class, () -> start(itemImportService, CSV, csv));
+    }
+
+    @Test
+    void start_fileTooLargeWithoutLength_throwOnceLimitIsRead() {
+        byte[] csv = ("title,price\n" + "Lamp,1.00\n".repeat(20000)).getBytes(StandardCharsets.UTF_8);
+        ByteArrayInputStream body = new ByteArrayInputStream(csv);
+
+        assertThrows(ItemImportTooLargeException.class, () -> itemImportService.start(CSV, -1, body));
+        assertTrue(body.available() > 0);
+    }
+
+    @Test
+    void start_contentTypeWithCharset_createItems() {
+        ItemImportDTO result = awaitFinished(start(itemImportService, CSV + ";charset=UTF-8", "title,price\nLamp,1.00\n"));
+
+        assertEquals(1, result.itemsCreated());
+    }
+
+    @Test
+    void start_overPendingLimits_throwUntilOneFinishes() throws InterruptedException {
+        // One worker whose first save waits, so every later import stays queued
+        CountDownLatch saving = new CountDownLatch(1);
+        ItemService blockedItemService = mock(ItemService.class);
+        doAnswer(invocation -> saving.await(10, TimeUnit.SECONDS)).when(blockedItemService).createAll(anyList());
+        ItemImportService limitedService = new ItemImportService(blockedItemService, categoryService, validator,
+                2, 1, 1000, 60_000, DataSize.ofKilobytes(64), 2, 3, false);
+        Member otherSeller = new RandomMemberBuilder().create();
+        memberService.save(otherSeller);
+        Member thirdSeller = new RandomMemberBuilder().create();
+        memberService.save(thirdSeller);
+        try {
+            ItemImportDTO first = start(limitedService, CSV, "title,price\nLamp,1.00\n");
+            start(limitedService, CSV, "title,price\nLamp,1.00\n");
+            assertThrows(TooManyItemImportsException.class,
+                    () -> start(limitedService, CSV, "title,price\nLamp,1.00\n"));
+
+            authenticate(otherSeller);
+            start(limitedService, CSV, "title,price\nLamp,1.00\n");
+            authenticate(thirdSeller);
+            assertThrows(TooManyItemImportsException.class,
+                    () -> start(limitedService, CSV, "title,price\nLamp,1.00\n"));
+
+            saving.countDown();
+            authenticate(seller);
+            await().pollInSameThread()
+                    .atMost(Duration.ofSeconds(10))
+                    .until(() -> limitedService.getById(first.id()).finishedDate() != null);
+            authenticate(thirdSeller);
+            await().atMost(Duration.ofSeconds(10))
+                    .ignoreException(TooManyItemImportsException.class)
+                    .pollInSameThread()
+                    .until(() -> start(limitedService, CSV, "title,price\nLamp,1.00\n") != null);
+        } finally {
+            saving.countDown();
+            limitedService.shutdown();
+        }
+    }
+
+    @Test
+    void start_virtualThreads_runOnVirtualWorker() throws Exception {
+        CompletableFuture<Thread> worker = new CompletableFuture<>();
+        ItemService recordingItemService = mock(ItemService.class);
+        doAnswer(invocation -> worker.complete(Thread.currentThread())).when(recordingItemService).createAll(anyList());
+        ItemImportService virtualService = new ItemImportService(recordingItemService, categoryService, validator,
+                2, 1, 1000, 60_000, DataSize.ofKilobytes(64), 2, 3, true);
+        try {
+            start(virtualService, CSV, "title,price\nLamp,1.00\n");
+
+            Thread thread = worker.get(10, TimeUnit.SECONDS);
+            assertTrue(thread.isVirtual());
+            assertTrue(thread.getName().startsWith("item-import-"));
+        } finally {
+            virtualService.shutdown();
+        }
+    }
+
+    @Test
+    void getById_notFound_throw() {
+        assertThrows(ItemImportNotFoundException.class, () -> itemImportService.getById(UUID.randomUUID()));
+    }
+
+    @Test
+    void getById_notOwner_throwForbidden() {
+        ItemImportDTO started = start(itemImportService, CSV, "title,price\nLamp,1.00\n");
+        Member other = new RandomMemberBuilder().create();
+        memberService.save(other);
+        authenticate(other);
+
+        assertThrows(ForbiddenException.class, () -> itemImportService.getById(started.id()));
+
+        authenticate(seller);
+        awaitFinished(started);
+    }
+
+    private ItemImportDTO awaitFinished(ItemImportDTO started) {
+        // Polled on the test thread, which holds the seller's security context
+        return await().pollInSameThread()
+                .atMost(Duration.ofSeconds(10))
+                .until(() -> itemImportService.getById(started.id()), result -> result.finishedDate() != null);
+    }
+
+    private static ItemImportDTO start(ItemImportService service, String contentType, String content) {
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        return service.start(contentType, body.length, new ByteArrayInputStream(body));
+    }
+
+    private static void authenticate(Member member) {
+        // A context of its own, as other test classes may leave a mocked one behind
+        SecurityContextHolder.setContext(new SecurityContextImpl(
+                new UsernamePasswordAuthenticationToken(member, null, List.of())));
+    }
+}
@@ -0,0 +1,136 @@
+package com.app.domain.item.services;
+
+import com.app.domain.item.dtos.ItemFacetSearchDTO;
+import com.app.domain.item.dtos.requests.ItemFacetSearchRequest;
+import com.app.domain.item.entities.Category;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.repositories.CategoryRepository;
+import com.app.domain.item.repositories.ItemRepository;
+import com.app.domain.member.entities.Member;
+import com.app.domain.member.repositories.MemberRepository;
+import com.app.domain.member.services.MemberService;
+import com.app.utils.domain.item.RandomCategoryBuilder;
+import com.app.utils.domain.item.RandomItemBuilder;
+import com.app.utils.domain.member.RandomMemberBuilder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class ItemQueryCountTest {
+    private static final int ITEM_COUNT = 12;
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemSearchService itemSearchService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Member seller;
+    private Category category;
+    private List<Item> items;
+
+    @BeforeAll
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        seller = new RandomMemberBuilder().create();
+        memberService.save(seller);
+        category = new RandomCategoryBuilder().create();
+        categoryService.save(category);
+        items = new RandomItemBuilder(seller)
+                .withCategory(category)
+                .withMedia()
+                .create(ITEM_COUNT);
+        items.forEach(itemService::save);
+        categoryService.findDescendantIds(category.getId());
+    }
+
+    @AfterAll
+    void clear() {
+        itemRepository.deleteAll();
+        categoryRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void findAll_pageSizeDoesNotChangeStatementCount() {
+        assertEquals(3, countStatements(() -> itemService.findAll(PageRequest.of(0, 5))));
+        assertEquals(3, countStatements(() -> itemService.findAll(PageRequest.of(0, ITEM_COUNT - 1))));
+    }
+
+    @Test
+    void findAllByActive_constantStatementCount() {
+        assertEquals(3, countStatements(() -> itemService.findAllByActive(false, PageRequest.of(0, 5))));
+    }
+
+    @Test
+    void findAllByCategoryId_constantStatementCount() {
+        assertEquals(3, countStatements(() -> itemService.findAllByCategoryId(category.getId(), PageRequest.of(0, 5))));
+    }
+
+    @Test
+    void findAllBySellerId_constantStatementCount() {
+        // seller lookup, page, count, media
+        assertEquals(4, countStatements(() -> itemService.findAllBySellerId(seller.getId(), PageRequest.of(0, 5))));
+    }
+
+    @Test
+    void findAll_scroll_constantStatementCount() {
+        assertEquals(2, countStatements(() -> itemService.findAll(null, 5)));
+        assertEquals(2, countStatements(() -> itemService.findAll(null, ITEM_COUNT)));
+    }
+
+    @Test
+    void facetedSearch_readsOnlyThePage() {
+        long inactive = items.stream().filter(i -> !i.isActive()).count();
+        ItemFacetSearchRequest request = new ItemFacetSearchRequest(category.getId(), null, null, seller.getId(), false, null);
+        AtomicReference<ItemFacetSearchDTO> result = new AtomicReference<>();
+
+        // items, media
+        assertEquals(2, countStatements(() -> result.set(itemSearchService.facetedSearch(request, PageRequest.of(0, 5)))));
+        assertEquals(inactive, result.get().items().getTotalElements());
+        assertEquals(inactive, result.get().categories().getFirst().count());
+    }
+
+    @Test
+    void findDetailedById_singleStatementThenCached() {
+        assertEquals(1, countStatements(() -> itemService.findDetailedById(items.getFirst().getId())));
+        assertEquals(0, countStatements(() -> itemService.findDetailedById(items.getFirst().getId())));
+    }
+
+    @Test
+    void search_constantStatementCount() {
+        assertEquals(2, countStatements(() -> itemSearchService.search(items.getFirst().getTitle(), PageRequest.of(0, 5))));
+    }
+
+    private long countStatements(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
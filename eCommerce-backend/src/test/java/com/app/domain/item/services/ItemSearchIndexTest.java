@@ -0,0 +1,113 @@
+package com.app.domain.item.services;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ItemSearchIndexTest {
+
+    private final UUID phone = UUID.randomUUID();
+    private final UUID case_ = UUID.randomUUID();
+    private final UUID charger = UUID.randomUUID();
+
+    private ItemSearchIndex createIndex() {
+        ItemSearchIndex index = new ItemSearchIndex();
+        index.index(phone, "Smartphone X", "A fast phone with a great camera");
+        index.index(case_, "Phone case", "Leather case for the Smartphone X");
+        index.index(charger, "Wireless charger", "Charges any phone, café edition");
+        return index;
+    }
+
+    @Test
+    void search_titleMatchRanksFirst() {
+        ItemSearchIndex.Hits hits = createIndex().search("case", 0, 10);
+
+        assertEquals(List.of(case_), hits.itemIds());
+        assertEquals(1, hits.total());
+    }
+
+    @Test
+    void search_requiresEveryToken() {
+        ItemSearchIndex.Hits hits = createIndex().search("phone leather", 0, 10);
+
+        assertEquals(List.of(case_), hits.itemIds());
+    }
+
+    @Test
+    void search_prefixAndAccentInsensitive() {
+        ItemSearchIndex index = createIndex();
+
+        assertEquals(List.of(phone, case_), index.search("smart", 0, 10).itemIds());
+        assertEquals(List.of(charger), index.search("CAFE", 0, 10).itemIds());
+    }
+
+    @Test
+    void search_onlyStopWords_empty() {
+        assertEquals(0, createIndex().search("the and", 0, 10).total());
+    }
+
+    @Test
+    void search_paged() {
+        ItemSearchIndex index = createIndex();
+        List<UUID> all = index.search("phone", 0, 10).itemIds();
+
+        ItemSearchIndex.Hits secondPage = index.search("phone", 2, 2);
+
+        assertEquals(3, all.size());
+        assertEquals(3, secondPage.total());
+        assertEquals(List.of(all.get(2)), secondPage.itemIds());
+    }
+
+    @Test
+    void index_reindexReplacesTerms() {
+        ItemSearchIndex index = createIndex();
+
+        index.index(charger, "Power bank", "Portable battery");
+
+        assertTrue(index.search("wireless", 0, 10).itemIds().isEmpty());
+        assertEquals(List.of(charger), index.search("battery", 0, 10).itemIds());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void index_reindexWithCollidingHash_replacesTerms() {
+        ItemSearchIndex index = new ItemSearchIndex();
+        index.index(phone, "Aa", "Gadget");
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        index.index(phone, "BB", "Gadget");
+
+        assertTrue(index.search("aa", 0, 10).itemIds().isEmpty());
+        assertEquals(List.of(phone), index.search("bb", 0, 10).itemIds());
+    }
+
+    @Test
+    void remove_excludedFromResults() {
+        ItemSearchIndex index = createIndex();
+
+        index.remove(phone);
+
+        assertFalse(index.search("phone", 0, 10).itemIds().contains(phone));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void compaction_keepsLiveDocuments() {
+        ItemSearchIndex index = new ItemSearchIndex();
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            index.index(id, "item" + i, "common");
+        }
+        ids.subList(0, 2500).forEach(index::remove);
+
+        assertEquals(500, index.size());
+        assertEquals(500, index.search("common", 0, 1000).total());
+        assertEquals(List.of(ids.get(2999)), index.search("item2999", 0, 10).itemIds());
+    }
+}
@@ -2,23 +2,32 @@ package com.app.domain.item.services;
 
 import com.app.domain.item.dtos.ItemDetailedDTO;
 import com.app.domain.item.dtos.ItemSummaryDTO;
+import com.app.domain.item.dtos.requests.ItemFacetSearchRequest;
 import com.app.domain.item.dtos.requests.ModifyItemRequest;
 import com.app.domain.item.dtos.requests.NewItemRequest;
+import com.app.domain.item.dtos.requests.StockReservationRequest;
 import com.app.domain.item.entities.Category;
 import com.app.domain.item.entities.Item;
+import com.app.domain.item.entities.ItemMedia;
 import com.app.domain.item.exceptions.ItemNotFoundException;
 import com.app.domain.item.mappers.ItemMapper;
 import com.app.domain.item.repositories.CategoryRepository;
 import com.app.domain.item.repositories.ItemRepository;
+import com.app.domain.item.repositories.StockReservationRepository;
 import com.app.domain.member.entities.Member;
+import com.app.domain.member.mappers.MemberMapper;
 import com.app.domain.member.repositories.MemberRepository;
 import com.app.domain.member.services.MemberService;
+import com.app.global.dtos.KeysetSliceDTO;
 import com.app.global.exceptions.ForbiddenException;
 import com.app.global.services.MediaService;
+import com.app.utils.domain.item.ItemMediaUtils;
 import com.app.utils.domain.item.RandomCategoryBuilder;
 import com.app.utils.domain.item.RandomItemBuilder;
 import com.app.utils.domain.member.RandomMemberBuilder;
+import com.app.utils.global.MediaUtils;
 import com.app.utils.global.StringUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,15 +38,20 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 
 @SpringBootTest
@@ -57,6 +71,18 @@ public class ItemServiceTest {
     private CategoryService categoryService;
     @Autowired
     private CategoryRepository categoryRepository;
+    @Autowired
+    private ItemSearchService itemSearchService;
+    @Autowired
+    private ItemMediaService itemMediaService;
+    @Autowired
+    private StockReservationService stockReservationService;
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     @MockBean
     private Authentication authentication;
@@ -78,6 +104,7 @@ public class ItemServiceTest {
 
     @AfterEach
     void clear() {
+        stockReservationRepository.deleteAll();
         itemRepository.deleteAll();
         categoryRepository.deleteAll();
         memberRepository.deleteAll();
@@ -118,6 +145,160 @@ public class ItemServiceTest {
         assertEquals(itemDetailedDto, returnedDetailedItemDto);
     }
 
+    @Test
+    void findDetailedById_miss_loadsFromPrimary() {
+        itemService.save(item);
+        long replicaAcquires = connectionAcquires("replica");
+
+        itemService.findDetailedById(item.getId());
+
+        assertEquals(replicaAcquires, connectionAcquires("replica"));
+    }
+
+    @Test
+    void findDetailedById_cached_recordsHit() {
+        itemService.save(item);
+        double hitsBefore = cacheHits();
+
+        ItemDetailedDTO first = itemService.findDetailedById(item.getId());
+        ItemDetailedDTO second = itemService.findDetailedById(item.getId());
+
+        assertSame(first, second);
+        assertEquals(hitsBefore + 1, cacheHits());
+    }
+
+    @Test
+    void findDetailedById_afterModify_returnsNewValues() {
+        itemService.save(item);
+        mockAuthentication(item.getSeller());
+        itemService.findDetailedById(item.getId());
+        final String newTitle = RandomItemBuilder.getTitle();
+        ModifyItemRequest modifyItemRequest = new ModifyItemRequest(newTitle,
+                null, null, null,
+                null, null, null);
+
+        itemService.modify(item.getId(), modifyItemRequest);
+
+        assertEquals(newTitle, itemService.findDetailedById(item.getId()).title());
+    }
+
+    @Test
+    void findDetailedById_afterReduceQuantity_returnsNewQuantity() {
+        item.setQuantity(5);
+        itemService.save(item);
+        itemService.findDetailedById(item.getId());
+
+        itemService.reduceQuantity(item.getId(), 2);
+
+        assertEquals(3, itemService.findDetailedById(item.getId()).quantity());
+    }
+
+    @Test
+    void findDetailedById_afterCategoryRename_returnsNewTitle() {
+        Category category = categoryService.save(new RandomCategoryBuilder().create());
+        item.setCategory(category);
+        itemService.save(item);
+        itemService.findDetailedById(item.getId());
+        final String newTitle = RandomCategoryBuilder.getTitle();
+
+        categoryService.modify(category.getId(), newTitle);
+
+        assertEquals(newTitle, itemService.findDetailedById(item.getId()).category());
+    }
+
+    @Test
+    void findDetailedById_afterSellerUpdate_returnsNewProfile() {
+        itemService.save(item);
+        itemService.findDetailedById(item.getId());
+        Member seller = memberService.findById(item.getSeller().getId());
+        seller.setProfile(MediaUtils.getMedia());
+
+        memberService.save(seller);
+
+        assertEquals(MemberMapper.toMemberSummaryDTO(seller), itemService.findDetailedById(item.getId()).seller());
+    }
+
+    @Test
+    void findDetailedById_afterManagedSellerUpdate_returnsNewProfile() {
+        itemService.save(item);
+        itemService.findDetailedById(item.getId());
+
+        Member seller = transactionTemplate.execute(status -> {
+            Member managed = memberService.findById(item.getSeller().getId());
+            managed.setProfile(MediaUtils.getMedia());
+            memberService.save(managed);
+            return managed;
+        });
+
+        assertEquals(MemberMapper.toMemberSummaryDTO(seller), itemService.findDetailedById(item.getId()).seller());
+    }
+
+    @Test
+    void findDetailedById_afterSellerSaveKeepingProfile_returnsCached() {
+        itemService.save(item);
+        ItemDetailedDTO cached = itemService.findDetailedById(item.getId());
+        Member seller = memberService.findById(item.getSeller().getId());
+        seller.setAccountEnabled(!seller.isAccountEnabled());
+
+        memberService.save(seller);
+
+        assertSame(cached, itemService.findDetailedById(item.getId()));
+    }
+
+    @Test
+    void findDetailedById_afterMediaDelete_returnsRemainingMedia() {
+        item.addAllMedia(ItemMediaUtils.getItemMedia(2));
+        itemService.save(item);
+        assertEquals(2, itemService.findDetailedById(item.getId()).media().size());
+        ItemMedia media = itemMediaService.findAllByItems(List.of(item)).get(item.getId()).getFirst();
+
+        itemMediaService.delete(media);
+
+        assertEquals(1, itemService.findDetailedById(item.getId()).media().size());
+    }
+
+    @Test
+    void modify_reservationDuringModify_keepsReservedStock() {
+        item.setQuantity(10);
+        itemService.save(item);
+        Member buyer = new RandomMemberBuilder().create();
+        memberService.save(buyer);
+        mockAuthentication(item.getSeller());
+        // Media are uploaded after modify has read the item and before it writes it back
+        given(mediaService.uploadAndGet(anyList())).willAnswer(invocation -> {
+            CompletableFuture.runAsync(() -> {
+                SecurityContextHolder.setContext(new SecurityContextImpl(
+                        new UsernamePasswordAuthenticationToken(buyer, null, List.of())));
+                try {
+                    stockReservationService.reserve(new StockReservationRequest(item.getId(), 3));
+                } finally {
+                    SecurityContextHolder.clearContext();
+                }
+            }).join();
+            return List.of(MediaUtils.getMedia());
+        });
+        ModifyItemRequest modifyItemRequest = new ModifyItemRequest(RandomItemBuilder.getTitle(),
+                null, null, null, null,
+                List.of(new MockMultipartFile("media", "new.png", "image/png", new byte[]{1})), null);
+
+        itemService.modify(item.getId(), modifyItemRequest);
+
+        assertEquals(7, itemService.findById(item.getId()).getQuantity());
+        assertEquals(1, stockReservationRepository.count());
+    }
+
+    @Test
+    void findDetailedById_afterDelete_throwItemWasNotFound() {
+        itemService.save(item);
+        mockAuthentication(item.getSeller());
+        itemService.findDetailedById(item.getId());
+
+        itemService.deleteById(item.getId());
+
+        assertThrows(ItemNotFoundException.class,
+                () -> itemService.findDetailedById(item.getId()));
+    }
+
     @Test
     void findDetailedById_throwItemWasNotFound() {
         UUID id = UUID.randomUUID();
@@ -327,9 +508,106 @@ public class ItemServiceTest {
         assertThrows(ForbiddenException.class, () -> itemService.modify(itemSummaryDTO1.id(), modifyItemRequest));
     }
 
+    @Test
+    void findAll_scroll_visitsEveryItemOnce() {
+        Member seller = item.getSeller();
+        List<Item> items = new RandomItemBuilder(seller).create(7);
+        items.forEach(itemService::save);
+
+        KeysetSliceDTO<ItemSummaryDTO> first = itemService.findAll(null, PAGE_SIZE);
+        KeysetSliceDTO<ItemSummaryDTO> second = itemService.findAll(first.nextCursor(), PAGE_SIZE);
+
+        assertTrue(first.hasNext());
+        assertEquals(PAGE_SIZE, first.content().size());
+        assertFalse(second.hasNext());
+        assertEquals(items.size() - PAGE_SIZE, second.content().size());
+        Set<UUID> visited = new HashSet<>();
+        first.content().forEach(i -> visited.add(i.id()));
+        second.content().forEach(i -> visited.add(i.id()));
+        assertEquals(items.stream().map(Item::getId).collect(Collectors.toSet()), visited);
+    }
+
+    @Test
+    void findAllByActive_scroll_filtersActive() {
+        Item activeItem = new RandomItemBuilder(item.getSeller()).create();
+        activeItem.setActive(true);
+        item.setActive(false);
+        itemService.save(activeItem);
+        itemService.save(item);
+
+        KeysetSliceDTO<ItemSummaryDTO> slice = itemService.findAllByActive(true, null, PAGE_SIZE);
+
+        assertFalse(slice.hasNext());
+        assertEquals(List.of(activeItem.getId()), slice.content().stream().map(ItemSummaryDTO::id).toList());
+    }
+
+    @Test
+    void search_pageBeyondIntOffset_returnEmptyPage() {
+        itemService.save(item);
+        Pageable farPage = PageRequest.of(2_000_000_000, PAGE_SIZE);
+
+        Page<ItemSummaryDTO> result = itemSearchService.search(item.getTitle(), farPage);
+
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(1, result.getTotalElements());
+        assertTrue(itemSearchService.facetedSearch(
+                new ItemFacetSearchRequest(null, null, null, null, null, null), farPage).items().getContent().isEmpty());
+    }
+
+    @Test
+    void search_afterCreate_findsItem() {
+        mockAuthentication(item.getSeller());
+        NewItemRequest request = new NewItemRequest(item.getTitle(), item.getPrice(), item.getDescription(), Collections.emptyList(), null);
+        ItemSummaryDTO created = itemService.create(request);
+
+        Page<ItemSummaryDTO> result = itemSearchService.search(item.getTitle(), pageable_0_5);
+
+        assertFalse(result.isEmpty());
+        assertEquals(created.id(), result.getContent().getFirst().id());
+    }
+
+    @Test
+    void search_afterModifyTitle_findsNewTitleOnly() {
+        mockAuthentication(item.getSeller());
+        NewItemRequest request = new NewItemRequest(item.getTitle(), item.getPrice(), item.getDescription(), Collections.emptyList(), null);
+        ItemSummaryDTO created = itemService.create(request);
+        final String newTitle = RandomItemBuilder.getTitle();
+        ModifyItemRequest modifyItemRequest = new ModifyItemRequest(newTitle,
+                null, null, null,
+                null, null, null);
+
+        itemService.modify(created.id(), modifyItemRequest);
+
+        assertTrue(itemSearchService.search(item.getTitle(), pageable_0_5).stream()
+                .noneMatch(i -> i.id().equals(created.id())));
+        assertEquals(created.id(), itemSearchService.search(newTitle, pageable_0_5).getContent().getFirst().id());
+    }
+
+    @Test
+    void search_afterDeleteById_empty() {
+        itemService.save(item);
+        mockAuthentication(item.getSeller());
+
+        itemService.deleteById(item.getId());
+
+        assertTrue(itemSearchService.search(item.getTitle(), pageable_0_5).stream()
+                .noneMatch(i -> i.id().equals(item.getId())));
+    }
+
+    private long connectionAcquires(String pool) {
+        return meterRegistry.get("hikaricp.connections.acquire").tag("pool", pool).timer().count();
+    }
+
+    private double cacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", ItemDetailCache.CACHE_NAME, "result", "hit")
+                .functionCounter()
+                .count();
+    }
+
     private void mockAuthentication(Member member) {
         SecurityContextHolder.setContext(securityContext);
         given(securityContext.getAuthentication()).willReturn(authentication);
         given(authentication.getPrincipal()).willReturn(member);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,211 @@
+package com.app.domain.item.services;
+
+import com.app.domain.cart.exceptions.InsufficientStockException;
+import com.app.domain.item.dtos.StockReservationDTO;
+import com.app.domain.item.dtos.requests.StockReservationRequest;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.entities.StockReservation;
+import com.app.domain.item.exceptions.ItemNotFoundException;
+import com.app.domain.item.exceptions.StockReservationNotFoundException;
+import com.app.domain.item.repositories.ItemRepository;
+import com.app.domain.item.repositories.StockReservationRepository;
+import com.app.domain.member.entities.Member;
+import com.app.domain.member.repositories.MemberRepository;
+import com.app.domain.member.services.MemberService;
+import com.app.global.exceptions.ForbiddenException;
+import com.app.utils.domain.item.RandomItemBuilder;
+import com.app.utils.domain.member.RandomMemberBuilder;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class StockReservationServiceTest {
+    private static final int BUYERS = 500;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Member buyer;
+    private Item item;
+
+    @BeforeEach
+    void setup() {
+        buyer = new RandomMemberBuilder().create();
+        memberService.save(buyer);
+        item = new RandomItemBuilder().create();
+        memberService.save(item.getSeller());
+        item.setQuantity(10);
+        itemService.save(item);
+        authenticate(buyer);
+    }
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+        stockReservationRepository.deleteAll();
+        itemRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void reserve_reducesStock() {
+        StockReservationDTO reservation = stockReservationService.reserve(new StockReservationRequest(item.getId(), 3));
+
+        assertEquals(3, reservation.quantity());
+        assertTrue(reservation.expiresAt().isAfter(LocalDateTime.now()));
+        assertEquals(7, quantity());
+    }
+
+    @Test
+    void reserve_insufficientStock_throwAndKeepStock() {
+        assertThrows(InsufficientStockException.class,
+                () -> stockReservationService.reserve(new StockReservationRequest(item.getId(), 11)));
+
+        assertEquals(10, quantity());
+        assertEquals(0, stockReservationRepository.count());
+    }
+
+    @Test
+    void reserve_itemNotFound_throw() {
+        assertThrows(ItemNotFoundException.class,
+                () -> stockReservationService.reserve(new StockReservationRequest(UUID.randomUUID(), 1)));
+    }
+
+    @Test
+    void reserve_doesNotChangeItemVersion() {
+        long version = itemService.findById(item.getId()).getVersion();
+
+        stockReservationService.reserve(new StockReservationRequest(item.getId(), 1));
+
+        assertEquals(version, itemService.findById(item.getId()).getVersion());
+    }
+
+    @Test
+    void release_restoresStockOnce() {
+        StockReservationDTO reservation = stockReservationService.reserve(new StockReservationRequest(item.getId(), 4));
+
+        stockReservationService.release(reservation.id());
+
+        assertEquals(10, quantity());
+        assertThrows(StockReservationNotFoundException.class,
+                () -> stockReservationService.release(reservation.id()));
+        assertEquals(10, quantity());
+    }
+
+    @Test
+    void release_notOwner_throwForbidden() {
+        StockReservationDTO reservation = stockReservationService.reserve(new StockReservationRequest(item.getId(), 1));
+        authenticate(item.getSeller());
+
+        assertThrows(ForbiddenException.class,
+                () -> stockReservationService.release(reservation.id()));
+    }
+
+    @Test
+    void confirm_keepsStockReduced() {
+        StockReservationDTO reservation = stockReservationService.reserve(new StockReservationRequest(item.getId(), 4));
+
+        stockReservationService.confirm(reservation.id());
+
+        assertEquals(6, quantity());
+        assertFalse(stockReservationRepository.existsById(reservation.id()));
+    }
+
+    @Test
+    void confirm_expired_throwNotFound() {
+        StockReservationDTO reservation = stockReservationService.reserve(new StockReservationRequest(item.getId(), 4));
+        expire(reservation.id());
+
+        assertThrows(StockReservationNotFoundException.class,
+                () -> stockReservationService.confirm(reservation.id()));
+    }
+
+    @Test
+    void releaseExpired_restoresOnlyExpired() {
+        StockReservationDTO expired = stockReservationService.reserve(new StockReservationRequest(item.getId(), 4));
+        StockReservationDTO active = stockReservationService.reserve(new StockReservationRequest(item.getId(), 2));
+        expire(expired.id());
+
+        int released = stockReservationService.releaseExpired();
+
+        assertEquals(1, released);
+        assertEquals(8, quantity());
+        assertFalse(stockReservationRepository.existsById(expired.id()));
+        assertTrue(stockReservationRepository.existsById(active.id()));
+    }
+
+    @Test
+    void reserve_concurrentBuyersOfOneItem_neverOversell() throws Exception {
+        int stock = BUYERS * 3 / 5;
+        item = itemService.findById(item.getId());
+        item.setQuantity(stock);
+        itemService.save(item);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> buyers = new ArrayList<>(BUYERS);
+        try (ExecutorService executor = Executors.newFixedThreadPool(BUYERS)) {
+            for (int i = 0; i < BUYERS; i++) {
+                buyers.add(executor.submit(() -> {
+                    authenticate(buyer);
+                    start.await();
+                    try {
+                        stockReservationService.reserve(new StockReservationRequest(item.getId(), 1));
+                        reserved.incrementAndGet();
+                    } catch (InsufficientStockException e) {
+                        soldOut.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : buyers) {
+                future.get();
+            }
+        }
+
+        assertEquals(stock, reserved.get());
+        assertEquals(BUYERS - stock, soldOut.get());
+        assertEquals(0, quantity());
+        assertEquals(stock, stockReservationRepository.count());
+    }
+
+    private int quantity() {
+        return itemService.findById(item.getId()).getQuantity();
+    }
+
+    private void expire(Long reservationId) {
+        StockReservation reservation = stockReservationService.findById(reservationId);
+        reservation.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        stockReservationRepository.save(reservation);
+    }
+
+    private static void authenticate(Member member) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(member, null, List.of()));
+    }
+}
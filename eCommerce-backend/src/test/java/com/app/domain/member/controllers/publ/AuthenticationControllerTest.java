@@ -10,6 +10,7 @@ import com.app.domain.member.exceptions.*;
 import com.app.domain.member.mappers.MemberMapper;
 import com.app.domain.member.services.AuthenticationService;
 import com.app.domain.member.services.JwtService;
+import com.app.domain.member.services.MemberPrincipalCache;
 import com.app.global.constants.ExceptionMessages;
 import com.app.utils.domain.member.RandomMemberBuilder;
 import com.app.utils.global.StringUtils;
@@ -54,6 +55,9 @@ public class AuthenticationControllerTest {
     @MockBean
     private JwtService jwtService;
 
+    @MockBean
+    private MemberPrincipalCache memberPrincipalCache;
+
     private Member member;
     private NewMemberRequest newMemberRequest;
     private AuthenticationRequest authRequest;
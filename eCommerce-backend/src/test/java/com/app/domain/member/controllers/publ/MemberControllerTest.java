@@ -5,6 +5,7 @@ import com.app.domain.member.entities.Member;
 import com.app.domain.member.exceptions.MemberNotFoundException;
 import com.app.domain.member.mappers.MemberMapper;
 import com.app.domain.member.services.JwtService;
+import com.app.domain.member.services.MemberPrincipalCache;
 import com.app.domain.member.services.MemberService;
 import com.app.global.constants.ExceptionMessages;
 import com.app.utils.domain.member.RandomMemberBuilder;
@@ -47,6 +48,9 @@ public class MemberControllerTest {
     @MockBean
     private JwtService jwtService;
 
+    @MockBean
+    private MemberPrincipalCache memberPrincipalCache;
+
     private final Pageable pageable = PageRequest.of(PAGE_NUMBER_0, PAGE_SIZE);
 
     @Test
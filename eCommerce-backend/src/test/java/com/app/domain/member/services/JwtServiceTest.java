@@ -3,11 +3,17 @@ package com.app.domain.member.services;
 
 import com.app.domain.member.entities.Member;
 import com.app.utils.domain.member.RandomMemberBuilder;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 
+import java.util.Date;
 import java.util.HashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,6 +25,10 @@ public class JwtServiceTest {
     @Autowired
     private JwtService jwtService;
 
+    private static final String SECRET_1 = "0868aa4879894d0dcd249591cbc0d2ae2cb12b95e6fc199bb4bc7cac2c5ddcd9";
+    private static final String SECRET_2 = "5a1f0b7c3d9e2f4a6b8c0d1e3f5a7b9c2d4e6f8a0b1c3d5e7f9a2b4c6d8e0f1a";
+    private static final long EXPIRATION = 60_000;
+
     private final Member member = new RandomMemberBuilder().create();
     private String jwtToken;
 
@@ -43,6 +53,18 @@ public class JwtServiceTest {
         assertEquals(member.getUsername(), username);
     }
 
+    @Test
+    void extractValidUsername_ok() {
+        assertEquals(member.getUsername(), jwtService.extractValidUsername(jwtToken));
+    }
+
+    @Test
+    void extractValidUsername_tamperedSignature_throwJwtException() {
+        String tampered = jwtToken.substring(0, jwtToken.length() - 2) + (jwtToken.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtService.extractValidUsername(tampered));
+    }
+
     @Test
     void isTokenValid_true() {
         assertTrue(jwtService.isTokenValid(jwtToken, member));
@@ -57,4 +79,35 @@ public class JwtServiceTest {
 
         assertFalse(jwtService.isTokenValid(otherToken, member));
     }
+
+    @Test
+    void rotation_retiredKeyStillValidates() {
+        JwtService previous = new JwtService(SECRET_1, "k1", "", EXPIRATION);
+        JwtService rotated = new JwtService(SECRET_2, "k2", "k1:" + SECRET_1, EXPIRATION);
+        String oldToken = previous.generateToken(member);
+
+        assertEquals(member.getUsername(), rotated.extractValidUsername(oldToken));
+        assertEquals(member.getUsername(), rotated.extractValidUsername(rotated.generateToken(member)));
+    }
+
+    @Test
+    void rotation_droppedKey_throwJwtException() {
+        JwtService previous = new JwtService(SECRET_1, "k1", "", EXPIRATION);
+        JwtService rotated = new JwtService(SECRET_2, "k2", "", EXPIRATION);
+        String oldToken = previous.generateToken(member);
+
+        assertThrows(JwtException.class, () -> rotated.extractValidUsername(oldToken));
+    }
+
+    @Test
+    void tokenWithoutKeyId_validatesWithCurrentKey() {
+        String legacyToken = Jwts.builder()
+                .setSubject(member.getUsername())
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_1)), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertEquals(member.getUsername(), new JwtService(SECRET_1, "k1", "", EXPIRATION).extractValidUsername(legacyToken));
+    }
 }
+
@@ -10,12 +10,16 @@ import com.app.global.enums.Gender;
 import com.app.utils.domain.member.RandomMemberBuilder;
 import com.app.utils.global.NumberUtils;
 import com.app.utils.global.StringUtils;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -32,6 +36,12 @@ public class MemberServiceTest {
     private MemberService memberService;
     @Autowired
     private MemberRepository memberRepository;
+    @Autowired
+    private MemberPrincipalCache memberPrincipalCache;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     private Member member;
 
@@ -54,6 +64,43 @@ public class MemberServiceTest {
         assertEquals(member, returnedMember);
     }
 
+    @Test
+    void save_evictsCachedPrincipal() {
+        memberService.save(member);
+        UserDetails cached = memberPrincipalCache.get(member.getUsername(), memberService::findByUsername);
+        member.setAccountLocked(true);
+
+        memberService.save(member);
+
+        UserDetails reloaded = memberPrincipalCache.get(member.getUsername(), memberService::findByUsername);
+        assertTrue(cached.isAccountNonLocked());
+        assertFalse(reloaded.isAccountNonLocked());
+    }
+
+    @Test
+    void findPrincipalByUsername_readsFromPrimary() {
+        memberService.save(member);
+        long replicaAcquires = connectionAcquires("replica");
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        Member principal = readOnly.execute(status -> memberService.findPrincipalByUsername(member.getUsername()));
+
+        assertEquals(member, principal);
+        assertEquals(replicaAcquires, connectionAcquires("replica"));
+    }
+
+    @Test
+    void deleteById_evictsCachedPrincipal() {
+        memberService.save(member);
+        memberPrincipalCache.get(member.getUsername(), memberService::findByUsername);
+
+        memberService.deleteById(member.getId());
+
+        assertThrows(MemberNotFoundException.class,
+                () -> memberPrincipalCache.get(member.getUsername(), memberService::findByUsername));
+    }
+
     @Test
     void findById_throwMemberNotFound() {
         final Long id = NumberUtils.getId();
@@ -170,4 +217,7 @@ public class MemberServiceTest {
                 .findAllSummariesByUsername(username, PAGEABLE_0_1));
     }
 
+    private long connectionAcquires(String pool) {
+        return meterRegistry.get("hikaricp.connections.acquire").tag("pool", pool).timer().count();
+    }
 }
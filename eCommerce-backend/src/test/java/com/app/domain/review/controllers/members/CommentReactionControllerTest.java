@@ -30,6 +30,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.BDDMockito.given;
@@ -199,4 +200,18 @@ public class CommentReactionControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.message", is(ExceptionMessages.COMMENT_NOT_FOUND_MESSAGE)));
     }
+
+    @Test
+    void getAllByCommentIds_ok() throws Exception {
+        Long commentId = reaction.getComment().getId();
+        given(commentReactionService.getAllByCommentIds(List.of(commentId))).willReturn(Map.of(commentId, reactionsInfoDTO));
+
+        mockMvc.perform(get(CommentReactionController.BASE_URL)
+                        .param("commentIds", commentId.toString())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$['%d'][0].reactionType".formatted(commentId), is(reactionsInfoDTO.getFirst().reactionType().toString())))
+                .andExpect(jsonPath("$['%d'][0].count".formatted(commentId), is((int) reactionsInfoDTO.getFirst().count())));
+    }
 }
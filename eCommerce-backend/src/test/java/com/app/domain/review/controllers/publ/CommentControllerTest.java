@@ -3,6 +3,9 @@ package com.app.domain.review.controllers.publ;
 import com.app.domain.member.entities.Member;
 import com.app.domain.member.exceptions.MemberNotFoundException;
 import com.app.domain.review.dtos.CommentDTO;
+import com.app.global.dtos.KeysetSliceDTO;
+import com.app.domain.review.exceptions.CommentNotFoundException;
+import com.app.domain.review.dtos.CommentTreeDTO;
 import com.app.domain.review.dtos.requests.CommentRequest;
 import com.app.domain.review.entities.Comment;
 import com.app.domain.review.exceptions.ParentCommentNotFoundException;
@@ -115,4 +118,28 @@ public class CommentControllerTest {
                 .andExpect(jsonPath("$.message", is(ExceptionMessages.PARENT_COMMENT_NOT_FOUND_MESSAGE)));
     }
 
+    @Test
+    void getTreeById_ok() throws Exception {
+        CommentTreeDTO tree = new CommentTreeDTO(CommentMapper.toCommentDTO(comment), 0,
+                new KeysetSliceDTO<>(List.of(), 5, false, null));
+        given(commentService.getTreeById(comment.getId(), 2, 5)).willReturn(tree);
+
+        mockMvc.perform(get(CommentController.BASE_URL + "/" + comment.getId() + "/tree")
+                        .param("depth", "2")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.comment.id", is(comment.getId().intValue())))
+                .andExpect(jsonPath("$.replies.content.size()", is(0)));
+    }
+
+    @Test
+    void getTreeById_notFound() throws Exception {
+        doThrow(new CommentNotFoundException()).when(commentService).getTreeById(comment.getId(), 3, 20);
+
+        mockMvc.perform(get(CommentController.BASE_URL + "/" + comment.getId() + "/tree"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.message", is(ExceptionMessages.COMMENT_NOT_FOUND_MESSAGE)));
+    }
 }
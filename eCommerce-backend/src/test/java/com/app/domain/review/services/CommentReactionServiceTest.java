@@ -28,8 +28,14 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -52,6 +58,8 @@ public class CommentReactionServiceTest {
     CommentReactionService commentReactionService;
     @Autowired
     CommentReactionRepository commentReactionRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     @MockBean
     private Authentication authentication;
@@ -113,6 +121,24 @@ public class CommentReactionServiceTest {
                 () -> commentReactionService.create(request));
     }
 
+    @Test
+    void create_inCallerTransaction_throwDuplicateReactionAndKeepCount() {
+        mockAuthentication(author);
+        commentReactionService.save(reaction);
+        CommentReactionRequest request = new CommentReactionRequest(comment.getId(), reaction.getReactionType());
+        TransactionTemplate caller = new TransactionTemplate(transactionManager);
+
+        // Raised by create itself, not by the caller's commit, so it still maps to 409
+        caller.executeWithoutResult(status -> {
+            assertThrows(DuplicateCommentReactionException.class, () -> commentReactionService.create(request));
+            status.setRollbackOnly();
+        });
+
+        List<CommentReactionsInfoDTO> reactions = commentReactionService.getAllByCommentId(comment.getId());
+        assertEquals(1, reactions.getFirst().count());
+        assertEquals(1, commentReactionRepository.count());
+    }
+
     @Test
     void modify_whenSingle_ok() {
         mockAuthentication(author);
@@ -257,6 +283,109 @@ public class CommentReactionServiceTest {
                 reactions.getLast().reactionType());
     }
 
+    @Test
+    void getAllByCommentId_afterModify_movesCount() {
+        mockAuthentication(author);
+        reaction.setReactionType(ReactionType.LIKE);
+        commentReactionService.save(reaction);
+
+        commentReactionService.modify(reaction.getId(), ReactionType.DISLIKE);
+
+        List<CommentReactionsInfoDTO> reactions = commentReactionService.getAllByCommentId(comment.getId());
+        assertEquals(List.of(new CommentReactionsInfoDTO(ReactionType.DISLIKE, 1)), reactions);
+    }
+
+    @Test
+    void getAllByCommentId_afterConcurrentModify_countsLatestType() throws Exception {
+        mockAuthentication(author);
+        reaction.setReactionType(ReactionType.LIKE);
+        commentReactionService.save(reaction);
+        CountDownLatch firstModified = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+
+        // The first edit holds its transaction open while the second one starts from the same type
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                commentReactionService.modify(reaction.getId(), ReactionType.DISLIKE);
+                firstModified.countDown();
+                try {
+                    commitFirst.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        });
+        assertTrue(firstModified.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            commentReactionService.modify(reaction.getId(), ReactionType.LIKE);
+        });
+        Thread.sleep(300);
+        commitFirst.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        List<CommentReactionsInfoDTO> reactions = commentReactionService.getAllByCommentId(comment.getId());
+        assertEquals(List.of(new CommentReactionsInfoDTO(ReactionType.LIKE, 1)), reactions);
+    }
+
+    @Test
+    void getAllByCommentId_afterDelete_empty() {
+        mockAuthentication(author);
+        commentReactionService.save(reaction);
+
+        commentReactionService.deleteById(reaction.getId());
+
+        assertTrue(commentReactionService.getAllByCommentId(comment.getId()).isEmpty());
+    }
+
+    @Test
+    void getAllByCommentId_afterDeleteAllByAuthorId_empty() {
+        mockAuthentication(author);
+        commentReactionService.save(reaction);
+
+        commentReactionService.deleteAllByAuthorId(author.getId());
+
+        assertTrue(commentReactionService.getAllByCommentId(comment.getId()).isEmpty());
+    }
+
+    @Test
+    void getAllByCommentId_countsOnlyThatComment() {
+        commentReactionService.save(reaction);
+        Comment anotherComment = new RandomCommentBuilder(author).create();
+        commentService.save(anotherComment);
+        commentReactionService.save(new RandomCommentReactionBuilder()
+                .withCustomAuthor(author)
+                .withCustomComment(anotherComment)
+                .withCustomReactionType(reaction.getReactionType())
+                .create());
+
+        List<CommentReactionsInfoDTO> reactions = commentReactionService.getAllByCommentId(comment.getId());
+
+        assertEquals(List.of(new CommentReactionsInfoDTO(reaction.getReactionType(), 1)), reactions);
+    }
+
+    @Test
+    void getAllByCommentIds_ok() {
+        commentReactionService.save(reaction);
+        Comment anotherComment = new RandomCommentBuilder(author).create();
+        commentService.save(anotherComment);
+        Comment commentWithoutReactions = new RandomCommentBuilder(author).create();
+        commentService.save(commentWithoutReactions);
+        commentReactionService.save(new RandomCommentReactionBuilder()
+                .withCustomAuthor(author)
+                .withCustomComment(anotherComment)
+                .withCustomReactionType(ReactionType.DISLIKE)
+                .create());
+
+        Map<Long, List<CommentReactionsInfoDTO>> reactions = commentReactionService.getAllByCommentIds(
+                List.of(comment.getId(), anotherComment.getId(), commentWithoutReactions.getId()));
+
+        assertEquals(2, reactions.size());
+        assertEquals(List.of(new CommentReactionsInfoDTO(reaction.getReactionType(), 1)), reactions.get(comment.getId()));
+        assertEquals(List.of(new CommentReactionsInfoDTO(ReactionType.DISLIKE, 1)), reactions.get(anotherComment.getId()));
+    }
+
     @Test
     void getAllByCommentId_throwCommentNotFound() {
         assertThrows(CommentNotFoundException.class,
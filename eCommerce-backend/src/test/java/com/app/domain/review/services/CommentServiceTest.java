@@ -5,16 +5,22 @@ import com.app.domain.member.exceptions.MemberNotFoundException;
 import com.app.domain.member.repositories.MemberRepository;
 import com.app.domain.member.services.MemberService;
 import com.app.domain.review.dtos.CommentDTO;
+import com.app.domain.review.dtos.CommentTreeDTO;
 import com.app.domain.review.dtos.requests.CommentRequest;
 import com.app.domain.review.entities.Comment;
 import com.app.domain.review.exceptions.CommentNotFoundException;
 import com.app.domain.review.exceptions.ParentCommentNotFoundException;
 import com.app.domain.review.mappers.CommentMapper;
 import com.app.domain.review.repositories.CommentRepository;
+import com.app.global.dtos.KeysetSliceDTO;
 import com.app.global.exceptions.ForbiddenException;
+import com.app.global.exceptions.InvalidCursorException;
 import com.app.utils.domain.member.RandomMemberBuilder;
 import com.app.utils.domain.review.RandomCommentBuilder;
 import com.app.utils.global.NumberUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,10 +33,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 
 import static com.app.utils.domain.review.RandomCommentBuilder.CHILDREN_COUNT_MAX;
@@ -50,6 +59,10 @@ public class CommentServiceTest {
     private MemberService memberService;
     @Autowired
     private MemberRepository memberRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     @MockBean
     private Authentication authentication;
@@ -217,6 +230,53 @@ public class CommentServiceTest {
         assertEquals(children, returnedChildren);
     }
 
+    @Test
+    void getAllByParentId_scroll_ok() {
+        Comment comment = new RandomCommentBuilder(author).withChildren(5).create();
+        Comment returnedComment = commentService.save(comment);
+        List<Long> childIds = returnedComment.getChildren().stream()
+                .map(Comment::getId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        KeysetSliceDTO<CommentDTO> first = commentService.getAllByParentId(comment.getId(), null, 3);
+        KeysetSliceDTO<CommentDTO> second = commentService.getAllByParentId(comment.getId(), first.nextCursor(), 3);
+
+        assertTrue(first.hasNext());
+        assertEquals(childIds.subList(0, 3), first.content().stream().map(CommentDTO::id).toList());
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
+        assertEquals(childIds.subList(3, 5), second.content().stream().map(CommentDTO::id).toList());
+    }
+
+    @Test
+    void getAllByParentId_scroll_followsCreatedDate() {
+        Comment comment = new RandomCommentBuilder(author).withChildren(3).create();
+        Comment returnedComment = commentService.save(comment);
+        List<Long> childIds = returnedComment.getChildren().stream()
+                .map(Comment::getId)
+                .sorted()
+                .toList();
+        // Pooled ids need not follow creation order, e.g. rows written by different instances
+        jdbcTemplate.update("UPDATE comment SET created_date = ? WHERE comment_id = ?",
+                LocalDateTime.now().minusDays(1), childIds.getLast());
+
+        KeysetSliceDTO<CommentDTO> first = commentService.getAllByParentId(comment.getId(), null, 2);
+        KeysetSliceDTO<CommentDTO> second = commentService.getAllByParentId(comment.getId(), first.nextCursor(), 2);
+
+        assertEquals(List.of(childIds.get(1), childIds.get(0)), first.content().stream().map(CommentDTO::id).toList());
+        assertEquals(List.of(childIds.get(2)), second.content().stream().map(CommentDTO::id).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void getAllByParentId_scroll_throwInvalidCursor() {
+        Comment comment = commentService.save(new RandomCommentBuilder(author).create());
+
+        assertThrows(InvalidCursorException.class,
+                () -> commentService.getAllByParentId(comment.getId(), "not-a-cursor", 3));
+    }
+
     @Test
     void getAllByParentID_throwParentCommentNotFound() {
         assertThrows(ParentCommentNotFoundException.class,
@@ -283,6 +343,133 @@ public class CommentServiceTest {
                 () -> commentService.deleteAllByAuthorId(author.getId()));
     }
 
+    @Test
+    void getTreeById_ok() {
+        Comment root = saveTree(3, 2);
+
+        CommentTreeDTO tree = commentService.getTreeById(root.getId(), 2, 20);
+
+        assertEquals(root.getId(), tree.comment().id());
+        assertEquals(3, tree.replyCount());
+        assertEquals(3, tree.replies().content().size());
+        assertFalse(tree.replies().hasNext());
+        for (CommentTreeDTO reply : tree.replies().content()) {
+            assertEquals(root.getId(), reply.comment().parentId());
+            assertEquals(author.getId(), reply.comment().author().id());
+            assertEquals(3, reply.replyCount());
+            assertEquals(3, reply.replies().content().size());
+            reply.replies().content().forEach(leaf -> {
+                assertEquals(0, leaf.replyCount());
+                assertNull(leaf.replies());
+            });
+        }
+    }
+
+    @Test
+    void getTreeById_depthCutOff_keepsReplyCount() {
+        Comment root = saveTree(2, 2);
+
+        CommentTreeDTO tree = commentService.getTreeById(root.getId(), 1, 20);
+
+        tree.replies().content().forEach(reply -> {
+            assertEquals(2, reply.replyCount());
+            assertNull(reply.replies());
+        });
+    }
+
+    @Test
+    void getTreeById_slicesEveryLevel() {
+        Comment root = saveTree(5, 2);
+
+        CommentTreeDTO tree = commentService.getTreeById(root.getId(), 2, 3);
+        Long firstReplyId = tree.replies().content().getFirst().comment().id();
+        KeysetSliceDTO<CommentDTO> rest = commentService.getAllByParentId(root.getId(), tree.replies().nextCursor(), 3);
+
+        assertEquals(5, tree.replyCount());
+        assertTrue(tree.replies().hasNext());
+        assertEquals(3, tree.replies().content().size());
+        tree.replies().content().forEach(reply -> {
+            assertEquals(3, reply.replies().content().size());
+            assertTrue(reply.replies().hasNext());
+        });
+        assertEquals(2, rest.content().size());
+        assertTrue(rest.content().stream().allMatch(c -> c.id() < firstReplyId));
+    }
+
+    @Test
+    void getTreeById_followsCreatedDateAndContinuesOnScroll() {
+        Comment comment = new RandomCommentBuilder(author).withChildren(3).create();
+        Comment returnedComment = commentService.save(comment);
+        List<Long> childIds = returnedComment.getChildren().stream()
+                .map(Comment::getId)
+                .sorted()
+                .toList();
+        jdbcTemplate.update("UPDATE comment SET created_date = ? WHERE comment_id = ?",
+                LocalDateTime.now().minusDays(1), childIds.getLast());
+
+        CommentTreeDTO tree = commentService.getTreeById(comment.getId(), 1, 2);
+        KeysetSliceDTO<CommentDTO> rest = commentService.getAllByParentId(comment.getId(), tree.replies().nextCursor(), 2);
+
+        assertEquals(List.of(childIds.get(1), childIds.get(0)),
+                tree.replies().content().stream().map(reply -> reply.comment().id()).toList());
+        assertEquals(List.of(childIds.get(2)), rest.content().stream().map(CommentDTO::id).toList());
+    }
+
+    @Test
+    void getTreeById_stopsExpandingAtNodeLimit() {
+        // 1 + 10 + 100 + 1000 comments, more than the 1000 a tree may load
+        Comment root = saveTree(10, 3);
+
+        CommentTreeDTO tree = commentService.getTreeById(root.getId(), 3, 10);
+
+        assertTrue(countNodes(tree) <= 1000);
+        List<CommentTreeDTO> secondLevel = tree.replies().content().stream()
+                .flatMap(reply -> reply.replies().content().stream())
+                .toList();
+        assertEquals(100, secondLevel.size());
+        assertTrue(secondLevel.stream().anyMatch(c -> c.replies() == null && c.replyCount() == 10));
+        assertTrue(secondLevel.stream().anyMatch(c -> c.replies() != null));
+    }
+
+    @Test
+    void getTreeById_statementsDependOnDepthOnly() {
+        Comment root = saveTree(4, 3);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        commentService.getTreeById(root.getId(), 3, 20);
+
+        // root, two per level, reply counts of the cut-off level
+        assertEquals(1 + 2 * 3 + 1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTreeById_throwCommentNotFound() {
+        assertThrows(CommentNotFoundException.class,
+                () -> commentService.getTreeById(NumberUtils.getId(), 2, 20));
+    }
+
+    private Comment saveTree(int repliesPerComment, int depth) {
+        Comment root = new Comment(author, RandomCommentBuilder.getContent());
+        addReplies(root, repliesPerComment, depth);
+        return commentService.save(root);
+    }
+
+    private void addReplies(Comment comment, int repliesPerComment, int depth) {
+        if (depth == 0) {
+            return;
+        }
+        for (int i = 0; i < repliesPerComment; i++) {
+            Comment reply = new Comment(author, RandomCommentBuilder.getContent());
+            comment.addChild(reply);
+            addReplies(reply, repliesPerComment, depth - 1);
+        }
+    }
+
+    private static int countNodes(CommentTreeDTO tree) {
+        return 1 + (tree.replies() == null ? 0 : tree.replies().content().stream().mapToInt(CommentServiceTest::countNodes).sum());
+    }
+
     private void mockAuthenticationForbidden() {
         Member member = new RandomMemberBuilder().create();
         memberService.save(member);
@@ -1,14 +1,17 @@
 package com.app.domain.review.services;
 
 
+import com.app.domain.item.dtos.requests.ItemFacetSearchRequest;
 import com.app.domain.item.entities.Item;
 import com.app.domain.item.exceptions.ItemNotFoundException;
 import com.app.domain.item.repositories.ItemRepository;
+import com.app.domain.item.services.ItemSearchService;
 import com.app.domain.item.services.ItemService;
 import com.app.domain.member.entities.Member;
 import com.app.domain.member.exceptions.MemberNotFoundException;
 import com.app.domain.member.repositories.MemberRepository;
 import com.app.domain.member.services.MemberService;
+import com.app.domain.review.dtos.RatingSummaryDTO;
 import com.app.domain.review.dtos.ReviewDTO;
 import com.app.domain.review.dtos.requests.ItemReviewRequest;
 import com.app.domain.review.dtos.requests.ModifyReviewRequest;
@@ -17,7 +20,9 @@ import com.app.domain.review.exceptions.DuplicateReviewException;
 import com.app.domain.review.exceptions.ReviewNotFoundException;
 import com.app.domain.review.mappers.ReviewMapper;
 import com.app.domain.review.repositories.CommentRepository;
+import com.app.domain.review.repositories.ItemRatingCountRepository;
 import com.app.domain.review.repositories.ItemReviewRepository;
+import com.app.global.dtos.KeysetSliceDTO;
 import com.app.global.exceptions.ForbiddenException;
 import com.app.utils.domain.item.RandomItemBuilder;
 import com.app.utils.domain.member.RandomMemberBuilder;
@@ -33,13 +38,22 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static com.app.global.constants.UserInputConstants.RATING_MAX;
+import static com.app.global.constants.UserInputConstants.RATING_MIN;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 
@@ -62,6 +76,14 @@ public class ItemReviewServiceTest {
     private ItemReviewRepository itemReviewRepository;
     @Autowired
     private CommentRepository commentRepository;
+    @Autowired
+    private ItemRatingService itemRatingService;
+    @Autowired
+    private ItemRatingCountRepository itemRatingCountRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private ItemSearchService itemSearchService;
 
     @MockBean
     private Authentication authentication;
@@ -85,6 +107,7 @@ public class ItemReviewServiceTest {
 
     @AfterEach
     void clear() {
+        itemRatingCountRepository.deleteAll();
         itemReviewRepository.deleteAll();
         itemRepository.deleteAll();
         commentRepository.deleteAll();
@@ -143,6 +166,60 @@ public class ItemReviewServiceTest {
         assertEquals(request.content(), returnedReviewDTO.comment().content());
     }
 
+    @Test
+    void modify_movesRatingCount() {
+        mockAuthentication(author);
+        ItemReview review = getItemReview();
+        review.setRating(RATING_MIN);
+        itemReviewService.save(review);
+        ModifyReviewRequest request = new ModifyReviewRequest(RATING_MAX, null);
+
+        itemReviewService.modify(review.getId(), request);
+
+        RatingSummaryDTO summary = itemReviewService.getRatingSummaryByItemId(item.getId());
+        assertEquals(1, summary.count());
+        assertEquals(0, summary.histogram().get(RATING_MIN));
+        assertEquals(1, summary.histogram().get(RATING_MAX));
+    }
+
+    @Test
+    void modify_concurrentRatingChanges_moveCountOnce() throws Exception {
+        mockAuthentication(author);
+        ItemReview review = getItemReview();
+        review.setRating(RATING_MIN);
+        itemReviewService.save(review);
+        CountDownLatch firstModified = new CountDownLatch(1);
+        CountDownLatch commitFirst = new CountDownLatch(1);
+
+        // The first edit holds its transaction open while the second one starts from the same rating
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            transactionTemplate.executeWithoutResult(status -> {
+                itemReviewService.modify(review.getId(), new ModifyReviewRequest(RATING_MAX, null));
+                firstModified.countDown();
+                try {
+                    commitFirst.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        });
+        assertTrue(firstModified.await(10, TimeUnit.SECONDS));
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            itemReviewService.modify(review.getId(), new ModifyReviewRequest(RATING_MIN + 1, null));
+        });
+        Thread.sleep(300);
+        commitFirst.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+
+        RatingSummaryDTO summary = itemReviewService.getRatingSummaryByItemId(item.getId());
+        assertEquals(1, summary.count());
+        assertEquals(0, summary.histogram().get(RATING_MIN));
+        assertEquals(0, summary.histogram().get(RATING_MAX));
+        assertEquals(1, summary.histogram().get(RATING_MIN + 1));
+    }
+
     @Test
     void modify_throwReviewNotFound() {
         ModifyReviewRequest request = new ModifyReviewRequest(RandomReviewBuilder.getRating(), "new content");
@@ -173,6 +250,17 @@ public class ItemReviewServiceTest {
                 () -> itemReviewService.getById(review.getId()));
     }
 
+    @Test
+    void deleteById_removesRatingCount() {
+        mockAuthentication(author);
+        ItemReview review = getItemReview();
+        itemReviewService.save(review);
+
+        itemReviewService.deleteById(review.getId());
+
+        assertEquals(0, itemReviewService.getReviewCountByItemId(item.getId()));
+    }
+
     @Test
     void deleteById_throwReviewNotFound() {
         assertThrows(ReviewNotFoundException.class,
@@ -202,6 +290,30 @@ public class ItemReviewServiceTest {
                 () -> itemReviewService.getById(review.getId()));
     }
 
+    @Test
+    void deleteAllByItemId_removesRatingCounts() {
+        mockAuthentication(item.getSeller());
+        itemReviewService.save(getItemReview());
+
+        itemReviewService.deleteAllByItemId(item.getId());
+
+        assertEquals(0, itemReviewService.getReviewCountByItemId(item.getId()));
+    }
+
+    @Test
+    void deleteAllByItemId_removesRatingsFromFacetIndex() {
+        mockAuthentication(item.getSeller());
+        ItemReview review = getItemReview();
+        review.setRating(RATING_MAX);
+        itemReviewService.save(review);
+        ItemFacetSearchRequest request = new ItemFacetSearchRequest(null, null, null, item.getSeller().getId(), false, (double) RATING_MAX);
+        assertEquals(1, itemSearchService.facetedSearch(request, PageRequest.of(0, 5)).items().getTotalElements());
+
+        itemReviewService.deleteAllByItemId(item.getId());
+
+        assertEquals(0, itemSearchService.facetedSearch(request, PageRequest.of(0, 5)).items().getTotalElements());
+    }
+
     @Test
     void deleteAllByItemId_throwItemNotFound() {
         assertThrows(ItemNotFoundException.class,
@@ -229,6 +341,23 @@ public class ItemReviewServiceTest {
                 () -> itemReviewService.getById(review.getId()));
     }
 
+    @Test
+    void deleteAllByAuthorId_removesRatingCountsOfEveryItem() {
+        mockAuthentication(author);
+        Item anotherItem = new RandomItemBuilder(item.getSeller()).create();
+        itemService.save(anotherItem);
+        itemReviewService.save(getItemReview());
+        itemReviewService.save((ItemReview) new RandomReviewBuilder().withCustomAuthor(author).create(anotherItem));
+        Member anotherAuthor = new RandomMemberBuilder().create();
+        memberService.save(anotherAuthor);
+        itemReviewService.save((ItemReview) new RandomReviewBuilder().withCustomAuthor(anotherAuthor).create(item));
+
+        itemReviewService.deleteAllByAuthorId(author.getId());
+
+        assertEquals(1, itemReviewService.getReviewCountByItemId(item.getId()));
+        assertEquals(0, itemReviewService.getReviewCountByItemId(anotherItem.getId()));
+    }
+
     @Test
     void deleteAllByAuthorId_throwMemberNotFound() {
         assertThrows(MemberNotFoundException.class,
@@ -296,6 +425,25 @@ public class ItemReviewServiceTest {
         assertEquals(reviewDTO, page.getContent().getFirst());
     }
 
+    @Test
+    void getAllByItemId_scroll_ok() {
+        List<Long> reviewIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Member reviewer = new RandomMemberBuilder().create();
+            memberService.save(reviewer);
+            ItemReview review = (ItemReview) new RandomReviewBuilder().withCustomAuthor(reviewer).create(item);
+            reviewIds.addFirst(itemReviewService.save(review).getId());
+        }
+
+        KeysetSliceDTO<ReviewDTO> first = itemReviewService.getAllByItemId(item.getId(), null, 2);
+        KeysetSliceDTO<ReviewDTO> second = itemReviewService.getAllByItemId(item.getId(), first.nextCursor(), 2);
+
+        assertTrue(first.hasNext());
+        assertEquals(reviewIds.subList(0, 2), first.content().stream().map(ReviewDTO::id).toList());
+        assertFalse(second.hasNext());
+        assertEquals(reviewIds.subList(2, 3), second.content().stream().map(ReviewDTO::id).toList());
+    }
+
     @Test
     void getAllByItemId_throwItemNotFound() {
         assertThrows(ItemNotFoundException.class,
@@ -385,6 +533,41 @@ public class ItemReviewServiceTest {
                 () -> itemReviewService.getAverageReviewRatingByItemId(UUID.randomUUID()));
     }
 
+    @Test
+    void getRatingSummaryByItemId_ok() {
+        ItemReview review = getItemReview();
+        review.setRating(RATING_MAX);
+        Member member = new RandomMemberBuilder().create();
+        memberService.save(member);
+        ItemReview review2 = getItemReview();
+        review2.setAuthor(member);
+        review2.setRating(RATING_MAX);
+        itemReviewService.save(review);
+        itemReviewService.save(review2);
+
+        RatingSummaryDTO summary = itemReviewService.getRatingSummaryByItemId(item.getId());
+
+        assertEquals(2, summary.count());
+        assertEquals(RATING_MAX, summary.average());
+        assertEquals(RATING_MAX - RATING_MIN + 1, summary.histogram().size());
+        assertEquals(2, summary.histogram().get(RATING_MAX));
+    }
+
+    @Test
+    void getRatingSummaryByItemId_throwItemNotFound() {
+        assertThrows(ItemNotFoundException.class,
+                () -> itemReviewService.getRatingSummaryByItemId(UUID.randomUUID()));
+    }
+
+    @Test
+    void rebuild_repairsCountsOfReviewsWrittenDirectly() {
+        itemReviewRepository.saveAndFlush(getItemReview());
+        assertEquals(0, itemReviewService.getReviewCountByItemId(item.getId()));
+
+        itemRatingService.rebuild();
+
+        assertEquals(1, itemReviewService.getReviewCountByItemId(item.getId()));
+    }
 
     private void mockAuthenticationForbidden() {
         Member member = new RandomMemberBuilder().create();
@@ -5,6 +5,7 @@ import com.app.domain.member.entities.Member;
 import com.app.domain.member.exceptions.MemberNotFoundException;
 import com.app.domain.member.repositories.MemberRepository;
 import com.app.domain.member.services.MemberService;
+import com.app.domain.review.dtos.RatingSummaryDTO;
 import com.app.domain.review.dtos.ReviewDTO;
 import com.app.domain.review.dtos.requests.MemberReviewRequest;
 import com.app.domain.review.dtos.requests.ModifyReviewRequest;
@@ -13,6 +14,7 @@ import com.app.domain.review.exceptions.DuplicateReviewException;
 import com.app.domain.review.exceptions.ReviewNotFoundException;
 import com.app.domain.review.mappers.ReviewMapper;
 import com.app.domain.review.repositories.CommentRepository;
+import com.app.domain.review.repositories.MemberRatingCountRepository;
 import com.app.domain.review.repositories.MemberReviewRepository;
 import com.app.global.exceptions.ForbiddenException;
 import com.app.utils.domain.member.RandomMemberBuilder;
@@ -33,6 +35,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import static com.app.global.constants.UserInputConstants.RATING_MAX;
+import static com.app.global.constants.UserInputConstants.RATING_MIN;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.BDDMockito.given;
 
@@ -51,6 +55,10 @@ public class MemberReviewServiceTest {
     private MemberReviewRepository memberReviewRepository;
     @Autowired
     private CommentRepository commentRepository;
+    @Autowired
+    private MemberRatingService memberRatingService;
+    @Autowired
+    private MemberRatingCountRepository memberRatingCountRepository;
 
 
     @MockBean
@@ -72,6 +80,7 @@ public class MemberReviewServiceTest {
 
     @AfterEach
     void clear() {
+        memberRatingCountRepository.deleteAll();
         memberReviewRepository.deleteAll();
         commentRepository.deleteAll();
         memberRepository.deleteAll();
@@ -128,6 +137,22 @@ public class MemberReviewServiceTest {
         assertEquals(request.content(), returnedReviewDTO.comment().content());
     }
 
+    @Test
+    void modify_movesRatingCount() {
+        mockAuthentication(author);
+        MemberReview review = getMemberReview();
+        review.setRating(RATING_MIN);
+        memberReviewService.save(review);
+        ModifyReviewRequest request = new ModifyReviewRequest(RATING_MAX, null);
+
+        memberReviewService.modify(review.getId(), request);
+
+        RatingSummaryDTO summary = memberReviewService.getRatingSummaryByMemberId(member.getId());
+        assertEquals(1, summary.count());
+        assertEquals(0, summary.histogram().get(RATING_MIN));
+        assertEquals(1, summary.histogram().get(RATING_MAX));
+    }
+
     @Test
     void modify_throwReviewNotFound() {
         ModifyReviewRequest request = new ModifyReviewRequest(RandomReviewBuilder.getRating(), "new content");
@@ -368,6 +393,25 @@ public class MemberReviewServiceTest {
                 () -> memberReviewService.getAverageReviewRatingByMemberId(NumberUtils.getId()));
     }
 
+    @Test
+    void deleteAllByAuthorId_removesRatingCounts() {
+        mockAuthentication(author);
+        memberReviewService.save(getMemberReview());
+
+        memberReviewService.deleteAllByAuthorId(author.getId());
+
+        assertEquals(0, memberReviewService.getReviewCountByMemberId(member.getId()));
+    }
+
+    @Test
+    void rebuild_repairsCountsOfReviewsWrittenDirectly() {
+        memberReviewRepository.saveAndFlush(getMemberReview());
+        assertEquals(0, memberReviewService.getReviewCountByMemberId(member.getId()));
+
+        memberRatingService.rebuild();
+
+        assertEquals(1, memberReviewService.getReviewCountByMemberId(member.getId()));
+    }
 
     private void mockAuthenticationForbidden() {
         Member member = new RandomMemberBuilder().create();
@@ -0,0 +1,137 @@
+package com.app.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Routes between two separate in-memory databases, each holding its own name in a marker table.
+ */
+public class ReadWriteRoutingDataSourceTest {
+
+    private static final long MAX_LAG = 10000;
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+
+    @BeforeEach
+    void setup() {
+        primary = database("primary");
+        replica = database("replica");
+    }
+
+    @AfterEach
+    void close() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void readOnlyTransaction_usesReplica() {
+        DataSource dataSource = routing(monitor("SELECT 0 AS lag"));
+
+        assertEquals("replica", readMarker(dataSource, true));
+    }
+
+    @Test
+    void readWriteTransaction_usesPrimary() {
+        DataSource dataSource = routing(monitor("SELECT 0 AS lag"));
+
+        assertEquals("primary", readMarker(dataSource, false));
+    }
+
+    @Test
+    void noTransaction_usesPrimary() {
+        DataSource dataSource = routing(monitor("SELECT 0 AS lag"));
+
+        assertEquals("primary", new JdbcTemplate(dataSource).queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    @Test
+    void pinnedToPrimary_readOnlyTransaction_usesPrimary() {
+        DataSource dataSource = routing(monitor("SELECT 0 AS lag"));
+
+        ReadWriteRoutingDataSource.pinToPrimary();
+        try {
+            assertEquals("primary", readMarker(dataSource, true));
+        } finally {
+            ReadWriteRoutingDataSource.unpin();
+        }
+        assertEquals("replica", readMarker(dataSource, true));
+    }
+
+    @Test
+    void replicaLagging_readOnlyTransaction_usesPrimary() {
+        ReplicaLagMonitor monitor = monitor("SELECT 30 AS lag");
+
+        assertFalse(monitor.isAvailable());
+        assertEquals("primary", readMarker(routing(monitor), true));
+    }
+
+    @Test
+    void replicaNotReplicating_readOnlyTransaction_usesPrimary() {
+        ReplicaLagMonitor monitor = monitor("SELECT CAST(NULL AS INT) AS lag");
+
+        assertFalse(monitor.isAvailable());
+        assertEquals("primary", readMarker(routing(monitor), true));
+    }
+
+    @Test
+    void replicaUnreachable_readOnlyTransaction_usesPrimary() {
+        ReplicaLagMonitor monitor = monitor("SELECT 0 AS lag");
+        assertTrue(monitor.isAvailable());
+
+        replica.close();
+        monitor.check();
+
+        assertFalse(monitor.isAvailable());
+        assertEquals("primary", readMarker(routing(monitor), true));
+    }
+
+    @Test
+    void noReplica_readOnlyTransaction_usesPrimary() {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, null, null));
+
+        assertEquals("primary", readMarker(dataSource, true));
+    }
+
+    private ReplicaLagMonitor monitor(String lagQuery) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, "lag", MAX_LAG, new SimpleMeterRegistry());
+        monitor.check();
+        return monitor;
+    }
+
+    private DataSource routing(ReplicaLagMonitor monitor) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, monitor));
+    }
+
+    private static String readMarker(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID());
+        dataSource.setMaximumPoolSize(2);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE marker (name VARCHAR(16))");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+}
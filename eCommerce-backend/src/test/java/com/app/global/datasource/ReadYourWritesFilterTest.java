@@ -0,0 +1,88 @@
+package com.app.global.datasource;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ReadYourWritesFilterTest {
+
+    private static final long WINDOW = 60000;
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_afterWrite_pinsSameMemberToPrimary() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW);
+        authenticate("writer");
+        filter.doFilter(new MockHttpServletRequest("POST", "/items"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        assertTrue(pinnedDuring(filter, "GET"));
+        assertFalse(ReadWriteRoutingDataSource.isPinnedToPrimary());
+    }
+
+    @Test
+    void doFilter_afterRead_doesNotPin() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW);
+        authenticate("reader");
+        filter.doFilter(new MockHttpServletRequest("GET", "/items"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        assertFalse(pinnedDuring(filter, "GET"));
+    }
+
+    @Test
+    void doFilter_otherMemberWrote_doesNotPin() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW);
+        authenticate("writer");
+        filter.doFilter(new MockHttpServletRequest("PUT", "/items"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        authenticate("other");
+        assertFalse(pinnedDuring(filter, "GET"));
+    }
+
+    @Test
+    void doFilter_anonymousWrite_doesNotPin() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(WINDOW);
+        filter.doFilter(new MockHttpServletRequest("POST", "/auth/register"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        assertFalse(pinnedDuring(filter, "GET"));
+    }
+
+    @Test
+    void doFilter_windowPassed_doesNotPin() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(0);
+        authenticate("writer");
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/items"), new MockHttpServletResponse(), (req, res) -> {
+        });
+
+        assertFalse(pinnedDuring(filter, "GET"));
+    }
+
+    private static boolean pinnedDuring(ReadYourWritesFilter filter, String method) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        FilterChain chain = (req, res) -> pinned.set(ReadWriteRoutingDataSource.isPinnedToPrimary());
+        filter.doFilter(new MockHttpServletRequest(method, "/items"), new MockHttpServletResponse(), chain);
+        return pinned.get();
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
@@ -0,0 +1,109 @@
+package com.app.global.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DomainEventBusTest {
+
+    private record Created(int id) implements DomainEvent {
+    }
+
+    private record Removed(int id) implements DomainEvent {
+    }
+
+    private static class Recorder<E extends DomainEvent> implements DomainEventSubscriber<E> {
+        private final Class<E> type;
+        private final List<List<E>> batches = new CopyOnWriteArrayList<>();
+
+        Recorder(Class<E> type) {
+            this.type = type;
+        }
+
+        @Override
+        public Class<E> eventType() {
+            return type;
+        }
+
+        @Override
+        public void handle(List<E> events) {
+            batches.add(events);
+        }
+
+        List<E> received() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DomainEventBus bus;
+
+    @AfterEach
+    void stop() {
+        bus.shutdown();
+    }
+
+    @Test
+    void publish_deliversEventsOfEachTypeInOrder() {
+        Recorder<Created> created = new Recorder<>(Created.class);
+        Recorder<DomainEvent> all = new Recorder<>(DomainEvent.class);
+        start(List.of(created, all), 100);
+
+        bus.publish(new Created(1));
+        bus.publish(new Removed(1));
+        bus.publish(new Created(2));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> all.received().size() == 3);
+        assertEquals(List.of(new Created(1), new Created(2)), created.received());
+        assertEquals(List.of(new Created(1), new Removed(1), new Created(2)), all.received());
+        assertEquals(3, meterRegistry.get("domain.events.lag").timer().count());
+    }
+
+    @Test
+    void publish_batchesQueuedEvents() {
+        Recorder<Created> created = new Recorder<>(Created.class);
+        start(List.of(created), 2);
+
+        for (int i = 0; i < 5; i++) {
+            bus.publish(new Created(i));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> created.received().size() == 5);
+        assertTrue(created.batches.stream().allMatch(b -> b.size() <= 2));
+        assertTrue(created.batches.size() < 5);
+    }
+
+    @Test
+    void publish_failingSubscriberDoesNotStopOthers() {
+        Recorder<Created> created = new Recorder<>(Created.class);
+        DomainEventSubscriber<Created> failing = new DomainEventSubscriber<>() {
+            @Override
+            public Class<Created> eventType() {
+                return Created.class;
+            }
+
+            @Override
+            public void handle(List<Created> events) {
+                throw new IllegalStateException();
+            }
+        };
+        start(List.of(failing, created), 100);
+
+        bus.publish(new Created(1));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> created.received().size() == 1);
+        assertEquals(1, meterRegistry.get("domain.events.failed").counter().count());
+    }
+
+    private void start(List<DomainEventSubscriber<?>> subscribers, int batchSize) {
+        bus = new DomainEventBus(subscribers, meterRegistry, batchSize, 50);
+        bus.start();
+    }
+}
@@ -0,0 +1,188 @@
+package com.app.global.metrics;
+
+import com.app.domain.cart.entities.Cart;
+import com.app.domain.cart.entities.CartItem;
+import com.app.domain.cart.repositories.CartRepository;
+import com.app.domain.cart.controllers.members.CartController;
+import com.app.domain.item.controllers.publ.ItemController;
+import com.app.domain.item.controllers.publ.ItemSearchController;
+import com.app.domain.item.entities.Category;
+import com.app.domain.item.entities.Item;
+import com.app.domain.item.repositories.CategoryRepository;
+import com.app.domain.item.repositories.ItemRepository;
+import com.app.domain.item.services.CategoryService;
+import com.app.domain.item.services.ItemService;
+import com.app.domain.member.entities.Member;
+import com.app.domain.member.entities.Role;
+import com.app.domain.member.repositories.MemberRepository;
+import com.app.domain.member.services.JwtService;
+import com.app.domain.member.services.MemberService;
+import com.app.domain.member.services.RoleService;
+import com.app.domain.review.controllers.members.CommentController;
+import com.app.domain.review.controllers.publ.ItemReviewController;
+import com.app.domain.review.entities.Comment;
+import com.app.domain.review.entities.ItemReview;
+import com.app.domain.review.repositories.CommentRepository;
+import com.app.domain.review.repositories.ItemReviewRepository;
+import com.app.domain.review.services.CommentService;
+import com.app.domain.review.services.ItemReviewService;
+import com.app.utils.domain.item.RandomCategoryBuilder;
+import com.app.utils.domain.item.RandomItemBuilder;
+import com.app.utils.domain.member.RandomMemberBuilder;
+import com.app.utils.domain.review.RandomCommentBuilder;
+import com.app.utils.domain.review.RandomReviewBuilder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Calls the endpoints that declare a {@link StatementBudget} with pages full of data.
+ * Budgets fail requests in tests, so a new lazy load per row fails here.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class EndpointStatementBudgetTest {
+    private static final int ITEM_COUNT = 12;
+    private static final int REPLY_COUNT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private RoleService roleService;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private CategoryService categoryService;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private ItemReviewService itemReviewService;
+    @Autowired
+    private ItemReviewRepository itemReviewRepository;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private CartRepository cartRepository;
+
+    private String token;
+    private String shopperToken;
+    private Category category;
+    private Item item;
+    private Comment rootComment;
+
+    @BeforeAll
+    void setup() {
+        Member member = new RandomMemberBuilder().create();
+        member.setRole(roleService.create(Role.RoleTitle.ADMIN));
+        member.setAccountEnabled(true);
+        memberService.save(member);
+        token = jwtService.generateToken(member);
+
+        category = new RandomCategoryBuilder().create();
+        categoryService.save(category);
+        List<Item> items = new RandomItemBuilder(member)
+                .withCategory(category)
+                .withMedia()
+                .withActive()
+                .create(ITEM_COUNT);
+        items.forEach(itemService::save);
+        item = items.getFirst();
+
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            Member author = new RandomMemberBuilder().create();
+            memberService.save(author);
+            itemReviewService.save((ItemReview) new RandomReviewBuilder().withCustomAuthor(author).create(item));
+        }
+        Comment root = new Comment(member, RandomCommentBuilder.getContent());
+        for (int i = 0; i < REPLY_COUNT; i++) {
+            Comment reply = new Comment(member, RandomCommentBuilder.getContent());
+            reply.addChild(new Comment(member, RandomCommentBuilder.getContent()));
+            root.addChild(reply);
+        }
+        rootComment = commentService.save(root);
+
+        Member shopper = new RandomMemberBuilder().create();
+        shopper.setRole(roleService.create(Role.RoleTitle.MEMBER));
+        shopper.setAccountEnabled(true);
+        memberService.save(shopper);
+        shopperToken = jwtService.generateToken(shopper);
+        Cart cart = new Cart(shopper);
+        items.forEach(i -> cart.addItem(new CartItem(i, 1)));
+        cartRepository.save(cart);
+    }
+
+    @AfterAll
+    void clear() {
+        cartRepository.deleteAll();
+        itemReviewRepository.deleteAll();
+        commentRepository.deleteAll();
+        itemRepository.deleteAll();
+        categoryRepository.deleteAll();
+        memberRepository.deleteAll();
+        roleService.deleteByTitle(Role.RoleTitle.ADMIN);
+        roleService.deleteByTitle(Role.RoleTitle.MEMBER);
+    }
+
+    @Test
+    void items_withinBudget() throws Exception {
+        perform(get(ItemController.BASE_URL).param("size", String.valueOf(ITEM_COUNT)));
+        perform(get(ItemController.BASE_URL + "/scroll").param("size", String.valueOf(ITEM_COUNT)));
+        perform(get(ItemController.BASE_URL + "/active").param("active", "true").param("size", String.valueOf(ITEM_COUNT)));
+        perform(get(ItemController.BASE_URL + "/category/" + category.getId()).param("size", String.valueOf(ITEM_COUNT)));
+        perform(get(ItemController.BASE_URL + "/" + item.getId()));
+    }
+
+    @Test
+    void itemSearch_withinBudget() throws Exception {
+        perform(get(ItemSearchController.BASE_URL + "/facets").param("size", String.valueOf(ITEM_COUNT)));
+    }
+
+    @Test
+    void itemReviews_withinBudget() throws Exception {
+        perform(get(ItemReviewController.BASE_URL + "/item/" + item.getId()).param("size", String.valueOf(ITEM_COUNT)));
+        perform(get(ItemReviewController.BASE_URL + "/item/" + item.getId() + "/scroll").param("size", String.valueOf(ITEM_COUNT)));
+    }
+
+    @Test
+    void comments_withinBudget() throws Exception {
+        perform(get(CommentController.BASE_URL + "/parent/" + rootComment.getId()));
+        perform(get(CommentController.BASE_URL + "/parent/" + rootComment.getId() + "/scroll"));
+        perform(get(CommentController.BASE_URL + "/" + rootComment.getId() + "/tree"));
+    }
+
+    @Test
+    void cart_withinBudget() throws Exception {
+        perform(get(CartController.BASE_URL), shopperToken);
+    }
+
+    private void perform(MockHttpServletRequestBuilder request) throws Exception {
+        perform(request, token);
+    }
+
+    private void perform(MockHttpServletRequestBuilder request, String bearer) throws Exception {
+        mockMvc.perform(request.header("Authorization", "Bearer " + bearer))
+                .andExpect(status().isOk());
+    }
+}
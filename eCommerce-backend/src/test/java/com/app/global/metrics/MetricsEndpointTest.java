@@ -0,0 +1,128 @@
+package com.app.global.metrics;
+
+import com.app.domain.item.controllers.publ.CategoryController;
+import com.app.domain.item.controllers.publ.ItemController;
+import com.app.domain.member.entities.Member;
+import com.app.domain.member.entities.Role;
+import com.app.domain.member.services.JwtService;
+import com.app.domain.member.services.MemberService;
+import com.app.domain.member.services.RoleService;
+import com.app.global.constants.RestEndpoints;
+import com.app.utils.domain.member.RandomMemberBuilder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class MetricsEndpointTest {
+
+    private static final String SCRAPE_URL = RestEndpoints.ADMIN_API + "/actuator/prometheus";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private RoleService roleService;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private Member admin;
+    private String adminToken;
+
+    @BeforeAll
+    void setup() {
+        admin = new RandomMemberBuilder().create();
+        admin.setRole(roleService.create(Role.RoleTitle.ADMIN));
+        admin.setAccountEnabled(true);
+        memberService.save(admin);
+        adminToken = jwtService.generateToken(admin);
+    }
+
+    @AfterAll
+    void cleanup() {
+        memberService.deleteById(admin.getId());
+        roleService.deleteByTitle(Role.RoleTitle.ADMIN);
+    }
+
+    @Test
+    void request_recordsStatementsAndRows() throws Exception {
+        mockMvc.perform(get(CategoryController.BASE_URL))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.find(RequestStatementMetricsFilter.METRIC_NAME)
+                .tags("method", "GET", "uri", CategoryController.BASE_URL)
+                .summary();
+        assertNotNull(statements);
+        assertTrue(statements.count() >= 1);
+        assertTrue(statements.totalAmount() >= 1);
+        DistributionSummary rows = meterRegistry.find(RepositoryRowCountInterceptor.METRIC_NAME)
+                .tags("repository", "CategoryRepository", "method", "findRoots")
+                .summary();
+        assertNotNull(rows);
+        assertTrue(rows.count() >= 1);
+    }
+
+    @Test
+    void exception_isCounted() throws Exception {
+        double before = exceptionCount();
+
+        mockMvc.perform(get(ItemController.BASE_URL + "/" + UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+
+        assertEquals(before + 1, exceptionCount());
+    }
+
+    @Test
+    void scrape_admin_returnsPrometheusText() throws Exception {
+        mockMvc.perform(get(CategoryController.BASE_URL));
+
+        mockMvc.perform(get(SCRAPE_URL)
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket")))
+                .andExpect(content().string(containsString("http_server_requests_statements")))
+                .andExpect(content().string(containsString("spring_data_repository_rows")))
+                .andExpect(content().string(containsString("hikaricp_connections")))
+                .andExpect(content().string(containsString("pool=\"primary\"")))
+                .andExpect(content().string(containsString("pool=\"replica\"")))
+                .andExpect(content().string(containsString("datasource_replica_lag_seconds")));
+    }
+
+    @Test
+    void scrape_anonymous_forbidden() throws Exception {
+        mockMvc.perform(get(SCRAPE_URL))
+                .andExpect(status().isForbidden());
+    }
+
+    private double exceptionCount() {
+        return meterRegistry.counter("http.server.exceptions",
+                "exception", "ItemNotFoundException",
+                "status", "404").count();
+    }
+}
@@ -0,0 +1,142 @@
+package com.app.global.metrics;
+
+import com.app.global.exceptions.StatementBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestStatementMetricsFilterTest {
+
+    private static class BudgetedHandlers {
+        @StatementBudget(2)
+        public void budgeted() {
+        }
+
+        public void unbudgeted() {
+        }
+    }
+
+    @StatementBudget(1)
+    private static class BudgetedController {
+        public void handle() {
+        }
+    }
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void doFilter_recordsStatements() throws Exception {
+        RequestStatementMetricsFilter filter = filter(StatementBudgetMode.FAIL, "");
+
+        filter.doFilter(request("/budgeted", new BudgetedHandlers(), "budgeted"), new MockHttpServletResponse(), chain(2));
+
+        DistributionSummary statements = meterRegistry.find(RequestStatementMetricsFilter.METRIC_NAME)
+                .tags("method", "GET", "uri", "/budgeted")
+                .summary();
+        assertNotNull(statements);
+        assertEquals(1, statements.count());
+        assertEquals(2, statements.totalAmount());
+    }
+
+    @Test
+    void doFilter_overBudget_fail_throws() {
+        RequestStatementMetricsFilter filter = filter(StatementBudgetMode.FAIL, "");
+
+        assertThrows(StatementBudgetExceededException.class, () -> filter.doFilter(
+                request("/budgeted", new BudgetedHandlers(), "budgeted"), new MockHttpServletResponse(), chain(3)));
+    }
+
+    @Test
+    void doFilter_overBudget_log_passes() {
+        RequestStatementMetricsFilter filter = filter(StatementBudgetMode.LOG, "");
+
+        assertDoesNotThrow(() -> filter.doFilter(
+                request("/budgeted", new BudgetedHandlers(), "budgeted"), new MockHttpServletResponse(), chain(3)));
+    }
+
+    @Test
+    void doFilter_noBudget_passes() {
+        RequestStatementMetricsFilter filter = filter(StatementBudgetMode.FAIL, "");
+
+        assertDoesNotThrow(() -> filter.doFilter(
+                request("/unbudgeted", new BudgetedHandlers(), "unbudgeted"), new MockHttpServletResponse(), chain(50)));
+    }
+
+    @Test
+    void doFilter_controllerBudget_overBudget_throws() {
+        RequestStatementMetricsFilter filter = filter(StatementBudgetMode.FAIL, "");
+
+        assertThrows(StatementBudgetExceededException.class, () -> filter.doFilter(
+                request("/controller", new BudgetedController(), "handle"), new MockHttpServletResponse(), chain(2)));
+    }
+
+    @Test
+    void destroy_reportFile_writesWorstFirst(@TempDir Path dir) throws Exception {
+        Path report = dir.resolve("report.txt");
+        RequestStatementMetricsFilter filter = filter(StatementBudgetMode.OFF, report.toString());
+
+        filter.doFilter(request("/report-light", new BudgetedHandlers(), "unbudgeted"), new MockHttpServletResponse(), chain(1));
+        filter.doFilter(request("/report-heavy", new BudgetedHandlers(), "budgeted"), new MockHttpServletResponse(), chain(9));
+        filter.destroy();
+
+        List<String> lines = Files.readAllLines(report);
+        int heavy = indexOf(lines, "GET /report-heavy");
+        int light = indexOf(lines, "GET /report-light");
+        assertTrue(heavy > 0 && light > heavy);
+        assertTrue(lines.get(heavy).trim().endsWith("2"));
+        assertTrue(lines.get(light).trim().endsWith("-"));
+    }
+
+    private RequestStatementMetricsFilter filter(StatementBudgetMode mode, String reportFile) {
+        return new RequestStatementMetricsFilter(meterRegistry, mode, reportFile);
+    }
+
+    private static MockHttpServletRequest request(String uri, Object controller, String methodName) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(controller, controller.getClass().getMethod(methodName)));
+        return request;
+    }
+
+    // Stands in for the handler, preparing the given number of statements through the inspector
+    private static FilterChain chain(int statements) {
+        StatementCounter inspector = new StatementCounter();
+        return (request, response) -> {
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("SELECT 1");
+            }
+        };
+    }
+
+    private static int indexOf(List<String> lines, String endpoint) {
+        for (int i = 0; i < lines.size(); i++) {
+            if (lines.get(i).startsWith(endpoint + " ")) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,157 @@
+package com.app.global.services;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.app.global.enums.FileFormat;
+import com.app.global.exceptions.FailedToUploadFileException;
+import com.app.global.exceptions.UnsupportedFileFormatException;
+import com.app.global.vos.Media;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+public class MediaServiceTest {
+
+    @Autowired
+    private MediaService mediaService;
+
+    @MockBean
+    private AmazonS3 s3Client;
+
+    @Value("${media.upload.concurrency}")
+    private int uploadConcurrency;
+
+    @BeforeEach
+    void setup() throws Exception {
+        when(s3Client.getUrl(anyString(), anyString()))
+                .thenAnswer(invocation -> new URL("https://bucket.example.com/" + invocation.getArgument(1)));
+    }
+
+    @Test
+    void uploadAndGet_streamsFileWithoutTempCopy() throws Exception {
+        MultipartFile file = new MockMultipartFile("media", "image.png", "image/png", new byte[]{1, 2, 3});
+        when(s3Client.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            assertNull(request.getFile());
+            assertArrayEquals(new byte[]{1, 2, 3}, request.getInputStream().readAllBytes());
+            return new PutObjectResult();
+        });
+
+        Media media = mediaService.uploadAndGet(file);
+
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(captor.capture());
+        assertEquals(3, captor.getValue().getMetadata().getContentLength());
+        assertEquals("image/png", captor.getValue().getMetadata().getContentType());
+        assertEquals("image", media.title());
+        assertEquals(FileFormat.PNG, media.format());
+        assertEquals("https://bucket.example.com/" + media.key(), media.url());
+    }
+
+    @Test
+    void delete_stored_deletesFromBucket() {
+        mediaService.delete(new Media("image", "stored-key", "https://bucket.example.com/stored-key", FileFormat.PNG));
+
+        verify(s3Client).deleteObject(anyString(), eq("stored-key"));
+    }
+
+    @Test
+    void delete_external_skipsBucket() {
+        mediaService.delete(Media.external("image", "https://cdn.example.com/image.png", FileFormat.PNG));
+
+        verify(s3Client, never()).deleteObject(anyString(), anyString());
+    }
+
+    @Test
+    void uploadAndGet_sameNames_uploadInParallelUnderDistinctKeys() {
+        int fileCount = uploadConcurrency * 3;
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < fileCount; i++) {
+            files.add(new MockMultipartFile("media", "image.png", "image/png", new byte[]{(byte) i}));
+        }
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(s3Client.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            return new PutObjectResult();
+        });
+
+        List<Media> media = mediaService.uploadAndGet(files);
+
+        assertEquals(fileCount, media.size());
+        assertEquals(fileCount, media.stream().map(Media::key).distinct().count());
+        assertTrue(maxInFlight.get() > 1);
+        assertTrue(maxInFlight.get() <= uploadConcurrency);
+    }
+
+    @Test
+    void uploadAndGet_several_uploadOnApplicationTaskExecutor() {
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("media", "first.png", "image/png", new byte[]{1}),
+                new MockMultipartFile("media", "second.png", "image/png", new byte[]{2}));
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        when(s3Client.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread());
+            return new PutObjectResult();
+        });
+
+        mediaService.uploadAndGet(files);
+
+        // spring.threads.virtual.enabled is on in the tests, so the executor's "task-" threads are virtual
+        assertEquals(2, threads.size());
+        assertTrue(threads.stream().allMatch(thread -> thread.isVirtual() && thread.getName().startsWith("task-")));
+    }
+
+    @Test
+    void uploadAndGet_oneFails_deletesUploadedAndThrows() {
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("media", "first.png", "image/png", new byte[]{1}),
+                new MockMultipartFile("media", "second.png", "image/png", new byte[]{2}),
+                new MockMultipartFile("media", "third.png", "image/png", new byte[]{3}));
+        when(s3Client.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            if (request.getInputStream().read() == 2) {
+                throw new SdkClientException("Connection reset");
+            }
+            return new PutObjectResult();
+        });
+
+        assertThrows(FailedToUploadFileException.class, () -> mediaService.uploadAndGet(files));
+
+        verify(s3Client, times(2)).deleteObject(anyString(), anyString());
+    }
+
+    @Test
+    void uploadAndGet_unsupportedFormat_uploadsNothing() {
+        List<MultipartFile> files = List.of(
+                new MockMultipartFile("media", "image.png", "image/png", new byte[]{1}),
+                new MockMultipartFile("media", "document.pdf", "application/pdf", new byte[]{2}));
+
+        assertThrows(UnsupportedFileFormatException.class, () -> mediaService.uploadAndGet(files));
+
+        verifyNoInteractions(s3Client);
+    }
+}
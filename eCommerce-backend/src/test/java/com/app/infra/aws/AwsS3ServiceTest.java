@@ -0,0 +1,91 @@
+package com.app.infra.aws;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class AwsS3ServiceTest {
+
+    private static final int THRESHOLD = 1024;
+    private static final int PART_SIZE = 400;
+
+    private AmazonS3 s3Client;
+    private AwsS3Service s3Service;
+
+    @BeforeEach
+    void setup() throws Exception {
+        s3Client = mock(AmazonS3.class);
+        s3Service = new AwsS3Service(s3Client, THRESHOLD, PART_SIZE);
+        ReflectionTestUtils.setField(s3Service, "bucketName", "bucket");
+        when(s3Client.getUrl(anyString(), anyString())).thenReturn(new URL("https://bucket.example.com/key"));
+        when(s3Client.initiateMultipartUpload(any())).thenReturn(initiated());
+    }
+
+    @Test
+    void upload_belowThreshold_singlePut() throws Exception {
+        s3Service.upload("key", new ByteArrayInputStream(new byte[THRESHOLD - 1]), THRESHOLD - 1, "video/mp4");
+
+        verify(s3Client).putObject(any(PutObjectRequest.class));
+        verify(s3Client, never()).initiateMultipartUpload(any());
+    }
+
+    @Test
+    void upload_atThreshold_streamsParts() throws Exception {
+        byte[] content = new byte[THRESHOLD];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        when(s3Client.uploadPart(any())).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            received.write(request.getInputStream().readAllBytes());
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+
+        s3Service.upload("key", new ByteArrayInputStream(content), content.length, "video/mp4");
+
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(parts.capture());
+        assertEquals(List.of(400L, 400L, 224L), parts.getAllValues().stream().map(UploadPartRequest::getPartSize).toList());
+        assertTrue(parts.getAllValues().getLast().isLastPart());
+        assertArrayEquals(content, received.toByteArray());
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertEquals(3, complete.getValue().getPartETags().size());
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void upload_partFails_abortsUpload() {
+        when(s3Client.uploadPart(any())).thenThrow(new SdkClientException("Connection reset"));
+
+        assertThrows(SdkClientException.class,
+                () -> s3Service.upload("key", new ByteArrayInputStream(new byte[THRESHOLD]), THRESHOLD, "video/mp4"));
+
+        verify(s3Client).abortMultipartUpload(any());
+        verify(s3Client, never()).completeMultipartUpload(any());
+    }
+
+    private static InitiateMultipartUploadResult initiated() {
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setUploadId("upload-id");
+        return result;
+    }
+}
@@ -0,0 +1,206 @@
+package com.app.infra.email;
+
+import com.app.infra.email.entities.OutboundEmail;
+import com.app.infra.email.repositories.OutboundEmailRepository;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+public class EmailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension smtpServer = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withUser("noreply@example.com", "password"));
+
+    @Autowired
+    private EmailDispatcher emailDispatcher;
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+    @Autowired
+    private OutboundEmailRepository outboundEmailRepository;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${email.outbox.max-attempts}")
+    private int maxAttempts;
+    @Value("${email.outbox.batch-size}")
+    private int batchSize;
+
+    @AfterEach
+    void clear() {
+        outboundEmailRepository.deleteAll();
+    }
+
+    @Test
+    void dispatch_sendsAndRemovesDueEmails() {
+        for (int i = 0; i < 10; i++) {
+            emailOutboxService.enqueue("member" + i + "@example.com", "Subject " + i, "<p>Content " + i + "</p>");
+        }
+        double sentBefore = meterRegistry.counter("email.outbox.sent").count();
+
+        int dispatched = emailDispatcher.dispatch();
+
+        MimeMessage[] received = smtpServer.getReceivedMessages();
+        assertEquals(10, dispatched);
+        assertEquals(10, received.length);
+        assertTrue(List.of(received).stream().anyMatch(m -> hasSubject(m, "Subject 7")));
+        assertEquals(0, outboundEmailRepository.count());
+        assertEquals(10, meterRegistry.counter("email.outbox.sent").count() - sentBefore);
+    }
+
+    @Test
+    void dispatch_claimsAtMostOneBatch() {
+        for (int i = 0; i < batchSize + 1; i++) {
+            emailOutboxService.enqueue("member" + i + "@example.com", "Subject", "<p>Content</p>");
+        }
+
+        assertEquals(batchSize, emailDispatcher.dispatch());
+        assertEquals(1, emailDispatcher.dispatch());
+        assertEquals(0, emailDispatcher.dispatch());
+        assertEquals(batchSize + 1, smtpServer.getReceivedMessages().length);
+    }
+
+    @Test
+    void dispatch_smtpUnavailable_retriesWithBackoff() {
+        OutboundEmail email = emailOutboxService.enqueue("member@example.com", "Subject", "<p>Content</p>");
+        smtpServer.stop();
+
+        emailDispatcher.dispatch();
+
+        OutboundEmail failed = outboundEmailRepository.findById(email.getId()).orElseThrow();
+        assertEquals(OutboundEmail.Status.PENDING, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+        assertNull(failed.getClaim());
+        assertNotNull(failed.getLastError());
+        assertTrue(failed.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals(0, emailDispatcher.dispatch());
+    }
+
+    @Test
+    void dispatch_retryDue_sends() {
+        OutboundEmail email = emailOutboxService.enqueue("member@example.com", "Subject", "<p>Content</p>");
+        email.setAttempts(3);
+        email.setLastError("Connection refused");
+        outboundEmailRepository.save(email);
+
+        emailDispatcher.dispatch();
+
+        assertEquals(1, smtpServer.getReceivedMessages().length);
+        assertFalse(outboundEmailRepository.existsById(email.getId()));
+    }
+
+    @Test
+    void dispatch_lastAttemptFails_marksDead() {
+        OutboundEmail email = emailOutboxService.enqueue("member@example.com", "Subject", "<p>Content</p>");
+        email.setAttempts(maxAttempts - 1);
+        outboundEmailRepository.save(email);
+        smtpServer.stop();
+
+        emailDispatcher.dispatch();
+
+        OutboundEmail dead = outboundEmailRepository.findById(email.getId()).orElseThrow();
+        assertEquals(OutboundEmail.Status.DEAD, dead.getStatus());
+        assertEquals(maxAttempts, dead.getAttempts());
+        assertEquals(0, emailOutboxService.countPending());
+    }
+
+    @Test
+    void dispatch_interrupted_recordsSentSharesAndStops() throws Exception {
+        // Two workers, one email each: the first share hangs on its SMTP connection, the second is sent
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        CountDownLatch fastSent = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JavaMailSender sender = mock(JavaMailSender.class);
+        given(sender.createMimeMessage()).willAnswer(invocation -> new MimeMessage((Session) null));
+        doAnswer(invocation -> {
+            MimeMessage message = invocation.getArgument(0);
+            if ("slow@example.com".equals(message.getAllRecipients()[0].toString())) {
+                slowStarted.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            } else {
+                fastSent.countDown();
+            }
+            return null;
+        }).when(sender).send(any(MimeMessage[].class));
+        EmailDispatcher interruptedDispatcher = new EmailDispatcher(emailOutboxService, sender, meterRegistry,
+                "noreply@example.com", batchSize, 2);
+        OutboundEmail slow = emailOutboxService.enqueue("slow@example.com", "Subject", "<p>Content</p>");
+        OutboundEmail fast = emailOutboxService.enqueue("fast@example.com", "Subject", "<p>Content</p>");
+        try {
+            Thread dispatching = Thread.currentThread();
+            CompletableFuture<Void> interrupt = CompletableFuture.runAsync(() -> {
+                try {
+                    slowStarted.await(10, TimeUnit.SECONDS);
+                    fastSent.await(10, TimeUnit.SECONDS);
+                    // Lets the fast share's future complete after its send returned
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                dispatching.interrupt();
+            });
+
+            int dispatched = interruptedDispatcher.dispatch();
+
+            assertTrue(Thread.interrupted());
+            interrupt.join();
+            assertEquals(0, dispatched);
+            assertFalse(outboundEmailRepository.existsById(fast.getId()));
+            assertNotNull(outboundEmailRepository.findById(slow.getId()).orElseThrow().getClaim());
+        } finally {
+            release.countDown();
+            interruptedDispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void claimDue_claimedEmailsAreNotClaimedAgain() {
+        emailOutboxService.enqueue("member@example.com", "Subject", "<p>Content</p>");
+
+        List<OutboundEmail> first = emailOutboxService.claimDue(batchSize);
+        List<OutboundEmail> second = emailOutboxService.claimDue(batchSize);
+
+        assertEquals(1, first.size());
+        assertTrue(second.isEmpty());
+    }
+
+    @Test
+    void backoff_growsExponentiallyUpToMax() {
+        assertTrue(emailOutboxService.backoff(1).toMillis() >= 5_000);
+        assertTrue(emailOutboxService.backoff(1).toMillis() <= 6_000);
+        assertTrue(emailOutboxService.backoff(3).toMillis() >= 20_000);
+        assertTrue(emailOutboxService.backoff(40).toMillis() >= 1_800_000);
+        assertTrue(emailOutboxService.backoff(40).toMillis() <= 2_160_000);
+    }
+
+    private static boolean hasSubject(MimeMessage message, String subject) {
+        try {
+            return subject.equals(message.getSubject());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}